@@ -0,0 +1,72 @@
+package com.interviewprep.concurrency.thread.runnable_shared_resource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Throughput of one shared counter as the number of incrementing threads grows
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark {
+  private final SharedCounter synchronizedCounter = new SharedCounter();
+  private final AtomicLong atomicLong = new AtomicLong();
+  private final LongAdder longAdder = new LongAdder();
+  private final StripedCounter striped = new StripedCounter();
+
+  @Benchmark
+  public int synchronizedIncrement() {
+    return synchronizedCounter.incrementQuietly();
+  }
+
+  @Benchmark
+  public long atomicLongIncrement() {
+    return atomicLong.incrementAndGet();
+  }
+
+  @Benchmark
+  public void longAdderIncrement() {
+    longAdder.increment();
+  }
+
+  @Benchmark
+  public void stripedIncrement() {
+    striped.increment();
+  }
+
+  @Benchmark
+  public void stripedBatchedIncrement() {
+    striped.incrementBatched();
+  }
+
+  // Runs every benchmark at 1, 2, 4, ... threads up to the number of available processors
+  public static void main(String[] args) throws RunnerException {
+    int max = Runtime.getRuntime().availableProcessors();
+    for (int threads = 1; ; threads = Math.min(threads * 2, max)) {
+      Options options = new OptionsBuilder()
+          .include(CounterBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(options).run();
+      if (threads == max) {
+        break;
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.interviewprep.exception_handling.lightweight;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Cost of one refused withdrawal, thrown `depth` frames below the catch, for each way of reporting it
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionCostBenchmark {
+  // The current exceptions: a new instance with a full stack trace every time
+  static class RegularInsufficientFundsException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    RegularInsufficientFundsException(String message) {
+      super(message);
+    }
+  }
+
+  @Param({"5", "50"})
+  int depth;
+
+  private final BankAccount account = new BankAccount(0);
+
+  @Benchmark
+  public long regularException() {
+    try {
+      return throwRegular(depth);
+    } catch (RegularInsufficientFundsException e) {
+      return e.getMessage().length();
+    }
+  }
+
+  @Benchmark
+  public long stacklessException() {
+    try {
+      return throwStackless(depth);
+    } catch (InsufficientFundsException e) {
+      return e.getRequestedCents();
+    }
+  }
+
+  @Benchmark
+  public long cachedException() {
+    try {
+      return throwCached(depth);
+    } catch (InvalidAgeException e) {
+      return -1;
+    }
+  }
+
+  @Benchmark
+  public long result() {
+    return switch (returnResult(depth)) {
+      case Result.Ok<Long, BankAccount.InsufficientFunds> ok -> ok.value();
+      case Result.Err<Long, BankAccount.InsufficientFunds> err -> err.error().requestedCents();
+    };
+  }
+
+  private long throwRegular(int frames) throws RegularInsufficientFundsException {
+    if (frames > 0) {
+      return throwRegular(frames - 1) + 1;
+    }
+    throw new RegularInsufficientFundsException("Insufficient funds for withdrawal.");
+  }
+
+  private long throwStackless(int frames) throws InsufficientFundsException {
+    if (frames > 0) {
+      return throwStackless(frames - 1) + 1;
+    }
+    account.withdraw(1);
+    return 0;
+  }
+
+  private long throwCached(int frames) throws InvalidAgeException {
+    if (frames > 0) {
+      return throwCached(frames - 1) + 1;
+    }
+    AgeValidator.checkAge(16);
+    return 0;
+  }
+
+  private Result<Long, BankAccount.InsufficientFunds> returnResult(int frames) {
+    if (frames > 0) {
+      return returnResult(frames - 1);
+    }
+    return account.tryWithdraw(1);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(ExceptionCostBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
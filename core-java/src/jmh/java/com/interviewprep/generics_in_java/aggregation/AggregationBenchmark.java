@@ -0,0 +1,108 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Scalar against Vector API kernels, and both against the boxed doubleValue() loop they replace
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class AggregationBenchmark {
+  @Param({"1000", "1000000"})
+  int size;
+
+  private final Kernels scalar = new ScalarKernels();
+  private final Kernels vector = new VectorKernels();
+  private int[] ints;
+  private double[] doubles;
+  private List<Integer> boxed;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    ints = new int[size];
+    doubles = new double[size];
+    boxed = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ints[i] = random.nextInt(1_000_000);
+      doubles[i] = random.nextDouble() * 1_000;
+      boxed.add(ints[i]);
+    }
+  }
+
+  @Benchmark
+  public double boxedDoubleValueSum() {
+    double sum = 0;
+    for (Number number : boxed) {
+      sum += number.doubleValue();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long scalarIntSum() {
+    return scalar.sum(ints, 0, size);
+  }
+
+  @Benchmark
+  public long vectorIntSum() {
+    return vector.sum(ints, 0, size);
+  }
+
+  @Benchmark
+  public double scalarKahanSum() {
+    return scalar.sum(doubles, 0, size);
+  }
+
+  @Benchmark
+  public double vectorKahanSum() {
+    return vector.sum(doubles, 0, size);
+  }
+
+  @Benchmark
+  public LongSummary scalarIntSummary() {
+    return scalar.summarize(ints, 0, size);
+  }
+
+  @Benchmark
+  public LongSummary vectorIntSummary() {
+    return vector.summarize(ints, 0, size);
+  }
+
+  @Benchmark
+  public DoubleSummary scalarDoubleSummary() {
+    return scalar.summarize(doubles, 0, size);
+  }
+
+  @Benchmark
+  public DoubleSummary vectorDoubleSummary() {
+    return vector.summarize(doubles, 0, size);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(AggregationBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
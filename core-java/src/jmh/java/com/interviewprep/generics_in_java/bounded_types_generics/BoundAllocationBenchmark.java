@@ -0,0 +1,79 @@
+package com.interviewprep.generics_in_java.bounded_types_generics;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Bound<Long> versus the generated LongBound, stored and then summed pairwise; compare gc.alloc.rate.norm
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundAllocationBenchmark {
+  @Param({"1024"})
+  int size;
+
+  private long[] values;
+  private Bound<Long>[] genericBounds;
+  private LongBound[] longBounds;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    values = new long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = 1_000_000L * i;
+    }
+    genericBounds = new Bound[size];
+    longBounds = new LongBound[size];
+  }
+
+  // Bound<Long> plus a Long per value, and sum() goes through doubleValue()
+  @Benchmark
+  public double genericBound() {
+    for (int i = 0; i < size; i++) {
+      genericBounds[i] = Bounds.of(Long.valueOf(values[i]));
+    }
+    double total = 0;
+    for (int i = 1; i < size; i++) {
+      total += Bounds.sum(genericBounds[i - 1].getData(), genericBounds[i].getData());
+    }
+    return total;
+  }
+
+  @Benchmark
+  public long longBound() {
+    for (int i = 0; i < size; i++) {
+      longBounds[i] = Bounds.of(values[i]);
+    }
+    long total = 0;
+    for (int i = 1; i < size; i++) {
+      total += Bounds.sum(longBounds[i - 1].getData(), longBounds[i].getData());
+    }
+    return total;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(BoundAllocationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
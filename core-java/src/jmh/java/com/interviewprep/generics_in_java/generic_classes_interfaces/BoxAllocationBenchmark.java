@@ -0,0 +1,80 @@
+package com.interviewprep.generics_in_java.generic_classes_interfaces;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Boxes kept in an array (so escape analysis cannot remove them), then read back; compare gc.alloc.rate.norm
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoxAllocationBenchmark {
+  @Param({"1024"})
+  int size;
+
+  private int[] values;
+  private Container<Integer>[] genericBoxes;
+  private IntContainer[] intBoxes;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = 1_000 + i; // outside the Integer cache, so every boxing allocates
+    }
+    genericBoxes = new Container[size];
+    intBoxes = new IntContainer[size];
+  }
+
+  // Box<Integer>: a Box and an Integer per value
+  @Benchmark
+  public long genericBox() {
+    for (int i = 0; i < size; i++) {
+      genericBoxes[i] = Boxes.of(Integer.valueOf(values[i]));
+    }
+    long sum = 0;
+    for (Container<Integer> box : genericBoxes) {
+      sum += box.get();
+    }
+    return sum;
+  }
+
+  // IntBox: one object per value
+  @Benchmark
+  public long intBox() {
+    for (int i = 0; i < size; i++) {
+      intBoxes[i] = Boxes.of(values[i]);
+    }
+    long sum = 0;
+    for (IntContainer box : intBoxes) {
+      sum += box.getInt();
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(BoxAllocationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
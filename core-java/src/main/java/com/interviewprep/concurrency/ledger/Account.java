@@ -0,0 +1,57 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One balance in minor units (cents). Single-account operations are CAS loops that never lock
+ * and never let the balance go negative. The lock is taken only by batched transfers, in account
+ * id order, to keep batches touching the same accounts from interleaving.
+ */
+public final class Account {
+  private static final VarHandle BALANCE;
+
+  static {
+    try {
+      BALANCE = MethodHandles.lookup().findVarHandle(Account.class, "balance", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final int id;
+  final ReentrantLock lock = new ReentrantLock();
+  private volatile long balance;
+
+  Account(int id) {
+    this.id = id;
+  }
+
+  public int id() {
+    return id;
+  }
+
+  public long balance() {
+    return balance;
+  }
+
+  void credit(long amount) {
+    long current;
+    do {
+      current = balance;
+    } while (!BALANCE.weakCompareAndSet(this, current, Math.addExact(current, amount)));
+  }
+
+  // False, with the balance untouched, if it would go negative
+  boolean tryDebit(long amount) {
+    long current;
+    do {
+      current = balance;
+      if (current < amount) {
+        return false;
+      }
+    } while (!BALANCE.weakCompareAndSet(this, current, current - amount));
+    return true;
+  }
+}
@@ -0,0 +1,216 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link Ledger} whose changes survive a restart. Each operation is applied in memory and
+ * appended to the {@link WriteAheadLog} under one commit lock, so the log order is exactly the
+ * order in which changes were checked and applied. A durable prefix of the log therefore never
+ * holds a debit without the credit it relied on. The operation is acknowledged only once a group
+ * commit has made it durable, and that wait happens outside the lock so syncs still batch.
+ * Snapshots take the same lock briefly to capture balances that match an exact log sequence. The
+ * log before that sequence is then deleted, so recovery loads the snapshot and replays only the
+ * tail.
+ *
+ * <p>If an append fails after the in-memory change, the operation throws and memory is ahead of
+ * the log; such a ledger should be closed and recovered from disk. A failed background snapshot
+ * ({@link #snapshotEvery}) is kept and thrown by the next {@link #snapshot} or {@link #close}.
+ */
+public class DurableLedger implements AutoCloseable {
+  private final Path directory;
+  private final Ledger ledger;
+  private final WriteAheadLog log;
+  private final RecoveryStats recovery;
+  // Held while applying and logging a change, and while a snapshot reads the balances
+  private final ReentrantLock commitLock = new ReentrantLock();
+  private final AtomicReference<IOException> snapshotFailure = new AtomicReference<>();
+  private ScheduledExecutorService snapshotter;
+
+  private DurableLedger(Path directory, Ledger ledger, WriteAheadLog log, RecoveryStats recovery) {
+    this.directory = directory;
+    this.ledger = ledger;
+    this.log = log;
+    this.recovery = recovery;
+  }
+
+  // Recovers from the latest snapshot plus the log tail in `directory`, or starts empty
+  public static DurableLedger open(Path directory, int accountCount, int segmentBytes) throws IOException {
+    long start = System.nanoTime();
+    Ledger ledger = new Ledger(accountCount);
+    LedgerSnapshot snapshot = LedgerSnapshot.readLatest(directory);
+    long snapshotSequence = 0;
+    if (snapshot != null) {
+      if (snapshot.balances().length != accountCount) {
+        throw new IOException("snapshot has " + snapshot.balances().length + " accounts, expected " + accountCount);
+      }
+      for (int id = 0; id < accountCount; id++) {
+        if (snapshot.balances()[id] > 0) {
+          ledger.deposit(id, snapshot.balances()[id]);
+        }
+      }
+      snapshotSequence = snapshot.sequence();
+    }
+    long last = WriteAheadLog.replay(directory, snapshotSequence, (sequence, kind, from, to, amount) ->
+        ledger.replay(kind, from, to, amount));
+    RecoveryStats recovery = new RecoveryStats(snapshotSequence, last - snapshotSequence,
+        Duration.ofNanos(System.nanoTime() - start));
+    return new DurableLedger(directory, ledger, WriteAheadLog.open(directory, segmentBytes, last), recovery);
+  }
+
+  public RecoveryStats recoveryStats() {
+    return recovery;
+  }
+
+  public Ledger ledger() {
+    return ledger;
+  }
+
+  public WriteAheadLog log() {
+    return log;
+  }
+
+  public long balance(int id) {
+    return ledger.balance(id);
+  }
+
+  public void deposit(int id, long amount) throws IOException, InterruptedException {
+    long sequence;
+    commitLock.lock();
+    try {
+      ledger.deposit(id, amount);
+      sequence = log.append(Journal.Kind.DEPOSIT, Journal.NO_ACCOUNT, id, amount);
+    } finally {
+      commitLock.unlock();
+    }
+    log.awaitDurable(sequence);
+  }
+
+  public boolean tryWithdraw(int id, long amount) throws IOException, InterruptedException {
+    long sequence;
+    commitLock.lock();
+    try {
+      if (!ledger.tryWithdraw(id, amount)) {
+        return false;
+      }
+      sequence = log.append(Journal.Kind.WITHDRAWAL, id, Journal.NO_ACCOUNT, amount);
+    } finally {
+      commitLock.unlock();
+    }
+    log.awaitDurable(sequence);
+    return true;
+  }
+
+  public boolean transfer(int from, int to, long amount) throws IOException, InterruptedException {
+    long sequence;
+    commitLock.lock();
+    try {
+      if (!ledger.transfer(from, to, amount)) {
+        return false;
+      }
+      sequence = log.append(Journal.Kind.TRANSFER, from, to, amount);
+    } finally {
+      commitLock.unlock();
+    }
+    log.awaitDurable(sequence);
+    return true;
+  }
+
+  public boolean transferAll(List<Transfer> batch) throws IOException, InterruptedException {
+    long sequence = 0;
+    commitLock.lock();
+    try {
+      if (!ledger.transferAll(batch)) {
+        return false;
+      }
+      for (Transfer transfer : batch) {
+        sequence = log.append(Journal.Kind.TRANSFER, transfer.from(), transfer.to(), transfer.amount());
+      }
+    } finally {
+      commitLock.unlock();
+    }
+    log.awaitDurable(sequence);
+    return true;
+  }
+
+  // Writes a snapshot of the current balances and drops the log and snapshots it supersedes. Throws
+  // instead if the last background snapshot failed; calling again then takes a new one.
+  public LedgerSnapshot snapshot() throws IOException, InterruptedException {
+    throwSnapshotFailure();
+    return writeSnapshot();
+  }
+
+  private LedgerSnapshot writeSnapshot() throws IOException, InterruptedException {
+    long[] balances = new long[ledger.size()];
+    long sequence;
+    commitLock.lock();
+    try {
+      sequence = log.lastSequence();
+      for (int id = 0; id < balances.length; id++) {
+        balances[id] = ledger.balance(id);
+      }
+    } finally {
+      commitLock.unlock();
+    }
+    log.awaitDurable(sequence);
+    LedgerSnapshot snapshot = new LedgerSnapshot(sequence, balances);
+    snapshot.writeTo(directory);
+    log.truncateBefore(sequence + 1);
+    LedgerSnapshot.deleteOlderThan(directory, sequence);
+    return snapshot;
+  }
+
+  public synchronized void snapshotEvery(Duration interval) {
+    if (snapshotter != null) {
+      snapshotter.shutdownNow();
+    }
+    snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ledger-snapshotter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    snapshotter.scheduleWithFixedDelay(() -> {
+      try {
+        writeSnapshot();
+      } catch (IOException e) {
+        // The first failure is the cause; later ones ride along until someone looks
+        IOException first = snapshotFailure.compareAndExchange(null, e);
+        if (first != null) {
+          first.addSuppressed(e);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (snapshotter != null) {
+      snapshotter.shutdownNow();
+      try {
+        snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted waiting for the snapshotter to stop");
+      }
+    }
+    log.close();
+    throwSnapshotFailure();
+  }
+
+  private void throwSnapshotFailure() throws IOException {
+    IOException failure = snapshotFailure.getAndSet(null);
+    if (failure != null) {
+      throw new IOException("Background snapshot failed", failure);
+    }
+  }
+}
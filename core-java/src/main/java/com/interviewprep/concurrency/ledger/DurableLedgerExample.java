@@ -0,0 +1,107 @@
+package com.interviewprep.concurrency.ledger;
+
+import com.interviewprep.concurrency.sync.LatencyHistogram;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+public class DurableLedgerExample {
+  private static final int ACCOUNTS = 1_000;
+  private static final int SEGMENT_BYTES = 64 << 20;
+
+  public static void main(String[] args) throws Exception {
+    Path directory = Files.createTempDirectory("ledger");
+    try {
+      commitLatency(directory);
+      recoveryFromSnapshot(directory);
+      recoverySpeed(Files.createDirectories(directory.resolve("bulk")));
+    } finally {
+      deleteRecursively(directory);
+    }
+  }
+
+  // Many threads transferring concurrently share each sync through group commit
+  private static void commitLatency(Path directory) throws Exception {
+    try (DurableLedger ledger = DurableLedger.open(directory, ACCOUNTS, SEGMENT_BYTES)) {
+      for (int id = 0; id < ACCOUNTS; id++) {
+        ledger.deposit(id, 10_000);
+      }
+
+      LatencyHistogram latency = new LatencyHistogram();
+      List<Thread> tellers = new ArrayList<>();
+      long start = System.nanoTime();
+      for (int t = 0; t < 32; t++) {
+        tellers.add(Thread.ofVirtual().start(() -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          try {
+            for (int i = 0; i < 2_000; i++) {
+              int from = random.nextInt(ACCOUNTS);
+              int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+              long begin = System.nanoTime();
+              ledger.transfer(from, to, 1 + random.nextInt(500));
+              latency.record(System.nanoTime() - begin);
+            }
+          } catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }));
+      }
+      for (Thread teller : tellers) {
+        teller.join();
+      }
+      double seconds = (System.nanoTime() - start) / 1e9;
+      long syncs = ledger.log().syncCount();
+      System.out.printf("%,d durable transfers in %.2f s = %,.0f/s, %,d syncs (%.1f transactions per sync)%n",
+          latency.count(), seconds, latency.count() / seconds, syncs, (double) latency.count() / syncs);
+      System.out.println("Commit latency: " + latency.summary());
+    }
+  }
+
+  // Restart after a snapshot: only the records written since are replayed
+  private static void recoveryFromSnapshot(Path directory) throws Exception {
+    long[] expected = new long[ACCOUNTS];
+    try (DurableLedger ledger = DurableLedger.open(directory, ACCOUNTS, SEGMENT_BYTES)) {
+      System.out.println("Reopened: " + ledger.recoveryStats());
+      ledger.snapshot();
+      for (int i = 0; i < 1_000; i++) {
+        ledger.transfer(i % ACCOUNTS, (i + 7) % ACCOUNTS, 3);
+      }
+      for (int id = 0; id < ACCOUNTS; id++) {
+        expected[id] = ledger.balance(id);
+      }
+    }
+    try (DurableLedger ledger = DurableLedger.open(directory, ACCOUNTS, SEGMENT_BYTES)) {
+      boolean same = true;
+      for (int id = 0; id < ACCOUNTS; id++) {
+        same &= ledger.balance(id) == expected[id];
+      }
+      System.out.println("After snapshot: " + ledger.recoveryStats() + ", balances match: " + same);
+    }
+  }
+
+  // Replay throughput without a snapshot, from a log written straight through the WAL
+  private static void recoverySpeed(Path directory) throws Exception {
+    int records = 8_000_000;
+    try (WriteAheadLog log = WriteAheadLog.open(directory, SEGMENT_BYTES, 0)) {
+      for (int i = 0; i < records; i++) {
+        log.append(Journal.Kind.DEPOSIT, Journal.NO_ACCOUNT, i % ACCOUNTS, 1);
+      }
+    }
+    try (DurableLedger ledger = DurableLedger.open(directory, ACCOUNTS, SEGMENT_BYTES)) {
+      System.out.println("Full replay: " + ledger.recoveryStats());
+    }
+  }
+
+  private static void deleteRecursively(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only, lock-free record of every committed balance change. Each entry is two longs in a
+ * chunked array: a header packing the kind and both account ids, then the amount. Writers reserve
+ * a slot with one {@code getAndIncrement}, write the amount and then publish the header with a
+ * release store; readers stop at the first slot whose header is not yet visible.
+ *
+ * <p>The journal holds at most {@code capacity} entries, and chunks are only allocated as they fill.
+ * Callers {@link #reserve} room before changing any balance. A full journal therefore rejects the
+ * operation up front instead of leaving a committed change without its entry.
+ */
+public final class Journal {
+  public enum Kind { DEPOSIT, WITHDRAWAL, TRANSFER }
+
+  // Receives entries in journal order; `from` or `to` is NO_ACCOUNT for deposits and withdrawals
+  public interface EntryConsumer {
+    void accept(long sequence, Kind kind, int from, int to, long amount);
+  }
+
+  public static final int NO_ACCOUNT = -1;
+
+  private static final int CHUNK_BITS = 16;
+  private static final int CHUNK_ENTRIES = 1 << CHUNK_BITS;
+  private static final int MAX_CHUNKS = 1 << 15;
+  public static final long MAX_CAPACITY = (long) MAX_CHUNKS * CHUNK_ENTRIES;
+  private static final int ACCOUNT_BITS = 28;
+  private static final long ACCOUNT_MASK = (1L << ACCOUNT_BITS) - 1;
+  private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long capacity;
+  private final AtomicLong reserved = new AtomicLong();
+  private final AtomicLong next = new AtomicLong();
+  private final AtomicReferenceArray<long[]> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+
+  public Journal() {
+    this(MAX_CAPACITY);
+  }
+
+  public Journal(long capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity out of range: " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  static int maxAccounts() {
+    return (int) ACCOUNT_MASK;
+  }
+
+  // Claims room for `entries` appends; throws while nothing has changed yet if they do not fit
+  void reserve(int entries) {
+    long current;
+    do {
+      current = reserved.get();
+      if (current + entries > capacity) {
+        throw new IllegalStateException("journal full: " + capacity + " entries");
+      }
+    } while (!reserved.compareAndSet(current, current + entries));
+  }
+
+  // Gives back room reserved for an operation that did not commit
+  void release(int entries) {
+    reserved.addAndGet(-entries);
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  public long remainingCapacity() {
+    return capacity - reserved.get();
+  }
+
+  // The caller must have reserved the entry
+  long append(Kind kind, int from, int to, long amount) {
+    long sequence = next.getAndIncrement();
+    long[] chunk = chunk((int) (sequence >>> CHUNK_BITS));
+    int slot = (int) (sequence & (CHUNK_ENTRIES - 1)) * 2;
+    // Kind is stored +1 so a published header is never zero
+    long header = ((long) (kind.ordinal() + 1) << (2 * ACCOUNT_BITS))
+        | ((from + 1L) & ACCOUNT_MASK) << ACCOUNT_BITS
+        | ((to + 1L) & ACCOUNT_MASK);
+    chunk[slot + 1] = amount;
+    SLOTS.setRelease(chunk, slot, header);
+    return sequence;
+  }
+
+  // Entries reserved so far; the last few may still be in the middle of being written
+  public long size() {
+    return next.get();
+  }
+
+  // Visits published entries in order, stopping at the first one still being written; returns the count
+  public long forEach(EntryConsumer consumer) {
+    Kind[] kinds = Kind.values();
+    long end = next.get();
+    for (long sequence = 0; sequence < end; sequence++) {
+      long[] chunk = chunks.get((int) (sequence >>> CHUNK_BITS));
+      int slot = (int) (sequence & (CHUNK_ENTRIES - 1)) * 2;
+      long header = chunk == null ? 0 : (long) SLOTS.getAcquire(chunk, slot);
+      if (header == 0) {
+        return sequence;
+      }
+      int from = (int) ((header >>> ACCOUNT_BITS) & ACCOUNT_MASK) - 1;
+      int to = (int) (header & ACCOUNT_MASK) - 1;
+      consumer.accept(sequence, kinds[(int) (header >>> (2 * ACCOUNT_BITS)) - 1], from, to, chunk[slot + 1]);
+    }
+    return end;
+  }
+
+  private long[] chunk(int index) {
+    if (index >= MAX_CHUNKS) {
+      throw new IllegalStateException("journal full");
+    }
+    long[] chunk = chunks.get(index);
+    if (chunk == null) {
+      long[] fresh = new long[CHUNK_ENTRIES * 2];
+      chunk = chunks.compareAndSet(index, null, fresh) ? fresh : chunks.get(index);
+    }
+    return chunk;
+  }
+}
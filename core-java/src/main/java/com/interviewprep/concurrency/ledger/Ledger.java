@@ -0,0 +1,211 @@
+package com.interviewprep.concurrency.ledger;
+
+import com.interviewprep.exception_handling.lightweight.InsufficientFundsException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A fixed set of accounts with balances in minor units, replacing {@code
+ * exception_propagation.BankAccount}'s racy {@code double}. Deposits, withdrawals and single
+ * transfers are lock-free: a transfer debits the source with CAS (rejecting overdraft), then
+ * credits the target. {@link #transferAll} applies a batch all-or-nothing while holding the locks
+ * of every account involved, taken in id order so two batches can never deadlock. Every committed
+ * change is appended to the {@link Journal}. Room in the journal is reserved before any balance
+ * moves, so an operation that would not fit throws {@link IllegalStateException} with the ledger
+ * unchanged. Account ids are checked before anything is reserved, so a bad id throws {@link
+ * IndexOutOfBoundsException} and leaves the journal's capacity as it was.
+ */
+public class Ledger {
+  private final Account[] accounts;
+  private final Journal journal;
+
+  public Ledger(int accountCount) {
+    this(accountCount, Journal.MAX_CAPACITY);
+  }
+
+  public Ledger(int accountCount, long journalCapacity) {
+    if (accountCount <= 0 || accountCount > Journal.maxAccounts()) {
+      throw new IllegalArgumentException("account count out of range: " + accountCount);
+    }
+    journal = new Journal(journalCapacity);
+    accounts = new Account[accountCount];
+    for (int i = 0; i < accountCount; i++) {
+      accounts[i] = new Account(i);
+    }
+  }
+
+  public int size() {
+    return accounts.length;
+  }
+
+  public Account account(int id) {
+    return accounts[id];
+  }
+
+  public Journal journal() {
+    return journal;
+  }
+
+  public long balance(int id) {
+    return accounts[id].balance();
+  }
+
+  public void deposit(int id, long amount) {
+    requirePositive(amount);
+    checkAccount(id);
+    journal.reserve(1);
+    accounts[id].credit(amount);
+    journal.append(Journal.Kind.DEPOSIT, Journal.NO_ACCOUNT, id, amount);
+  }
+
+  public boolean tryWithdraw(int id, long amount) {
+    requirePositive(amount);
+    checkAccount(id);
+    journal.reserve(1);
+    if (!accounts[id].tryDebit(amount)) {
+      journal.release(1);
+      return false;
+    }
+    journal.append(Journal.Kind.WITHDRAWAL, id, Journal.NO_ACCOUNT, amount);
+    return true;
+  }
+
+  public void withdraw(int id, long amount) throws InsufficientFundsException {
+    if (!tryWithdraw(id, amount)) {
+      throw new InsufficientFundsException(accounts[id].balance(), amount);
+    }
+  }
+
+  // Lock-free; the amount is briefly in neither account, so totals are exact only when quiescent
+  public boolean transfer(int from, int to, long amount) {
+    requirePositive(amount);
+    if (from == to) {
+      throw new IllegalArgumentException("transfer to the same account " + from);
+    }
+    checkAccount(from);
+    checkAccount(to);
+    journal.reserve(1);
+    if (!accounts[from].tryDebit(amount)) {
+      journal.release(1);
+      return false;
+    }
+    accounts[to].credit(amount);
+    journal.append(Journal.Kind.TRANSFER, from, to, amount);
+    return true;
+  }
+
+  /**
+   * Applies every transfer or none. Net debits are taken first, so a batch can pass money through
+   * an account (A to B, then B to C) even if B starts empty. If any net debit fails, for example
+   * because a concurrent lock-free withdrawal drained the account, the ones already taken are
+   * returned and the batch is rejected.
+   */
+  public boolean transferAll(List<Transfer> batch) {
+    int[] ids = batch.stream().flatMapToInt(t -> IntStream.of(t.from(), t.to())).distinct().sorted().toArray();
+    for (int id : ids) {
+      checkAccount(id);
+    }
+    long[] net = new long[ids.length];
+    for (Transfer transfer : batch) {
+      net[Arrays.binarySearch(ids, transfer.from())] -= transfer.amount();
+      net[Arrays.binarySearch(ids, transfer.to())] += transfer.amount();
+    }
+    journal.reserve(batch.size());
+    int locked = 0;
+    try {
+      for (int id : ids) {
+        accounts[id].lock.lock();
+        locked++;
+      }
+      int debited = 0;
+      for (; debited < ids.length; debited++) {
+        if (net[debited] < 0 && !accounts[ids[debited]].tryDebit(-net[debited])) {
+          break;
+        }
+      }
+      if (debited < ids.length) {
+        for (int i = 0; i < debited; i++) {
+          if (net[i] < 0) {
+            accounts[ids[i]].credit(-net[i]);
+          }
+        }
+        journal.release(batch.size());
+        return false;
+      }
+      for (int i = 0; i < ids.length; i++) {
+        if (net[i] > 0) {
+          accounts[ids[i]].credit(net[i]);
+        }
+      }
+      for (Transfer transfer : batch) {
+        journal.append(Journal.Kind.TRANSFER, transfer.from(), transfer.to(), transfer.amount());
+      }
+      return true;
+    } finally {
+      for (int i = locked - 1; i >= 0; i--) {
+        accounts[ids[i]].lock.unlock();
+      }
+    }
+  }
+
+  // Re-applies a logged change during recovery: no overdraft check, since log order may differ from
+  // the order in which concurrent operations were checked
+  void replay(Journal.Kind kind, int from, int to, long amount) {
+    if (from != Journal.NO_ACCOUNT) {
+      checkAccount(from);
+    }
+    if (to != Journal.NO_ACCOUNT) {
+      checkAccount(to);
+    }
+    journal.reserve(1);
+    if (from != Journal.NO_ACCOUNT) {
+      accounts[from].credit(-amount);
+    }
+    if (to != Journal.NO_ACCOUNT) {
+      accounts[to].credit(amount);
+    }
+    journal.append(kind, from, to, amount);
+  }
+
+  public long totalBalance() {
+    long total = 0;
+    for (Account account : accounts) {
+      total += account.balance();
+    }
+    return total;
+  }
+
+  // Replays the journal from zero and compares with the live balances; call only when quiescent
+  public boolean audit() {
+    long[] replayed = new long[accounts.length];
+    long entries = journal.forEach((sequence, kind, from, to, amount) -> {
+      if (from != Journal.NO_ACCOUNT) {
+        replayed[from] -= amount;
+      }
+      if (to != Journal.NO_ACCOUNT) {
+        replayed[to] += amount;
+      }
+    });
+    if (entries != journal.size()) {
+      return false;
+    }
+    for (int i = 0; i < accounts.length; i++) {
+      if (replayed[i] != accounts[i].balance()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void checkAccount(int id) {
+    Objects.checkIndex(id, accounts.length);
+  }
+
+  private static void requirePositive(long amount) {
+    if (amount <= 0) {
+      throw new IllegalArgumentException("amount must be positive: " + amount);
+    }
+  }
+}
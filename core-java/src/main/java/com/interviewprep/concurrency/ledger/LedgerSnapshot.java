@@ -0,0 +1,121 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time copy of every balance, tagged with the last log sequence it includes. Balances are
+ * zig-zag varints, so a typical account takes 2-4 bytes instead of 8. A trailing CRC32C guards
+ * against torn writes. Files are written to a temporary name, forced and then atomically renamed.
+ */
+public record LedgerSnapshot(long sequence, long[] balances) {
+  private static final int MAGIC = 0x4C534E50; // "LSNP"
+  private static final String PREFIX = "snapshot-";
+  private static final String SUFFIX = ".bin";
+
+  public Path writeTo(Path directory) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + balances.length * 3);
+    ByteBuffer header = ByteBuffer.allocate(16).putInt(MAGIC).putLong(sequence).putInt(balances.length);
+    bytes.write(header.array());
+    for (long balance : balances) {
+      long zigzag = (balance << 1) ^ (balance >> 63);
+      while ((zigzag & ~0x7FL) != 0) {
+        bytes.write((int) (zigzag & 0x7F) | 0x80);
+        zigzag >>>= 7;
+      }
+      bytes.write((int) zigzag);
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(bytes.toByteArray());
+    bytes.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+
+    Path target = directory.resolve(PREFIX + sequence + SUFFIX);
+    Path temp = directory.resolve(PREFIX + sequence + SUFFIX + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer content = ByteBuffer.wrap(bytes.toByteArray());
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    // The rename must survive a crash before the log it replaces is deleted
+    WriteAheadLog.syncDirectory(directory);
+    return target;
+  }
+
+  // The newest snapshot that passes its checksum, or null if there is none
+  public static LedgerSnapshot readLatest(Path directory) throws IOException {
+    for (Path file : files(directory).reversed()) {
+      LedgerSnapshot snapshot = read(file);
+      if (snapshot != null) {
+        return snapshot;
+      }
+    }
+    return null;
+  }
+
+  // Removes every snapshot older than the given one
+  public static void deleteOlderThan(Path directory, long sequence) throws IOException {
+    for (Path file : files(directory)) {
+      if (sequenceOf(file) < sequence) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  private static LedgerSnapshot read(Path file) throws IOException {
+    byte[] bytes = Files.readAllBytes(file);
+    if (bytes.length < 20) {
+      return null;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    CRC32C crc = new CRC32C();
+    crc.update(bytes, 0, bytes.length - 4);
+    if (buffer.getInt(bytes.length - 4) != (int) crc.getValue() || buffer.getInt() != MAGIC) {
+      return null;
+    }
+    long sequence = buffer.getLong();
+    long[] balances = new long[buffer.getInt()];
+    for (int i = 0; i < balances.length; i++) {
+      long zigzag = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = buffer.get();
+        zigzag |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      balances[i] = (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+    return new LedgerSnapshot(sequence, balances);
+  }
+
+  private static List<Path> files(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+      }).sorted(Comparator.comparingLong(LedgerSnapshot::sequenceOf)).toList();
+    }
+  }
+
+  private static long sequenceOf(Path snapshot) {
+    String name = snapshot.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+}
@@ -0,0 +1,81 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Correctness stress run: random concurrent transfers, batches, deposits and withdrawals, then invariant checks
+public class LedgerStressExample {
+  private static final int ACCOUNTS = 1_000;
+  private static final long OPENING_BALANCE = 10_000;
+  private static final int OPERATIONS_PER_THREAD = 500_000;
+
+  public static void main(String[] args) throws InterruptedException {
+    Ledger ledger = new Ledger(ACCOUNTS);
+    for (int id = 0; id < ACCOUNTS; id++) {
+      ledger.deposit(id, OPENING_BALANCE);
+    }
+
+    int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    LongAdder deposited = new LongAdder();
+    LongAdder withdrawn = new LongAdder();
+    LongAdder transfers = new LongAdder();
+    LongAdder rejected = new LongAdder();
+
+    List<Thread> workers = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int t = 0; t < threads; t++) {
+      workers.add(Thread.ofPlatform().name("Teller-" + t).start(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+          int from = random.nextInt(ACCOUNTS);
+          int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+          long amount = 1 + random.nextLong(2_000);
+          int op = random.nextInt(100);
+          if (op < 90) {
+            if (ledger.transfer(from, to, amount)) {
+              transfers.increment();
+            } else {
+              rejected.increment();
+            }
+          } else if (op < 95) {
+            // A chain through a third account, applied all-or-nothing
+            int via;
+            do {
+              via = random.nextInt(ACCOUNTS);
+            } while (via == from || via == to);
+            List<Transfer> batch = List.of(new Transfer(from, to, amount), new Transfer(to, via, amount));
+            if (ledger.transferAll(batch)) {
+              transfers.add(batch.size());
+            } else {
+              rejected.increment();
+            }
+          } else if (op < 98) {
+            ledger.deposit(to, amount);
+            deposited.add(amount);
+          } else if (ledger.tryWithdraw(from, amount)) {
+            withdrawn.add(amount);
+          } else {
+            rejected.increment();
+          }
+        }
+      }));
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    long expectedTotal = ACCOUNTS * OPENING_BALANCE + deposited.sum() - withdrawn.sum();
+    boolean noOverdraft = true;
+    for (int id = 0; id < ACCOUNTS; id++) {
+      noOverdraft &= ledger.balance(id) >= 0;
+    }
+    System.out.printf("%d threads: %,d transfers, %,d rejected in %.2f s = %,.0f transfers/s%n", threads,
+        transfers.sum(), rejected.sum(), seconds, transfers.sum() / seconds);
+    System.out.println("Money conserved: " + (ledger.totalBalance() == expectedTotal));
+    System.out.println("No negative balance: " + noOverdraft);
+    System.out.println("Journal (" + ledger.journal().size() + " entries) replays to balances: " + ledger.audit());
+  }
+}
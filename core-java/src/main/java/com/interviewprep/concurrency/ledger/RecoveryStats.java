@@ -0,0 +1,25 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.time.Duration;
+
+// What DurableLedger.open did: which snapshot it loaded and how much log tail it replayed
+public record RecoveryStats(long snapshotSequence, long replayedRecords, Duration elapsed) {
+  public long replayedBytes() {
+    return replayedRecords * WriteAheadLog.RECORD_BYTES;
+  }
+
+  // Replay time scaled to one GiB of log; only meaningful after replaying a sizeable tail. Scaled in
+  // double, since nanoseconds times 2^30 overflow a long after about 8.6 s.
+  public Duration perGigabyte() {
+    if (replayedRecords == 0) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos(Math.round(elapsed.toNanos() / (replayedBytes() / (double) (1L << 30))));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("loaded snapshot @%d, replayed %,d records (%,d bytes) in %d ms = %.2f s per GiB",
+        snapshotSequence, replayedRecords, replayedBytes(), elapsed.toMillis(), perGigabyte().toMillis() / 1000.0);
+  }
+}
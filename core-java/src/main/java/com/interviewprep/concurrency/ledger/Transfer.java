@@ -0,0 +1,13 @@
+package com.interviewprep.concurrency.ledger;
+
+// One leg of a batch: move `amount` minor units from one account to another
+public record Transfer(int from, int to, long amount) {
+  public Transfer {
+    if (amount <= 0) {
+      throw new IllegalArgumentException("amount must be positive: " + amount);
+    }
+    if (from == to) {
+      throw new IllegalArgumentException("transfer to the same account " + from);
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package com.interviewprep.concurrency.ledger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable log of ledger mutations with group commit. Records are 32 bytes each (sequence, kind,
+ * from, to, amount, CRC32C) and are written into memory-mapped segment files of fixed size named
+ * {@code wal-<first sequence>.log}. Appending only copies bytes into the mapping. One flusher
+ * thread forces everything appended since its last pass in one go, so a single sync covers every
+ * transaction that arrived while the previous one was running. Callers that need durability wait
+ * in {@link #awaitDurable}.
+ *
+ * <p>A crash can leave a torn or zero-filled tail; replay stops at the first record whose checksum
+ * or sequence does not match and continues with the next segment. Segments that start after the
+ * recovered tail cannot be reached past that gap, so {@link #open} renames them to {@code
+ * *.orphan} before appending, and their stale records can never be replayed on top of new ones.
+ */
+public class WriteAheadLog implements AutoCloseable {
+  static final int RECORD_BYTES = 32;
+  private static final String PREFIX = "wal-";
+  private static final String SUFFIX = ".log";
+  private static final String ORPHAN_SUFFIX = ".orphan";
+
+  private final Path directory;
+  private final int segmentBytes;
+  private final List<Segment> segments = new ArrayList<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition appended = lock.newCondition();
+  private final Condition durable = lock.newCondition();
+  private final byte[] scratch = new byte[RECORD_BYTES];
+  private final ByteBuffer record = ByteBuffer.wrap(scratch).order(ByteOrder.LITTLE_ENDIAN);
+  private final CRC32C crc = new CRC32C();
+  private final Thread flusher;
+
+  // Guarded by lock
+  private Segment current;
+  private long lastAppended;
+  private long lastDurable;
+  private long syncs;
+  private IOException failure;
+  private boolean closed;
+
+  private static final class Segment {
+    final Path path;
+    final long firstSequence;
+    final FileChannel channel;
+    final MappedByteBuffer buffer;
+    int position;
+    int forced;
+
+    Segment(Path path, long firstSequence, int size) throws IOException {
+      this.path = path;
+      this.firstSequence = firstSequence;
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.READ, StandardOpenOption.WRITE);
+      this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      // Mapping sized the file; make that and the directory entry durable once, so the flusher's
+      // forces of the mapped range are enough to find the records after a crash
+      channel.force(true);
+      syncDirectory(path.getParent());
+    }
+  }
+
+  private WriteAheadLog(Path directory, int segmentBytes, long lastSequence) {
+    this.directory = directory;
+    this.segmentBytes = segmentBytes - segmentBytes % RECORD_BYTES;
+    this.lastAppended = lastSequence;
+    this.lastDurable = lastSequence;
+    flusher = Thread.ofPlatform().daemon().name("wal-flusher").start(this::flushLoop);
+  }
+
+  /**
+   * Opens the log for appending after {@code lastSequence}, which the caller learns from {@link
+   * #replay}. New records always go into a fresh segment, so a torn tail is never overwritten, and
+   * segments starting after {@code lastSequence} are set aside first.
+   */
+  public static WriteAheadLog open(Path directory, int segmentBytes, long lastSequence) throws IOException {
+    Files.createDirectories(directory);
+    if (segmentBytes < RECORD_BYTES) {
+      throw new IllegalArgumentException("segment too small: " + segmentBytes);
+    }
+    quarantineAfter(directory, lastSequence);
+    return new WriteAheadLog(directory, segmentBytes, lastSequence);
+  }
+
+  // Buffers one record and returns its sequence number; it is durable once awaitDurable returns
+  public long append(Journal.Kind kind, int from, int to, long amount) throws IOException {
+    lock.lock();
+    try {
+      if (closed) {
+        throw new IOException("log closed");
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      if (current == null || current.position == segmentBytes) {
+        current = new Segment(directory.resolve(PREFIX + (lastAppended + 1) + SUFFIX), lastAppended + 1,
+            segmentBytes);
+        segments.add(current);
+      }
+      long sequence = ++lastAppended;
+      record.clear();
+      record.putLong(sequence).putInt(kind.ordinal()).putInt(from).putInt(to).putLong(amount);
+      crc.reset();
+      crc.update(scratch, 0, RECORD_BYTES - Integer.BYTES);
+      record.putInt((int) crc.getValue());
+      current.buffer.put(current.position, scratch);
+      current.position += RECORD_BYTES;
+      appended.signal();
+      return sequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Blocks until the record with this sequence, and every one before it, has been forced to disk
+  public void awaitDurable(long sequence) throws IOException, InterruptedException {
+    lock.lock();
+    try {
+      while (lastDurable < sequence) {
+        if (failure != null) {
+          throw failure;
+        }
+        if (closed) {
+          throw new IOException("log closed before " + sequence + " was durable");
+        }
+        durable.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long lastSequence() {
+    lock.lock();
+    try {
+      return lastAppended;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Number of syncs so far; appends divided by syncs is the average group-commit batch
+  public long syncCount() {
+    lock.lock();
+    try {
+      return syncs;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Deletes closed segments whose records all precede `sequence`, e.g. once a snapshot covers them
+  public void truncateBefore(long sequence) throws IOException {
+    List<Segment> obsolete = new ArrayList<>();
+    lock.lock();
+    try {
+      for (int i = 0; i + 1 < segments.size() && segments.get(i + 1).firstSequence <= sequence; i++) {
+        if (segments.get(i).forced == segments.get(i).position) {
+          obsolete.add(segments.get(i));
+        }
+      }
+      segments.removeAll(obsolete);
+    } finally {
+      lock.unlock();
+    }
+    for (Segment segment : obsolete) {
+      segment.channel.close();
+      Files.deleteIfExists(segment.path);
+    }
+    // Segments left by earlier runs are not in `segments`; drop those before the cut as well
+    List<Path> open = new ArrayList<>();
+    lock.lock();
+    try {
+      segments.forEach(segment -> open.add(segment.path));
+    } finally {
+      lock.unlock();
+    }
+    List<Path> files = segmentFiles(directory);
+    for (int i = 0; i + 1 < files.size() && firstSequenceOf(files.get(i + 1)) <= sequence; i++) {
+      if (!open.contains(files.get(i))) {
+        Files.deleteIfExists(files.get(i));
+      }
+    }
+  }
+
+  /**
+   * Replays every intact record with a sequence above {@code afterSequence}, in order, and returns
+   * the last sequence seen (or {@code afterSequence} if there were none).
+   */
+  public static long replay(Path directory, long afterSequence, Journal.EntryConsumer consumer) throws IOException {
+    long expected = afterSequence + 1;
+    List<Path> files = segmentFiles(directory);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+    byte[] bytes = new byte[RECORD_BYTES];
+    ByteBuffer recordView = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    CRC32C checksum = new CRC32C();
+    Journal.Kind[] kinds = Journal.Kind.values();
+    for (int f = 0; f < files.size(); f++) {
+      // Skip whole segments that end before the replay point
+      if (f + 1 < files.size() && firstSequenceOf(files.get(f + 1)) <= expected) {
+        continue;
+      }
+      try (FileChannel channel = FileChannel.open(files.get(f), StandardOpenOption.READ)) {
+        buffer.clear();
+        segment:
+        while (channel.read(buffer) > 0) {
+          buffer.flip();
+          while (buffer.remaining() >= RECORD_BYTES) {
+            buffer.get(bytes);
+            checksum.reset();
+            checksum.update(bytes, 0, RECORD_BYTES - Integer.BYTES);
+            long sequence = recordView.getLong(0);
+            if ((int) checksum.getValue() != recordView.getInt(RECORD_BYTES - Integer.BYTES)) {
+              break segment; // Torn or never-written tail
+            }
+            if (sequence < expected) {
+              continue;
+            }
+            if (sequence != expected) {
+              break segment;
+            }
+            consumer.accept(sequence, kinds[recordView.getInt(8)], recordView.getInt(12), recordView.getInt(16),
+                recordView.getLong(20));
+            expected++;
+          }
+          buffer.compact();
+        }
+      }
+    }
+    return expected - 1;
+  }
+
+  // Waits for the flusher's last pass; if interrupted, the log is closed to appends but its files
+  // stay open until close() is called again
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      closed = true;
+      appended.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for the last log flush");
+    }
+    lock.lock();
+    try {
+      durable.signalAll();
+      for (Segment segment : segments) {
+        segment.channel.close();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flushLoop() {
+    while (true) {
+      long target;
+      List<int[]> ranges = new ArrayList<>();
+      List<Segment> dirty = new ArrayList<>();
+      lock.lock();
+      try {
+        while (lastAppended == lastDurable && !closed) {
+          appended.awaitUninterruptibly();
+        }
+        if (lastAppended == lastDurable) {
+          return;
+        }
+        target = lastAppended;
+        for (Segment segment : segments) {
+          if (segment.forced < segment.position) {
+            dirty.add(segment);
+            ranges.add(new int[] {segment.forced, segment.position});
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+      IOException error = null;
+      try {
+        for (int i = 0; i < dirty.size(); i++) {
+          int[] range = ranges.get(i);
+          dirty.get(i).buffer.force(range[0], range[1] - range[0]);
+        }
+      } catch (RuntimeException e) {
+        error = new IOException("sync failed", e);
+      }
+      lock.lock();
+      try {
+        if (error != null) {
+          failure = error;
+        } else {
+          for (int i = 0; i < dirty.size(); i++) {
+            dirty.get(i).forced = ranges.get(i)[1];
+          }
+          lastDurable = target;
+          syncs++;
+        }
+        durable.signalAll();
+        if (error != null) {
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  // New records reuse sequence numbers past the recovered tail. A later replay would otherwise
+  // apply a leftover segment's stale records as soon as the new log reaches its first sequence.
+  private static void quarantineAfter(Path directory, long lastSequence) throws IOException {
+    boolean moved = false;
+    for (Path file : segmentFiles(directory)) {
+      if (firstSequenceOf(file) > lastSequence) {
+        Path orphan = file.resolveSibling(file.getFileName() + ORPHAN_SUFFIX);
+        Files.move(file, orphan, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        moved = true;
+      }
+    }
+    if (moved) {
+      syncDirectory(directory);
+    }
+  }
+
+  // Makes creations and renames in `directory` durable
+  static void syncDirectory(Path directory) throws IOException {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (AccessDeniedException e) {
+      // Windows cannot open a directory as a channel; NTFS journals the metadata itself
+    }
+  }
+
+  private static List<Path> segmentFiles(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+      }).sorted(Comparator.comparingLong(WriteAheadLog::firstSequenceOf))
+          .toList();
+    }
+  }
+
+  private static long firstSequenceOf(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+}
@@ -0,0 +1,238 @@
+package com.interviewprep.concurrency.logging;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A low-latency logger for hot paths that would otherwise call {@code System.out.println}, which
+ * takes the {@code PrintStream} lock and makes a write syscall per line.
+ *
+ * <p>Each logging thread appends to its own lock-free ring buffer: it stores a {@link LogTemplate}
+ * and the raw arguments, nothing else. A single background writer thread drains all rings, formats
+ * the lines into one reusable buffer, and writes them to the channel in large batches. When a
+ * ring is full the {@link BackpressurePolicy} decides whether the caller drops the message or
+ * waits. Lines from one thread keep their order; lines from different threads may interleave
+ * differently than with direct printing.
+ */
+public class AsyncLogger implements AutoCloseable {
+  private static final int DEFAULT_RING_CAPACITY = 256;
+  private static final int DRAIN_LIMIT = 1024;
+  private static final int SPINS_BEFORE_PARK = 100;
+  private static final long IDLE_PARK_NANOS = 100_000;
+
+  private final WritableByteChannel channel;
+  private final boolean closeChannel;
+  private final int ringCapacity;
+  private final BackpressurePolicy policy;
+  private final Queue<LogRingBuffer> rings = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<LogRingBuffer> localRing = ThreadLocal.withInitial(this::register);
+  private final LongAdder dropped = new LongAdder();
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  // Writer-thread state
+  private final StringBuilder text = new StringBuilder(16 * 1024);
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+  private final ByteBuffer bytes = ByteBuffer.allocateDirect(64 * 1024);
+
+  public AsyncLogger(WritableByteChannel channel, boolean closeChannel, int ringCapacity, BackpressurePolicy policy) {
+    this.channel = channel;
+    this.closeChannel = closeChannel;
+    this.ringCapacity = ringCapacity;
+    this.policy = policy;
+    this.writer = new Thread(this::writeLoop, "async-logger-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  // Writes to the process's standard output, bypassing System.out and its lock
+  public static AsyncLogger toStdout(BackpressurePolicy policy) {
+    return new AsyncLogger(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), false,
+        DEFAULT_RING_CAPACITY, policy);
+  }
+
+  public static AsyncLogger toFile(Path path, BackpressurePolicy policy) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+    return new AsyncLogger(channel, true, DEFAULT_RING_CAPACITY, policy);
+  }
+
+  public void log(LogTemplate template) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 0);
+    if (entry != null) {
+      ring.publish();
+    }
+  }
+
+  public void log(LogTemplate template, Object arg0) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 1);
+    if (entry != null) {
+      entry.objects[0] = arg0;
+      ring.publish();
+    }
+  }
+
+  public void log(LogTemplate template, long arg0) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 1);
+    if (entry != null) {
+      entry.longs[0] = arg0;
+      entry.longMask = 0b001;
+      ring.publish();
+    }
+  }
+
+  public void log(LogTemplate template, Object arg0, Object arg1) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 2);
+    if (entry != null) {
+      entry.objects[0] = arg0;
+      entry.objects[1] = arg1;
+      ring.publish();
+    }
+  }
+
+  public void log(LogTemplate template, Object arg0, long arg1) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 2);
+    if (entry != null) {
+      entry.objects[0] = arg0;
+      entry.longs[1] = arg1;
+      entry.longMask = 0b010;
+      ring.publish();
+    }
+  }
+
+  public void log(LogTemplate template, Object arg0, Object arg1, Object arg2) {
+    LogRingBuffer ring = localRing.get();
+    LogEntry entry = claim(ring, template, 3);
+    if (entry != null) {
+      entry.objects[0] = arg0;
+      entry.objects[1] = arg1;
+      entry.objects[2] = arg2;
+      ring.publish();
+    }
+  }
+
+  // Messages discarded under BackpressurePolicy.DROP
+  public long droppedCount() {
+    return dropped.sum();
+  }
+
+  // Blocks until everything logged before this call has been handed to the channel
+  public void flush() {
+    for (LogRingBuffer ring : rings) {
+      long target = ring.published();
+      while (ring.drained() < target && writer.isAlive()) {
+        LockSupport.unpark(writer);
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (closeChannel) {
+      channel.close();
+    }
+  }
+
+  private LogRingBuffer register() {
+    LogRingBuffer ring = new LogRingBuffer(Thread.currentThread(), ringCapacity);
+    rings.add(ring);
+    return ring;
+  }
+
+  private LogEntry claim(LogRingBuffer ring, LogTemplate template, int argumentCount) {
+    if (template.argumentCount() != argumentCount) {
+      throw new IllegalArgumentException("Template expects " + template.argumentCount() + " arguments");
+    }
+    LogEntry entry = ring.claim();
+    for (int spins = 0; entry == null; spins++) {
+      if (policy == BackpressurePolicy.DROP || !running || !writer.isAlive()) {
+        dropped.increment();
+        return null;
+      }
+      LockSupport.unpark(writer);
+      if (spins < SPINS_BEFORE_PARK) {
+        Thread.onSpinWait();
+      } else {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+      entry = ring.claim();
+    }
+    entry.template = template;
+    return entry;
+  }
+
+  private void writeLoop() {
+    while (true) {
+      int drained = 0;
+      for (LogRingBuffer ring : rings) {
+        drained += ring.drainTo(text, DRAIN_LIMIT);
+        if (ring.isAbandoned()) {
+          rings.remove(ring);
+        }
+      }
+      if (text.length() > 0) {
+        write();
+      }
+      if (drained == 0) {
+        if (!running) {
+          return;
+        }
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+  }
+
+  private void write() {
+    CharBuffer chars = CharBuffer.wrap(text);
+    encoder.reset();
+    try {
+      while (encoder.encode(chars, bytes, true).isOverflow()) {
+        writeBytes();
+      }
+      while (encoder.flush(bytes).isOverflow()) {
+        writeBytes();
+      }
+      writeBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      text.setLength(0);
+    }
+  }
+
+  private void writeBytes() throws IOException {
+    bytes.flip();
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    bytes.clear();
+  }
+}
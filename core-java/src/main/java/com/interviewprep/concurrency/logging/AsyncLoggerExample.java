@@ -0,0 +1,59 @@
+package com.interviewprep.concurrency.logging;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class AsyncLoggerExample {
+  private static final LogTemplate INCREMENTED = LogTemplate.of("{} incremented counter to: {}");
+  private static final LogTemplate PRINTING = LogTemplate.of("{} {}");
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    // Same messages as SharedCounter.increment and Printer.run, without System.out on the hot path
+    try (AsyncLogger logger = AsyncLogger.toStdout(BackpressurePolicy.BLOCK)) {
+      Thread[] threads = new Thread[3];
+      for (int t = 0; t < threads.length; t++) {
+        threads[t] = new Thread(() -> {
+          String name = Thread.currentThread().getName();
+          for (int i = 0; i < 5; i++) {
+            logger.log(PRINTING, name, i);
+          }
+        }, "Printer-" + (t + 1));
+        threads[t].start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      logger.flush();
+    }
+
+    // Many messages to a file, with the drop policy: callers never wait
+    Path file = Files.createTempFile("async-logger", ".log");
+    int threadCount = 4;
+    int messages = 200_000;
+    long start = System.nanoTime();
+    try (AsyncLogger logger = AsyncLogger.toFile(file, BackpressurePolicy.DROP)) {
+      Thread[] threads = new Thread[threadCount];
+      for (int t = 0; t < threadCount; t++) {
+        threads[t] = new Thread(() -> {
+          String name = Thread.currentThread().getName();
+          for (int i = 0; i < messages; i++) {
+            logger.log(INCREMENTED, name, i);
+          }
+        }, "Thread-" + (t + 1));
+        threads[t].start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      long callerMillis = (System.nanoTime() - start) / 1_000_000;
+      logger.flush();
+      System.out.println("Logged " + threadCount * messages + " messages in " + callerMillis
+          + " ms on the caller side, dropped " + logger.droppedCount());
+    }
+    try (var lines = Files.lines(file)) {
+      System.out.println("Lines written to " + file + ": " + lines.count());
+    }
+    Files.delete(file);
+  }
+}
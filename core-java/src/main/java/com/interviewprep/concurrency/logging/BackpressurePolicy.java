@@ -0,0 +1,9 @@
+package com.interviewprep.concurrency.logging;
+
+// What a logging thread does when its ring buffer is full
+public enum BackpressurePolicy {
+  // Discard the message and count it; the caller never waits
+  DROP,
+  // Spin, then park, until the writer thread frees a slot
+  BLOCK
+}
@@ -0,0 +1,27 @@
+package com.interviewprep.concurrency.logging;
+
+// A reusable ring-buffer slot: a template plus up to MAX_ARGS reference or long arguments
+final class LogEntry {
+  static final int MAX_ARGS = 3;
+
+  LogTemplate template;
+  final Object[] objects = new Object[MAX_ARGS];
+  final long[] longs = new long[MAX_ARGS];
+  int longMask; // bit i set: argument i is in longs
+
+  void appendArgument(StringBuilder out, int index) {
+    if ((longMask & (1 << index)) != 0) {
+      out.append(longs[index]);
+    } else {
+      out.append(objects[index]);
+    }
+  }
+
+  void clear() {
+    template = null;
+    for (int i = 0; i < MAX_ARGS; i++) {
+      objects[i] = null;
+    }
+    longMask = 0;
+  }
+}
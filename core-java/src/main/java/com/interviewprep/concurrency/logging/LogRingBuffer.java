@@ -0,0 +1,85 @@
+package com.interviewprep.concurrency.logging;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-producer, single-consumer ring of preallocated {@link LogEntry} slots. The owning thread
+ * fills slots and publishes them with a release store of {@code tail}; the writer thread drains
+ * them and hands the slots back with a release store of {@code head}. No locks, no allocation.
+ */
+final class LogRingBuffer {
+  private static final VarHandle HEAD;
+  private static final VarHandle TAIL;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      HEAD = lookup.findVarHandle(LogRingBuffer.class, "head", long.class);
+      TAIL = lookup.findVarHandle(LogRingBuffer.class, "tail", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Thread owner;
+  private final LogEntry[] entries;
+  private final int mask;
+  private volatile long head; // next slot to drain, written by the consumer
+  private volatile long tail; // next slot to fill, written by the producer
+  private long cachedHead; // producer's last view of head
+
+  LogRingBuffer(Thread owner, int capacity) {
+    this.owner = owner;
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    entries = new LogEntry[size];
+    for (int i = 0; i < size; i++) {
+      entries[i] = new LogEntry();
+    }
+    mask = size - 1;
+  }
+
+  // Producer side: returns the slot to fill, or null if the ring is full
+  LogEntry claim() {
+    long t = (long) TAIL.getOpaque(this);
+    if (t - cachedHead > mask) {
+      cachedHead = (long) HEAD.getAcquire(this);
+      if (t - cachedHead > mask) {
+        return null;
+      }
+    }
+    return entries[(int) t & mask];
+  }
+
+  // Producer side: makes the claimed slot visible to the consumer
+  void publish() {
+    TAIL.setRelease(this, (long) TAIL.getOpaque(this) + 1);
+  }
+
+  // Consumer side: formats up to limit published entries, returns how many were drained
+  int drainTo(StringBuilder out, int limit) {
+    long h = (long) HEAD.getOpaque(this);
+    long t = Math.min((long) TAIL.getAcquire(this), h + limit);
+    for (long i = h; i < t; i++) {
+      LogEntry entry = entries[(int) i & mask];
+      entry.template.formatTo(out, entry);
+      out.append(System.lineSeparator());
+      entry.clear();
+    }
+    HEAD.setRelease(this, t);
+    return (int) (t - h);
+  }
+
+  long published() {
+    return (long) TAIL.getAcquire(this);
+  }
+
+  long drained() {
+    return (long) HEAD.getAcquire(this);
+  }
+
+  // A ring whose thread has ended and whose entries are all written can be dropped
+  boolean isAbandoned() {
+    return !owner.isAlive() && drained() == published();
+  }
+}
@@ -0,0 +1,44 @@
+package com.interviewprep.concurrency.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message pattern with {@code {}} placeholders, split into its literal parts once, up front.
+ * Callers pass the template plus raw arguments; the text is only assembled later on the writer
+ * thread, so the logging thread does no string concatenation or formatting.
+ */
+public final class LogTemplate {
+  private final String[] parts;
+
+  private LogTemplate(String[] parts) {
+    this.parts = parts;
+  }
+
+  public static LogTemplate of(String pattern) {
+    List<String> parts = new ArrayList<>();
+    int start = 0;
+    int placeholder;
+    while ((placeholder = pattern.indexOf("{}", start)) >= 0) {
+      parts.add(pattern.substring(start, placeholder));
+      start = placeholder + 2;
+    }
+    parts.add(pattern.substring(start));
+    if (parts.size() - 1 > LogEntry.MAX_ARGS) {
+      throw new IllegalArgumentException("At most " + LogEntry.MAX_ARGS + " placeholders are supported: " + pattern);
+    }
+    return new LogTemplate(parts.toArray(new String[0]));
+  }
+
+  int argumentCount() {
+    return parts.length - 1;
+  }
+
+  void formatTo(StringBuilder out, LogEntry entry) {
+    out.append(parts[0]);
+    for (int i = 1; i < parts.length; i++) {
+      entry.appendArgument(out, i - 1);
+      out.append(parts[i]);
+    }
+  }
+}
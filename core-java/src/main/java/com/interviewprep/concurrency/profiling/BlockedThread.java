@@ -0,0 +1,17 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.time.Duration;
+
+/**
+ * How often a thread blocked on a monitor since the profiler started, from {@link
+ * java.lang.management.ThreadInfo#getBlockedCount}. {@code blockedTime} is only counted while
+ * thread contention monitoring is enabled, and stays zero otherwise.
+ */
+public record BlockedThread(String thread, long threadId, long blockedCount, Duration blockedTime) {
+
+  @Override
+  public String toString() {
+    return String.format("%-20s blocked %7d times, %6d ms", thread + "#" + threadId, blockedCount,
+        blockedTime.toMillis());
+  }
+}
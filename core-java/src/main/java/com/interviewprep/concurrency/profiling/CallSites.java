@@ -0,0 +1,27 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+
+// Turns a JFR event's stack trace into a short call-site label
+public final class CallSites {
+  private CallSites() {
+  }
+
+  // The first application frame, e.g. "SharedResource.access(line 8)", skipping java/jdk/sun frames
+  public static String of(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return "<no stack trace>";
+    }
+    List<RecordedFrame> frames = event.getStackTrace().getFrames();
+    for (RecordedFrame frame : frames) {
+      String type = frame.getMethod().getType().getName();
+      if (frame.isJavaFrame() && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+        String simpleName = type.substring(type.lastIndexOf('.') + 1);
+        return simpleName + "." + frame.getMethod().getName() + "(line " + frame.getLineNumber() + ")";
+      }
+    }
+    return frames.isEmpty() ? "<empty stack>" : frames.getFirst().getMethod().getType().getName();
+  }
+}
@@ -0,0 +1,22 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Blocked time attributed to one monitor, from JFR {@code jdk.JavaMonitorEnter} events. Only waits
+ * longer than the profiler's threshold are recorded. {@code sites} maps call sites to wait counts,
+ * busiest first.
+ */
+public record LockContention(String lock, long events, Duration totalBlocked, Duration p50, Duration p99,
+    Duration max, Map<String, Long> sites) {
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(String.format(
+        "%-36s blocked %6d ms over %5d waits (p50 %5d ms, p99 %5d ms, max %5d ms)",
+        lock, totalBlocked.toMillis(), events, p50.toMillis(), p99.toMillis(), max.toMillis()));
+    sites.forEach((site, count) -> sb.append(System.lineSeparator()).append("    ").append(count).append("x ").append(site));
+    return sb.toString();
+  }
+}
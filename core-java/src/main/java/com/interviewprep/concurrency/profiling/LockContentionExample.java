@@ -0,0 +1,82 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.time.Duration;
+
+public class LockContentionExample {
+  private static final Object ACCOUNTS_LOCK = new Object();
+  private static final Object AUDIT_LOCK = new Object();
+  private static long counter;
+
+  public static void main(String[] args) throws InterruptedException {
+    // Warm up the JIT, then measure the contended workload with no profiler attached
+    runWorkload(Duration.ofSeconds(1));
+    long before = runWorkload(Duration.ofSeconds(3));
+
+    LockContentionProfiler profiler =
+        LockContentionProfiler.start(Duration.ofMillis(10), Duration.ofMillis(50), true);
+    long profiled;
+    try {
+      // JFR's one-off start-up cost is not steady-state overhead, so let it settle first
+      runWorkload(Duration.ofSeconds(1));
+      profiled = runWorkload(Duration.ofSeconds(3));
+    } finally {
+      profiler.close();
+    }
+    profiler.printReport(5);
+
+    // A second unprofiled run after the profiled one, so slow drift in the machine shows up as the
+    // gap between the two baselines instead of as profiler overhead
+    long after = runWorkload(Duration.ofSeconds(3));
+    double baseline = (before + after) / 2.0;
+    System.out.printf("Throughput %,d / %,d ops without profiler, %,d ops with it (%.1f%% overhead, baselines %.1f%% apart)%n",
+        before, after, profiled, 100.0 * (baseline - profiled) / baseline, 100.0 * Math.abs(before - after) / baseline);
+  }
+
+  // Like MyThread and SharedResource: short critical sections on one lock, plus a slow holder of another
+  private static long runWorkload(Duration duration) throws InterruptedException {
+    counter = 0;
+    long end = System.nanoTime() + duration.toNanos();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        while (System.nanoTime() < end) {
+          synchronized (ACCOUNTS_LOCK) {
+            counter++;
+          }
+        }
+      }, "Counter-" + i);
+    }
+    Thread auditor = new Thread(() -> {
+      while (System.nanoTime() < end) {
+        audit();
+      }
+    }, "Auditor");
+    Thread reporter = new Thread(() -> {
+      while (System.nanoTime() < end) {
+        audit();
+      }
+    }, "Reporter");
+
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    auditor.start();
+    reporter.start();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    auditor.join();
+    reporter.join();
+    return counter;
+  }
+
+  private static void audit() {
+    synchronized (AUDIT_LOCK) {
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,215 @@
+package com.interviewprep.concurrency.profiling;
+
+import com.interviewprep.concurrency.sync.LatencyHistogram;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Measures time threads spend BLOCKED on {@code synchronized}, as in {@code SharedResource.access}
+ * or {@code synchronized (MyThread.class)} in {@code MyThread}, and attributes it to lock objects
+ * and call sites. It combines two sources:
+ *
+ * <ul>
+ *   <li>JFR {@code jdk.JavaMonitorEnter} events, emitted only for waits longer than the threshold,
+ *       give exact wait times per monitor and stack;
+ *   <li>a {@link ThreadMXBean} sampler, which also catches waits shorter than the threshold and
+ *       threads still blocked right now. Each sample also reads every thread's blocked count, and
+ *       its blocked time when thread contention monitoring is on, and reports the growth since the
+ *       profiler started.
+ * </ul>
+ *
+ * <p>JFR identifies a monitor by address and ThreadMXBean by identity hash code, so the two are
+ * reported side by side rather than merged. Both are cheap enough to leave on: nothing is
+ * recorded for uncontended locks, and one sample per interval costs a single {@code getThreadInfo}
+ * call. Contention monitoring makes the JVM time every monitor block, so it is opt-in; it is a
+ * JVM-wide setting, and {@link #close} puts back whatever was set before.
+ */
+public class LockContentionProfiler implements AutoCloseable {
+  static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+  private static final long[] NOT_AT_START = new long[2];
+
+  private final RecordingStream stream;
+  private final ScheduledExecutorService sampler;
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private final Duration sampleInterval;
+  private final Map<String, LockStats> locks = new ConcurrentHashMap<>();
+  private final Map<String, SampleStats> sampledLocks = new ConcurrentHashMap<>();
+  private final LongAdder samples = new LongAdder();
+  private final boolean enabledContentionMonitoring;
+  private final boolean timesBlocked;
+  // Blocked count and time (ms) of each thread alive at start; later threads start from zero
+  private final Map<Long, long[]> blockedAtStart = new ConcurrentHashMap<>();
+  private final Map<Long, BlockedThread> blockedThreads = new ConcurrentHashMap<>();
+
+  private static final class LockStats {
+    final LatencyHistogram waits = new LatencyHistogram();
+    final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+  }
+
+  private static final class SampleStats {
+    final LongAdder blockedThreads = new LongAdder();
+    volatile String lastOwner = "<unknown>";
+  }
+
+  private LockContentionProfiler(Duration threshold, Duration sampleInterval, boolean contentionMonitoring) {
+    this.sampleInterval = sampleInterval;
+    enabledContentionMonitoring = contentionMonitoring && threads.isThreadContentionMonitoringSupported()
+        && !threads.isThreadContentionMonitoringEnabled();
+    if (enabledContentionMonitoring) {
+      threads.setThreadContentionMonitoringEnabled(true);
+    }
+    timesBlocked = threads.isThreadContentionMonitoringSupported() && threads.isThreadContentionMonitoringEnabled();
+    for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+      if (info != null) {
+        blockedAtStart.put(info.getThreadId(), new long[] {info.getBlockedCount(), Math.max(0, info.getBlockedTime())});
+      }
+    }
+    stream = new RecordingStream();
+    stream.enable(MONITOR_ENTER_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(MONITOR_ENTER_EVENT, this::record);
+    stream.startAsync();
+
+    sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "lock-contention-sampler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalNanos = sampleInterval.toNanos();
+    sampler.scheduleAtFixedRate(this::sample, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  // Records monitor waits of at least `threshold` and samples blocked threads each `sampleInterval`
+  public static LockContentionProfiler start(Duration threshold, Duration sampleInterval) {
+    return new LockContentionProfiler(threshold, sampleInterval, false);
+  }
+
+  // As above; with `contentionMonitoring`, also turns on JVM thread contention monitoring (where
+  // supported) until close(), so blocked time per thread is reported too
+  public static LockContentionProfiler start(Duration threshold, Duration sampleInterval,
+      boolean contentionMonitoring) {
+    return new LockContentionProfiler(threshold, sampleInterval, contentionMonitoring);
+  }
+
+  public long sampleCount() {
+    return samples.sum();
+  }
+
+  // The n locks with the most recorded blocked time, heaviest first
+  public List<LockContention> topLocks(int n) {
+    List<LockContention> result = new ArrayList<>();
+    locks.forEach((lock, stats) -> result.add(snapshot(lock, stats)));
+    result.sort(Comparator.comparing(LockContention::totalBlocked).reversed());
+    return result.subList(0, Math.min(n, result.size()));
+  }
+
+  // The n locks threads were most often seen blocked on, heaviest first
+  public List<SampledLock> topSampledLocks(int n) {
+    List<SampledLock> result = new ArrayList<>();
+    sampledLocks.forEach((lock, stats) -> {
+      long count = stats.blockedThreads.sum();
+      result.add(new SampledLock(lock, count, sampleInterval.multipliedBy(count), stats.lastOwner));
+    });
+    result.sort(Comparator.comparingLong(SampledLock::samples).reversed());
+    return result.subList(0, Math.min(n, result.size()));
+  }
+
+  // The n threads that blocked longest (or, without contention monitoring, most often) since start
+  public List<BlockedThread> topBlockedThreads(int n) {
+    List<BlockedThread> result = new ArrayList<>(blockedThreads.values());
+    result.sort(Comparator.comparing(BlockedThread::blockedTime)
+        .thenComparingLong(BlockedThread::blockedCount).reversed());
+    return result.subList(0, Math.min(n, result.size()));
+  }
+
+  public void printReport(int n) {
+    System.out.println("Top " + n + " contended locks (JFR " + MONITOR_ENTER_EVENT + "):");
+    topLocks(n).forEach(System.out::println);
+    System.out.println("Top " + n + " blocked-on locks (ThreadMXBean, " + sampleCount()
+        + " samples):");
+    topSampledLocks(n).forEach(System.out::println);
+    System.out.println("Top " + n + " blocked threads (ThreadMXBean blocked count"
+        + (timesBlocked ? " and time" : "") + " since start):");
+    topBlockedThreads(n).forEach(System.out::println);
+  }
+
+  // Stops recording once the events produced so far have been delivered
+  @Override
+  public void close() {
+    sampler.shutdownNow();
+    stream.stop();
+    stream.close();
+    if (enabledContentionMonitoring) {
+      threads.setThreadContentionMonitoringEnabled(false);
+    }
+  }
+
+  private void record(RecordedEvent event) {
+    RecordedClass monitorClass = event.getValue("monitorClass");
+    String type = monitorClass == null ? "<unknown>" : monitorClass.getName();
+    String lock = type + "@" + Long.toHexString(event.getLong("address"));
+    LockStats stats = locks.computeIfAbsent(lock, key -> new LockStats());
+    stats.waits.record(event.getDuration().toNanos());
+    stats.sites.computeIfAbsent(CallSites.of(event), site -> new LongAdder()).increment();
+  }
+
+  private void sample() {
+    samples.increment();
+    for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+      if (info == null) {
+        continue;
+      }
+      recordBlocked(info);
+      if (info.getThreadState() != Thread.State.BLOCKED) {
+        continue;
+      }
+      LockInfo lockInfo = info.getLockInfo();
+      String lock = lockInfo == null
+          ? "<unknown>"
+          : lockInfo.getClassName() + "#" + Integer.toHexString(lockInfo.getIdentityHashCode());
+      SampleStats stats = sampledLocks.computeIfAbsent(lock, key -> new SampleStats());
+      stats.blockedThreads.increment();
+      if (info.getLockOwnerName() != null) {
+        stats.lastOwner = info.getLockOwnerName();
+      }
+    }
+  }
+
+  // A thread that has exited keeps the totals from its last sample
+  private void recordBlocked(ThreadInfo info) {
+    long[] start = blockedAtStart.getOrDefault(info.getThreadId(), NOT_AT_START);
+    long count = info.getBlockedCount() - start[0];
+    long millis = info.getBlockedTime() < 0 ? 0 : info.getBlockedTime() - start[1];
+    if (count > 0) {
+      blockedThreads.put(info.getThreadId(),
+          new BlockedThread(info.getThreadName(), info.getThreadId(), count, Duration.ofMillis(millis)));
+    }
+  }
+
+  private static LockContention snapshot(String lock, LockStats stats) {
+    Map<String, Long> sites = new LinkedHashMap<>();
+    Comparator<LongAdder> bySum = Comparator.comparingLong(LongAdder::sum);
+    stats.sites.entrySet().stream()
+        .sorted(Map.Entry.<String, LongAdder>comparingByValue(bySum).reversed())
+        .forEach(entry -> sites.put(entry.getKey(), entry.getValue().sum()));
+    LatencyHistogram waits = stats.waits;
+    Duration total = Duration.ofNanos(Math.round(waits.mean() * waits.count()));
+    return new LockContention(lock, waits.count(), total, Duration.ofNanos(waits.percentile(50)),
+        Duration.ofNanos(waits.percentile(99)), Duration.ofNanos(waits.max()), sites);
+  }
+}
@@ -0,0 +1,16 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.time.Duration;
+
+/**
+ * A monitor the ThreadMXBean sampler found threads BLOCKED on. {@code estimatedBlocked} is samples
+ * times the sampling interval, and also covers waits too short for JFR to record.
+ */
+public record SampledLock(String lock, long samples, Duration estimatedBlocked, String lastOwner) {
+
+  @Override
+  public String toString() {
+    return String.format("%-36s ~%6d ms blocked (%d samples), last held by %s", lock, estimatedBlocked.toMillis(),
+        samples, lastOwner);
+  }
+}
@@ -0,0 +1,147 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples thread states at a fixed interval into a fixed-size binary ring buffer, overwriting the
+ * oldest samples once it is full. Each sample is one 8-byte record: a 32-bit tick number, a 24-bit
+ * thread index and an 8-bit {@link Thread.State} ordinal. Explicitly {@link #track tracked}
+ * threads are read with {@link Thread#getState}, which is cheap and also sees NEW and TERMINATED.
+ * Optionally every other live thread is read through {@link ThreadMXBean} as well. {@link #writeTo}
+ * dumps the buffer for {@link ThreadStateTimeline} to analyze offline.
+ */
+public class ThreadStateRecorder implements AutoCloseable {
+  static final int MAGIC = 0x5453544C; // "TSTL"
+  static final int VERSION = 1;
+  static final int MAX_THREADS = 1 << 24;
+
+  private final long intervalNanos;
+  private final boolean includeAllThreads;
+  private final ByteBuffer ring;
+  private final int capacity;
+  private final long startEpochMillis = System.currentTimeMillis();
+  private final List<Thread> tracked = new CopyOnWriteArrayList<>();
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private final ScheduledExecutorService sampler;
+
+  // Guarded by this: thread index table and ring write position
+  private final Map<Long, Integer> indexByThreadId = new HashMap<>();
+  private final List<String> names = new ArrayList<>();
+  private final List<Long> threadIds = new ArrayList<>();
+  private long written;
+  private int tick;
+
+  private ThreadStateRecorder(Duration interval, int capacity, boolean includeAllThreads) {
+    this.intervalNanos = interval.toNanos();
+    this.capacity = capacity;
+    this.includeAllThreads = includeAllThreads;
+    this.ring = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+    this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "thread-state-recorder");
+      thread.setDaemon(true);
+      return thread;
+    });
+    sampler.scheduleAtFixedRate(this::sample, 0, intervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  // Keeps the last `capacity` samples; with includeAllThreads every live thread is sampled too
+  public static ThreadStateRecorder start(Duration interval, int capacity, boolean includeAllThreads) {
+    return new ThreadStateRecorder(interval, capacity, includeAllThreads);
+  }
+
+  // Samples the thread from now on, including while it is still NEW or already TERMINATED
+  public void track(Thread... toTrack) {
+    tracked.addAll(List.of(toTrack));
+  }
+
+  public synchronized long samplesWritten() {
+    return written;
+  }
+
+  // Writes the header, thread table and the retained samples, oldest first
+  public synchronized void writeTo(Path file) throws IOException {
+    try (OutputStream out = Files.newOutputStream(file)) {
+      writeTo(out);
+    }
+  }
+
+  public synchronized void writeTo(OutputStream stream) throws IOException {
+    DataOutputStream out = new DataOutputStream(stream);
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeLong(intervalNanos);
+    out.writeLong(startEpochMillis);
+    out.writeInt(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      out.writeLong(threadIds.get(i));
+      out.writeUTF(names.get(i));
+    }
+    int retained = (int) Math.min(written, capacity);
+    out.writeInt(retained);
+    for (long i = written - retained; i < written; i++) {
+      out.writeLong(ring.getLong((int) (i % capacity) * Long.BYTES));
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() {
+    sampler.shutdownNow();
+  }
+
+  private synchronized void sample() {
+    for (Thread thread : tracked) {
+      append(thread.threadId(), thread.getName(), thread.getState());
+    }
+    if (includeAllThreads) {
+      for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+        if (info != null && !isTracked(info.getThreadId())) {
+          append(info.getThreadId(), info.getThreadName(), info.getThreadState());
+        }
+      }
+    }
+    tick++;
+  }
+
+  private boolean isTracked(long threadId) {
+    for (Thread thread : tracked) {
+      if (thread.threadId() == threadId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void append(long threadId, String name, Thread.State state) {
+    Integer index = indexByThreadId.get(threadId);
+    if (index == null) {
+      if (names.size() == MAX_THREADS) {
+        return;
+      }
+      index = names.size();
+      indexByThreadId.put(threadId, index);
+      names.add(name);
+      threadIds.add(threadId);
+    }
+    long record = ((long) tick << 32) | ((long) index << 8) | state.ordinal();
+    ring.putLong((int) (written % capacity) * Long.BYTES, record);
+    written++;
+  }
+}
@@ -0,0 +1,217 @@
+package com.interviewprep.concurrency.profiling;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline analysis of a {@link ThreadStateRecorder} dump: time spent in each state per thread, a
+ * text timeline with one column per time slice, and folded output ({@code thread;STATE count})
+ * that flame graph tools render directly.
+ */
+public class ThreadStateTimeline {
+  private static final Thread.State[] STATES = Thread.State.values();
+  // Timeline symbols, indexed by Thread.State ordinal
+  private static final char[] SYMBOLS = {'N', 'R', 'B', 'W', 'T', 'X'};
+
+  private final Duration interval;
+  private final long startEpochMillis;
+  private final List<Track> tracks;
+  private final int firstTick;
+  private final int lastTick;
+
+  // The samples of one thread, in tick order
+  private static final class Track {
+    final String name;
+    final long threadId;
+    int[] ticks = new int[16];
+    byte[] states = new byte[16];
+    int size;
+
+    Track(String name, long threadId) {
+      this.name = name;
+      this.threadId = threadId;
+    }
+
+    void add(int tick, int state) {
+      if (size == ticks.length) {
+        ticks = Arrays.copyOf(ticks, size * 2);
+        states = Arrays.copyOf(states, size * 2);
+      }
+      ticks[size] = tick;
+      states[size++] = (byte) state;
+    }
+
+    String label() {
+      return name + "#" + threadId;
+    }
+  }
+
+  private ThreadStateTimeline(Duration interval, long startEpochMillis, List<Track> tracks, int firstTick,
+      int lastTick) {
+    this.interval = interval;
+    this.startEpochMillis = startEpochMillis;
+    this.tracks = tracks;
+    this.firstTick = firstTick;
+    this.lastTick = lastTick;
+  }
+
+  public static ThreadStateTimeline read(Path file) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      return read(in);
+    }
+  }
+
+  public static ThreadStateTimeline read(InputStream stream) throws IOException {
+    DataInputStream in = new DataInputStream(stream);
+    if (in.readInt() != ThreadStateRecorder.MAGIC || in.readInt() != ThreadStateRecorder.VERSION) {
+      throw new IOException("not a thread state timeline");
+    }
+    Duration interval = Duration.ofNanos(in.readLong());
+    long startEpochMillis = in.readLong();
+    int threadCount = in.readInt();
+    List<Track> tracks = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      long threadId = in.readLong();
+      tracks.add(new Track(in.readUTF(), threadId));
+    }
+    int records = in.readInt();
+    int firstTick = Integer.MAX_VALUE;
+    int lastTick = Integer.MIN_VALUE;
+    for (int i = 0; i < records; i++) {
+      long record = in.readLong();
+      int tick = (int) (record >>> 32);
+      int index = (int) (record >>> 8) & (ThreadStateRecorder.MAX_THREADS - 1);
+      int state = (int) record & 0xFF;
+      if (index >= tracks.size() || state >= STATES.length) {
+        throw new IOException("corrupt record " + Long.toHexString(record));
+      }
+      tracks.get(index).add(tick, state);
+      firstTick = Math.min(firstTick, tick);
+      lastTick = Math.max(lastTick, tick);
+    }
+    // Threads whose samples were all overwritten in the ring carry no information
+    tracks.removeIf(track -> track.size == 0);
+    return new ThreadStateTimeline(interval, startEpochMillis, tracks, firstTick, lastTick);
+  }
+
+  public Duration interval() {
+    return interval;
+  }
+
+  public long startEpochMillis() {
+    return startEpochMillis;
+  }
+
+  // Thread labels as "name#id", in order of first appearance
+  public List<String> threads() {
+    return tracks.stream().map(Track::label).toList();
+  }
+
+  // Sampled time per state: samples in the state times the sampling interval
+  public Map<Thread.State, Duration> timeInState(String thread) {
+    Track track = find(thread);
+    long[] counts = stateCounts(track);
+    Map<Thread.State, Duration> result = new EnumMap<>(Thread.State.class);
+    for (Thread.State state : STATES) {
+      result.put(state, interval.multipliedBy(counts[state.ordinal()]));
+    }
+    return result;
+  }
+
+  // Threads sampled in WAITING or TIMED_WAITING at least `minFraction` of the time they were alive
+  public List<String> mostlyWaiting(double minFraction) {
+    List<String> result = new ArrayList<>();
+    for (Track track : tracks) {
+      long[] counts = stateCounts(track);
+      long alive = track.size - counts[Thread.State.NEW.ordinal()] - counts[Thread.State.TERMINATED.ordinal()];
+      long waiting = counts[Thread.State.WAITING.ordinal()] + counts[Thread.State.TIMED_WAITING.ordinal()];
+      if (alive > 0 && waiting >= minFraction * alive) {
+        result.add(track.label());
+      }
+    }
+    return result;
+  }
+
+  public String breakdown() {
+    StringBuilder sb = new StringBuilder(String.format("%-28s", "thread"));
+    for (Thread.State state : STATES) {
+      sb.append(String.format(" %13s", state));
+    }
+    for (Track track : tracks) {
+      long[] counts = stateCounts(track);
+      sb.append(System.lineSeparator()).append(String.format("%-28s", track.label()));
+      for (Thread.State state : STATES) {
+        long millis = interval.multipliedBy(counts[state.ordinal()]).toMillis();
+        sb.append(String.format(" %7d ms %2d%%", millis, 100 * counts[state.ordinal()] / track.size));
+      }
+    }
+    return sb.toString();
+  }
+
+  // One row per thread and `width` columns; each column shows the most-sampled state in that time slice
+  public String render(int width) {
+    int span = lastTick - firstTick + 1;
+    StringBuilder sb = new StringBuilder();
+    sb.append("N=NEW R=RUNNABLE B=BLOCKED W=WAITING T=TIMED_WAITING X=TERMINATED, ")
+        .append(interval.multipliedBy(span).toMillis() / width).append(" ms per column");
+    for (Track track : tracks) {
+      int[][] columnCounts = new int[width][STATES.length];
+      for (int i = 0; i < track.size; i++) {
+        int column = (int) ((long) (track.ticks[i] - firstTick) * width / span);
+        columnCounts[column][track.states[i]]++;
+      }
+      sb.append(System.lineSeparator()).append(String.format("%-28s |", track.label()));
+      for (int[] counts : columnCounts) {
+        int best = -1;
+        for (int state = 0; state < counts.length; state++) {
+          if (counts[state] > 0 && (best < 0 || counts[state] > counts[best])) {
+            best = state;
+          }
+        }
+        sb.append(best < 0 ? ' ' : SYMBOLS[best]);
+      }
+      sb.append('|');
+    }
+    return sb.toString();
+  }
+
+  // "thread;STATE samples" lines, the folded-stack input of flamegraph.pl and similar tools
+  public void writeFolded(Appendable out) throws IOException {
+    for (Track track : tracks) {
+      long[] counts = stateCounts(track);
+      for (Thread.State state : STATES) {
+        if (counts[state.ordinal()] > 0) {
+          out.append(track.label().replace(';', '_')).append(';').append(state.name()).append(' ')
+              .append(Long.toString(counts[state.ordinal()])).append('\n');
+        }
+      }
+    }
+  }
+
+  private Track find(String thread) {
+    for (Track track : tracks) {
+      if (track.label().equals(thread)) {
+        return track;
+      }
+    }
+    throw new IllegalArgumentException("no samples for thread " + thread);
+  }
+
+  private static long[] stateCounts(Track track) {
+    long[] counts = new long[STATES.length];
+    for (int i = 0; i < track.size; i++) {
+      counts[track.states[i]]++;
+    }
+    return counts;
+  }
+}
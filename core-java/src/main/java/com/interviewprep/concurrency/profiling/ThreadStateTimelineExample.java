@@ -0,0 +1,65 @@
+package com.interviewprep.concurrency.profiling;
+
+import com.interviewprep.concurrency.thread.lifecycle.states.all.MyThread;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+public class ThreadStateTimelineExample {
+  public static void main(String[] args) throws InterruptedException, IOException {
+    ThreadStateRecorder recorder = ThreadStateRecorder.start(Duration.ofMillis(10), 16_384, false);
+
+    // The lifecycle.states.all scenario: MyThread sleeps, then blocks on MyThread.class held by main
+    MyThread myThread = new MyThread();
+    // A worker that mostly waits for work, the pattern the analyzer should flag
+    CountDownLatch work = new CountDownLatch(1);
+    Thread idleWorker = new Thread(() -> {
+      try {
+        work.await();
+        busyWork(Duration.ofMillis(300));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, "IdleWorker");
+    recorder.track(myThread, idleWorker, Thread.currentThread());
+
+    Thread.sleep(200); // Both threads are NEW for a while
+    myThread.start();
+    idleWorker.start();
+    Thread.sleep(100);
+    synchronized (MyThread.class) {
+      Thread.sleep(2000);
+    }
+    myThread.join();
+    work.countDown();
+    idleWorker.join();
+    Thread.sleep(200);
+
+    Path dump = Files.createTempFile("thread-states", ".bin");
+    recorder.writeTo(dump);
+    recorder.close();
+    System.out.println("Recorded " + recorder.samplesWritten() + " samples into " + Files.size(dump) + " bytes");
+
+    // Offline part: read the dump back and analyze it
+    ThreadStateTimeline timeline = ThreadStateTimeline.read(dump);
+    System.out.println(timeline.breakdown());
+    System.out.println();
+    System.out.println(timeline.render(64));
+    System.out.println();
+    System.out.println("Waiting at least 80% of their lifetime: " + timeline.mostlyWaiting(0.8));
+    System.out.println();
+    StringBuilder folded = new StringBuilder();
+    timeline.writeFolded(folded);
+    System.out.print(folded);
+    Files.delete(dump);
+  }
+
+  private static void busyWork(Duration duration) {
+    long end = System.nanoTime() + duration.toNanos();
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
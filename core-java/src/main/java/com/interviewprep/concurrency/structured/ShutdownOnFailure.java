@@ -0,0 +1,54 @@
+package com.interviewprep.concurrency.structured;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// All subtasks must succeed: the first failure shuts the scope down and interrupts the rest
+public class ShutdownOnFailure extends TaskScope {
+  private final AtomicReference<Throwable> firstException = new AtomicReference<>();
+
+  public ShutdownOnFailure(String name) {
+    super(name);
+  }
+
+  public ShutdownOnFailure(ThreadFactory factory) {
+    super(factory);
+  }
+
+  @Override
+  protected void handleComplete(Subtask<?> subtask) {
+    if (subtask.state() == Subtask.State.FAILED && firstException.compareAndSet(null, subtask.exception())) {
+      shutdown();
+    }
+  }
+
+  @Override
+  public ShutdownOnFailure join() throws InterruptedException {
+    super.join();
+    return this;
+  }
+
+  @Override
+  public ShutdownOnFailure joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+    super.joinUntil(deadline);
+    return this;
+  }
+
+  public Optional<Throwable> exception() {
+    ensureOwner();
+    return Optional.ofNullable(firstException.get());
+  }
+
+  // Rethrows the first failure, if any, wrapped like Future.get does
+  public void throwIfFailed() throws ExecutionException {
+    ensureOwner();
+    Throwable exception = firstException.get();
+    if (exception != null) {
+      throw new ExecutionException(exception);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.interviewprep.concurrency.structured;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Any subtask will do: the first success shuts the scope down and interrupts the rest
+public class ShutdownOnSuccess<T> extends TaskScope {
+  private final AtomicReference<Subtask<? extends T>> firstSuccess = new AtomicReference<>();
+  private final AtomicReference<Throwable> firstException = new AtomicReference<>();
+
+  public ShutdownOnSuccess(String name) {
+    super(name);
+  }
+
+  public ShutdownOnSuccess(ThreadFactory factory) {
+    super(factory);
+  }
+
+  @Override
+  protected void handleComplete(Subtask<?> subtask) {
+    if (subtask.state() == Subtask.State.SUCCESS) {
+      @SuppressWarnings("unchecked")
+      Subtask<? extends T> success = (Subtask<? extends T>) subtask;
+      if (firstSuccess.compareAndSet(null, success)) {
+        shutdown();
+      }
+    } else {
+      firstException.compareAndSet(null, subtask.exception());
+    }
+  }
+
+  @Override
+  public ShutdownOnSuccess<T> join() throws InterruptedException {
+    super.join();
+    return this;
+  }
+
+  @Override
+  public ShutdownOnSuccess<T> joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+    super.joinUntil(deadline);
+    return this;
+  }
+
+  // The first successful result, or the first failure if every subtask failed
+  public T result() throws ExecutionException {
+    ensureOwner();
+    Subtask<? extends T> success = firstSuccess.get();
+    if (success != null) {
+      return success.get();
+    }
+    Throwable exception = firstException.get();
+    if (exception != null) {
+      throw new ExecutionException(exception);
+    }
+    throw new IllegalStateException("no subtask completed");
+  }
+}
@@ -0,0 +1,68 @@
+package com.interviewprep.concurrency.structured;
+
+import com.interviewprep.concurrency.structured.TaskScope.Subtask;
+import com.interviewprep.concurrency.thread.runnable_shared_resource.CounterTask;
+import com.interviewprep.concurrency.thread.runnable_shared_resource.SharedCounter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+public class StructuredFanOutExample {
+  public static void main(String[] args) throws InterruptedException {
+    // runnable_shared_resource.Main, but the request gives up after 2.5 seconds instead of joining forever
+    SharedCounter counter = new SharedCounter();
+    long start = System.nanoTime();
+    try (TaskScope scope = new ShutdownOnFailure("counter")) {
+      for (int i = 0; i < 3; i++) {
+        scope.fork(Executors.callable(new CounterTask(counter)));
+      }
+      scope.joinUntil(Instant.now().plus(Duration.ofMillis(2500)));
+    } catch (TimeoutException e) {
+      // CounterTask ignores the interrupt beyond skipping its remaining sleeps, so it still reaches 15
+      System.out.println("Deadline passed, counter tasks interrupted");
+    }
+    System.out.println("Final counter value: " + counter.getCount() + " after " + millisSince(start) + " ms");
+
+    // One failing subtask cancels its slow siblings instead of waiting for them
+    start = System.nanoTime();
+    try (ShutdownOnFailure scope = new ShutdownOnFailure("request")) {
+      Subtask<String> user = scope.fork(() -> work("user", 3000));
+      Subtask<String> orders = scope.fork(() -> work("orders", 3000));
+      scope.fork(() -> {
+        Thread.sleep(200);
+        throw new IllegalStateException("inventory service unavailable");
+      });
+      scope.join().throwIfFailed();
+      System.out.println(user.get() + ", " + orders.get());
+    } catch (ExecutionException e) {
+      System.out.println("Request failed after " + millisSince(start) + " ms: " + e.getCause().getMessage());
+    }
+
+    // The fastest replica wins and the others are interrupted
+    start = System.nanoTime();
+    try (ShutdownOnSuccess<String> scope = new ShutdownOnSuccess<>("replica")) {
+      scope.fork(() -> work("replica-a", 300));
+      scope.fork(() -> work("replica-b", 100));
+      scope.fork(() -> work("replica-c", 500));
+      System.out.println("Fastest: " + scope.join().result() + " after " + millisSince(start) + " ms");
+    } catch (ExecutionException e) {
+      System.out.println("Every replica failed: " + e.getCause());
+    }
+  }
+
+  private static String work(String name, long millis) throws InterruptedException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      System.out.println(name + " interrupted");
+      throw e;
+    }
+    return name + " done";
+  }
+
+  private static long millisSince(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
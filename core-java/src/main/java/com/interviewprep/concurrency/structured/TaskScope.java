@@ -0,0 +1,240 @@
+package com.interviewprep.concurrency.structured;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fan-out/join scope modelled on the JDK's preview {@code StructuredTaskScope}, built on plain
+ * threads so it needs no {@code --enable-preview}. The owner forks subtasks, then joins them, and
+ * closing the scope interrupts and waits for any that are still running, so no thread outlives the
+ * block that started it:
+ *
+ * <pre>{@code
+ * try (var scope = new ShutdownOnFailure("order")) {
+ *   Subtask<User> user = scope.fork(() -> findUser(id));
+ *   Subtask<Order> order = scope.fork(() -> fetchOrder(id));
+ *   scope.joinUntil(deadline).throwIfFailed();
+ *   return new Response(user.get(), order.get());
+ * }
+ * }</pre>
+ *
+ * <p>Subclasses pick a policy by overriding {@link #handleComplete} and calling {@link #shutdown},
+ * which interrupts every sibling still running.
+ */
+public class TaskScope implements AutoCloseable {
+  private final ThreadFactory factory;
+  private final Thread owner = Thread.currentThread();
+  private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private int running;
+  private volatile boolean shutdown;
+  private boolean closed;
+
+  // Subtasks run on virtual threads named after the scope
+  public TaskScope(String name) {
+    this(Thread.ofVirtual().name(name + "-", 0).factory());
+  }
+
+  public TaskScope(ThreadFactory factory) {
+    this.factory = factory;
+  }
+
+  public interface Subtask<T> {
+    enum State { UNAVAILABLE, SUCCESS, FAILED }
+
+    State state();
+
+    // The result; only valid once the subtask completed with SUCCESS
+    T get();
+
+    // The exception thrown; only valid once the subtask completed with FAILED
+    Throwable exception();
+  }
+
+  // Starts a subtask in its own thread; after shutdown the task is not run and stays UNAVAILABLE
+  public <U> Subtask<U> fork(Callable<? extends U> task) {
+    if (Thread.currentThread() != owner && !threads.contains(Thread.currentThread())) {
+      throw new IllegalStateException("fork called from outside the scope");
+    }
+    SubtaskImpl<U> subtask = new SubtaskImpl<>(task);
+    Thread thread;
+    lock.lock();
+    try {
+      if (closed) {
+        throw new IllegalStateException("scope is closed");
+      }
+      if (shutdown) {
+        return subtask;
+      }
+      thread = factory.newThread(() -> runSubtask(subtask));
+      threads.add(thread);
+      running++;
+    } finally {
+      lock.unlock();
+    }
+    thread.start();
+    return subtask;
+  }
+
+  // Waits until every subtask has completed or the scope was shut down
+  public TaskScope join() throws InterruptedException {
+    ensureOwner();
+    lock.lock();
+    try {
+      while (running > 0 && !shutdown) {
+        changed.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return this;
+  }
+
+  // Like join, but shuts the scope down and throws once the deadline passes
+  public TaskScope joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+    ensureOwner();
+    boolean timedOut = false;
+    lock.lock();
+    try {
+      long remaining = Duration.between(Instant.now(), deadline).toNanos();
+      while (running > 0 && !shutdown && !timedOut) {
+        if (remaining <= 0) {
+          timedOut = true;
+        } else {
+          remaining = changed.awaitNanos(remaining);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (timedOut) {
+      shutdown();
+      throw new TimeoutException("subtasks still running at " + deadline);
+    }
+    return this;
+  }
+
+  // Stops new subtasks from starting, interrupts running ones and wakes up the owner in join
+  public void shutdown() {
+    List<Thread> toInterrupt;
+    lock.lock();
+    try {
+      if (shutdown) {
+        return;
+      }
+      shutdown = true;
+      toInterrupt = new ArrayList<>(threads);
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    for (Thread thread : toInterrupt) {
+      if (thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    }
+  }
+
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  // Shuts down and waits for every thread to finish, so no subtask outlives the scope
+  @Override
+  public void close() {
+    ensureOwner();
+    shutdown();
+    lock.lock();
+    try {
+      while (running > 0) {
+        changed.awaitUninterruptibly();
+      }
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Called in the subtask's thread when it completes, unless the scope is already shut down
+  protected void handleComplete(Subtask<?> subtask) {
+  }
+
+  protected final void ensureOwner() {
+    if (Thread.currentThread() != owner) {
+      throw new IllegalStateException("only the thread that opened the scope may join or close it");
+    }
+  }
+
+  private <U> void runSubtask(SubtaskImpl<U> subtask) {
+    try {
+      if (!shutdown) {
+        subtask.run();
+        if (!shutdown) {
+          handleComplete(subtask);
+        }
+      }
+    } finally {
+      lock.lock();
+      try {
+        threads.remove(Thread.currentThread());
+        if (--running == 0) {
+          changed.signalAll();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private static final class SubtaskImpl<T> implements Subtask<T> {
+    private final Callable<? extends T> task;
+    private T result;
+    private Throwable exception;
+    private volatile State state = State.UNAVAILABLE;
+
+    SubtaskImpl(Callable<? extends T> task) {
+      this.task = task;
+    }
+
+    void run() {
+      try {
+        result = task.call();
+        state = State.SUCCESS;
+      } catch (Throwable e) {
+        exception = e;
+        state = State.FAILED;
+      }
+    }
+
+    @Override
+    public State state() {
+      return state;
+    }
+
+    @Override
+    public T get() {
+      if (state != State.SUCCESS) {
+        throw new IllegalStateException("subtask " + state);
+      }
+      return result;
+    }
+
+    @Override
+    public Throwable exception() {
+      if (state != State.FAILED) {
+        throw new IllegalStateException("subtask " + state);
+      }
+      return exception;
+    }
+  }
+}
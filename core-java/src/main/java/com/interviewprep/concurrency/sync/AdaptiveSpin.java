@@ -0,0 +1,30 @@
+package com.interviewprep.concurrency.sync;
+
+import java.util.function.BooleanSupplier;
+
+// Spin budget that grows while spinning pays off and shrinks when the waiter ends up parking anyway
+final class AdaptiveSpin {
+  private static final boolean MULTI_CORE = Runtime.getRuntime().availableProcessors() > 1;
+  private static final int MIN_SPINS = 16;
+  private static final int MAX_SPINS = 1 << 14;
+
+  // Racy updates are fine: the budget is a heuristic, not state
+  private int limit = 256;
+
+  boolean spinUntil(BooleanSupplier condition) {
+    if (!MULTI_CORE) {
+      // The thread we are waiting for cannot run while we spin
+      return condition.getAsBoolean();
+    }
+    int spins = limit;
+    for (int i = 0; i < spins; i++) {
+      if (condition.getAsBoolean()) {
+        limit = Math.min(MAX_SPINS, spins << 1);
+        return true;
+      }
+      Thread.onSpinWait();
+    }
+    limit = Math.max(MIN_SPINS, spins >> 1);
+    return false;
+  }
+}
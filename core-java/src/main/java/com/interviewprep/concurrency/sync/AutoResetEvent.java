@@ -0,0 +1,66 @@
+package com.interviewprep.concurrency.sync;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A reusable signal that releases exactly one waiter per {@link #set}, then closes again. A set
+ * with nobody waiting is remembered (at most one), so a notify that arrives before the wait is not
+ * lost as it is with {@code WaitingExample}. A set that finds a queued waiter hands the signal to
+ * that waiter's node instead of the shared flag, so concurrent sets each release their own waiter.
+ */
+public class AutoResetEvent {
+  private static final VarHandle SIGNALLED;
+
+  static {
+    try {
+      SIGNALLED = MethodHandles.lookup().findVarHandle(AutoResetEvent.class, "signalled", boolean.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final WaitQueue waiters = new WaitQueue();
+  private final AdaptiveSpin spin = new AdaptiveSpin();
+  private volatile boolean signalled;
+
+  public void set() {
+    while (!waiters.wakeOne()) {
+      signalled = true;
+      // A waiter that enqueued before our store may have missed it: take the flag back and hand off
+      if (!waiters.hasWaiters() || !SIGNALLED.compareAndSet(this, true, false)) {
+        return;
+      }
+    }
+  }
+
+  public boolean tryAcquire() {
+    return signalled && SIGNALLED.compareAndSet(this, true, false);
+  }
+
+  public void await() throws InterruptedException {
+    if (tryAcquire() || spin.spinUntil(this::tryAcquire)) {
+      return;
+    }
+    WaitQueue.Node node = waiters.enqueue();
+    if (tryAcquire()) {
+      if (!waiters.cancel(node)) {
+        // A set also handed its signal to our node; we only need one, so pass the other on
+        set();
+      }
+      return;
+    }
+    while (!waiters.isWoken(node)) {
+      LockSupport.park(this);
+      if (Thread.interrupted()) {
+        if (!waiters.cancel(node)) {
+          // We were handed a signal we will not take; pass it on
+          set();
+        }
+        throw new InterruptedException();
+      }
+    }
+    // Woken means the signal was handed to this node, so there is nothing left to race for
+  }
+}
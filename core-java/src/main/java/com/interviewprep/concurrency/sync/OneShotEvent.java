@@ -0,0 +1,62 @@
+package com.interviewprep.concurrency.sync;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A gate that opens once and stays open. Unlike {@code wait()}/{@code notify()}, a {@link #set}
+ * that happens before the waiter arrives is not lost, and neither side takes a monitor. Waiters spin
+ * briefly (adaptively, and only on multi-core machines) before parking.
+ */
+public class OneShotEvent {
+  private final WaitQueue waiters = new WaitQueue();
+  private final AdaptiveSpin spin = new AdaptiveSpin();
+  private volatile boolean set;
+
+  public boolean isSet() {
+    return set;
+  }
+
+  public void set() {
+    set = true;
+    waiters.wakeAll();
+  }
+
+  public void await() throws InterruptedException {
+    if (set || spin.spinUntil(this::isSet)) {
+      return;
+    }
+    WaitQueue.Node node = waiters.enqueue();
+    while (!set) {
+      LockSupport.park(this);
+      if (Thread.interrupted()) {
+        waiters.cancel(node);
+        throw new InterruptedException();
+      }
+    }
+    waiters.cancel(node);
+  }
+
+  // Returns false if the timeout elapsed before the event was set
+  public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+    if (set || spin.spinUntil(this::isSet)) {
+      return true;
+    }
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    WaitQueue.Node node = waiters.enqueue();
+    while (!set) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        waiters.cancel(node);
+        return set;
+      }
+      LockSupport.parkNanos(this, remaining);
+      if (Thread.interrupted()) {
+        waiters.cancel(node);
+        throw new InterruptedException();
+      }
+    }
+    waiters.cancel(node);
+    return true;
+  }
+}
@@ -0,0 +1,131 @@
+package com.interviewprep.concurrency.sync;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+public class ParkingPrimitivesExample {
+  private static final int ITERATIONS = 5_000;
+
+  // One wait/wake pair; a fresh one per iteration unless the primitive is reusable
+  private interface Handoff {
+    void await() throws InterruptedException;
+
+    void signal();
+  }
+
+  private static volatile long signalledAt;
+
+  public static void main(String[] args) throws Exception {
+    barrierDemo();
+
+    System.out.println("Wakeup latency, signal() to the waiter running again (" + ITERATIONS + " handoffs):");
+    measure("wait/notify", ParkingPrimitivesExample::monitorHandoff);
+    measure("CountDownLatch", () -> {
+      CountDownLatch latch = new CountDownLatch(1);
+      return handoff(latch::await, latch::countDown);
+    });
+    measure("OneShotEvent", () -> {
+      OneShotEvent event = new OneShotEvent();
+      return handoff(event::await, event::set);
+    });
+    AutoResetEvent shared = new AutoResetEvent();
+    measure("AutoResetEvent", () -> handoff(shared::await, shared::set));
+    // One latch for every handoff; the waiter re-arms it after each release
+    ResettableLatch latch = new ResettableLatch(1);
+    measure("ResettableLatch", () -> handoff(() -> {
+      latch.await();
+      latch.reset(1);
+    }, latch::countDown));
+  }
+
+  // Three workers step through phases together, like threads joined after every round
+  private static void barrierDemo() throws InterruptedException {
+    PhasedBarrier barrier = new PhasedBarrier(3);
+    Thread[] workers = new Thread[3];
+    for (int w = 0; w < workers.length; w++) {
+      workers[w] = new Thread(() -> {
+        try {
+          for (int round = 0; round < 3; round++) {
+            int phase = barrier.arriveAndAwait();
+            System.out.println(Thread.currentThread().getName() + " passed phase " + phase);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, "Worker-" + w);
+      workers[w].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    System.out.println("Barrier now at phase " + barrier.getPhase());
+  }
+
+  private static void measure(String name, Supplier<Handoff> factory) throws InterruptedException {
+    Handoff[] handoffs = new Handoff[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      handoffs[i] = factory.get();
+    }
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread waiter = new Thread(() -> {
+      try {
+        for (Handoff handoff : handoffs) {
+          handoff.await();
+          histogram.record(System.nanoTime() - signalledAt);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, "Waiter");
+    waiter.start();
+    for (Handoff handoff : handoffs) {
+      // Signal only once the waiter is actually parked, so we time a real wakeup
+      while (waiter.getState() != Thread.State.WAITING) {
+        Thread.yield();
+      }
+      long recorded = histogram.count();
+      signalledAt = System.nanoTime();
+      handoff.signal();
+      while (histogram.count() == recorded && waiter.isAlive()) {
+        Thread.yield();
+      }
+    }
+    waiter.join();
+    System.out.printf("%-16s %s%n", name, histogram.summary());
+  }
+
+  private interface Await {
+    void await() throws InterruptedException;
+  }
+
+  private static Handoff handoff(Await await, Runnable signal) {
+    return new Handoff() {
+      @Override
+      public void await() throws InterruptedException {
+        await.await();
+      }
+
+      @Override
+      public void signal() {
+        signal.run();
+      }
+    };
+  }
+
+  private static Handoff monitorHandoff() {
+    Object monitor = new Object();
+    boolean[] notified = {false};
+    return handoff(() -> {
+      synchronized (monitor) {
+        while (!notified[0]) {
+          monitor.wait();
+        }
+      }
+    }, () -> {
+      synchronized (monitor) {
+        notified[0] = true;
+        monitor.notify();
+      }
+    });
+  }
+}
@@ -0,0 +1,62 @@
+package com.interviewprep.concurrency.sync;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A cyclic barrier for a fixed number of parties, numbered by phase like {@link
+ * java.util.concurrent.Phaser}. The last party to arrive advances the phase and releases the others
+ * without any lock; everyone else parks on that phase's {@link OneShotEvent}.
+ */
+public class PhasedBarrier {
+  private record Phase(int number, AtomicInteger arrived, OneShotEvent released) {
+  }
+
+  private final int parties;
+  private volatile Phase phase;
+
+  public PhasedBarrier(int parties) {
+    if (parties <= 0) {
+      throw new IllegalArgumentException("parties must be positive");
+    }
+    this.parties = parties;
+    this.phase = newPhase(0);
+  }
+
+  public int getPhase() {
+    return phase.number();
+  }
+
+  // Arrives without waiting; returns the phase arrived at
+  public int arrive() {
+    Phase current = phase;
+    if (current.arrived().incrementAndGet() == parties) {
+      phase = newPhase(current.number() + 1);
+      current.released().set();
+    }
+    return current.number();
+  }
+
+  // Arrives and waits for the other parties; returns the phase that was completed
+  public int arriveAndAwait() throws InterruptedException {
+    Phase current = phase;
+    if (current.arrived().incrementAndGet() == parties) {
+      phase = newPhase(current.number() + 1);
+      current.released().set();
+    } else {
+      current.released().await();
+    }
+    return current.number();
+  }
+
+  // Waits until the given phase has completed; returns immediately if it already has
+  public void awaitAdvance(int phaseNumber) throws InterruptedException {
+    Phase current = phase;
+    if (current.number() == phaseNumber) {
+      current.released().await();
+    }
+  }
+
+  private static Phase newPhase(int number) {
+    return new Phase(number, new AtomicInteger(), new OneShotEvent());
+  }
+}
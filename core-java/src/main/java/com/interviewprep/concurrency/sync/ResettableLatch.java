@@ -0,0 +1,61 @@
+package com.interviewprep.concurrency.sync;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A CountDownLatch that can be re-armed once it has reached zero, instead of allocating a new one per round
+public class ResettableLatch {
+  private record Round(AtomicInteger count, OneShotEvent done) {
+  }
+
+  private volatile Round round;
+
+  public ResettableLatch(int count) {
+    round = newRound(count);
+  }
+
+  public void countDown() {
+    Round current = round;
+    int count;
+    do {
+      count = current.count().get();
+      if (count == 0) {
+        return;
+      }
+    } while (!current.count().compareAndSet(count, count - 1));
+    if (count == 1) {
+      current.done().set();
+    }
+  }
+
+  public long getCount() {
+    return round.count().get();
+  }
+
+  public void await() throws InterruptedException {
+    round.done().await();
+  }
+
+  public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+    return round.done().await(timeout, unit);
+  }
+
+  // Starts a new round; waiters of the finished round have all been released already
+  public synchronized void reset(int count) {
+    if (round.count().get() != 0) {
+      throw new IllegalStateException("latch still has count " + round.count().get());
+    }
+    round = newRound(count);
+  }
+
+  private static Round newRound(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count < 0");
+    }
+    Round round = new Round(new AtomicInteger(count), new OneShotEvent());
+    if (count == 0) {
+      round.done().set();
+    }
+    return round;
+  }
+}
@@ -0,0 +1,102 @@
+package com.interviewprep.concurrency.sync;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// Lock-free stack of parked threads. A node is woken or cancelled exactly once, decided by CAS, and
+// cancelled nodes are unlinked at once so waits that keep timing out do not grow the stack.
+final class WaitQueue {
+  private static final int WAITING = 0;
+  private static final int WOKEN = 1;
+  private static final int CANCELLED = 2;
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup().findVarHandle(Node.class, "state", int.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  static final class Node {
+    final Thread thread = Thread.currentThread();
+    volatile Node next;
+    volatile int state;
+  }
+
+  private final AtomicReference<Node> head = new AtomicReference<>();
+
+  // Registers the calling thread; callers must re-check their condition before parking
+  Node enqueue() {
+    Node node = new Node();
+    do {
+      node.next = head.get();
+    } while (!head.compareAndSet(node.next, node));
+    return node;
+  }
+
+  boolean isWoken(Node node) {
+    return node.state == WOKEN;
+  }
+
+  // False if a waker already claimed the node
+  boolean cancel(Node node) {
+    if (!STATE.compareAndSet(node, WAITING, CANCELLED)) {
+      return false;
+    }
+    unlinkCancelled();
+    return true;
+  }
+
+  // Nodes are only ever pushed at the head, and a sweep only skips nodes it has seen cancelled, so
+  // racing sweeps can at worst relink a cancelled node for the next sweep; never a waiting one
+  private void unlinkCancelled() {
+    Node first = head.get();
+    while (first != null && first.state == CANCELLED) {
+      Node next = first.next;
+      first = head.compareAndSet(first, next) ? next : head.get();
+    }
+    if (first == null) {
+      return;
+    }
+    Node pred = first;
+    for (Node node = first.next; node != null; ) {
+      Node next = node.next;
+      if (node.state == CANCELLED) {
+        pred.next = next;
+      } else {
+        pred = node;
+      }
+      node = next;
+    }
+  }
+
+  void wakeAll() {
+    for (Node node = head.getAndSet(null); node != null; node = node.next) {
+      if (STATE.compareAndSet(node, WAITING, WOKEN)) {
+        LockSupport.unpark(node.thread);
+      }
+    }
+  }
+
+  // Wakes the most recent live waiter, skipping cancelled nodes
+  boolean wakeOne() {
+    while (true) {
+      Node node = head.get();
+      if (node == null) {
+        return false;
+      }
+      if (head.compareAndSet(node, node.next) && STATE.compareAndSet(node, WAITING, WOKEN)) {
+        LockSupport.unpark(node.thread);
+        return true;
+      }
+    }
+  }
+
+  boolean hasWaiters() {
+    return head.get() != null;
+  }
+}
@@ -0,0 +1,25 @@
+package com.interviewprep.concurrency.thread.lifecycle.states.blocked;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// SharedResource without the monitor: a virtual thread that sleeps here unmounts from its carrier
+public class LockedSharedResource {
+  private final ReentrantLock lock = new ReentrantLock();
+
+  void access() {
+    lock.lock();
+    try {
+      System.out.println(Thread.currentThread().getName() + " got the lock.");
+
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException e) {
+        e.printStackTrace();
+      }
+
+      System.out.println(Thread.currentThread().getName() + " is releasing the lock.");
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.interviewprep.concurrency.thread.lifecycle.states.blocked;
+
+import com.interviewprep.concurrency.thread.task_runner.PinningDetector;
+
+public class PinningCheck {
+  public static void main(String[] args) {
+    PinningDetector detector = new PinningDetector();
+
+    // Two virtual threads contend for the resource, as Thread-0 and Thread-1 do in Main
+    SharedResource resource = new SharedResource();
+    detector.check("SharedResource.access (synchronized)", resource::access, 2);
+
+    LockedSharedResource lockedResource = new LockedSharedResource();
+    detector.check("LockedSharedResource.access (ReentrantLock)", lockedResource::access, 2);
+  }
+}
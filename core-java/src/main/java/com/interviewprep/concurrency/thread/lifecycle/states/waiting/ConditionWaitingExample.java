@@ -0,0 +1,39 @@
+package com.interviewprep.concurrency.thread.lifecycle.states.waiting;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// WaitingExample on a Condition, which lets a waiting virtual thread unmount from its carrier
+public class ConditionWaitingExample {
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notified = lock.newCondition();
+  private boolean signalled;
+
+  void waitingMethod() {
+    lock.lock();
+    try {
+      System.out.println(Thread.currentThread().getName() + " is waiting...");
+      // The flag guards against spurious wakeups and a signal sent before we started waiting
+      while (!signalled) {
+        notified.await(); // Thread enters WAITING state
+      }
+      signalled = false;
+      System.out.println(Thread.currentThread().getName() + " resumed...");
+    } catch (InterruptedException e) {
+      e.printStackTrace();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void notifyingMethod() {
+    lock.lock();
+    try {
+      signalled = true;
+      notified.signal(); // Notify the waiting thread
+      System.out.println("Thread notified...");
+    } finally {
+      lock.unlock();
+    }
+  }
+}
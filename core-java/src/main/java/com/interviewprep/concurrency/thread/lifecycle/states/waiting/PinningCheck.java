@@ -0,0 +1,32 @@
+package com.interviewprep.concurrency.thread.lifecycle.states.waiting;
+
+import com.interviewprep.concurrency.thread.task_runner.PinningDetector;
+
+public class PinningCheck {
+  public static void main(String[] args) {
+    PinningDetector detector = new PinningDetector();
+
+    detector.check("WaitingExample (wait/notify)", () -> {
+      WaitingExample obj = new WaitingExample();
+      waitThenNotify(obj::waitingMethod, obj::notifyingMethod);
+    }, 1);
+
+    detector.check("ConditionWaitingExample (Condition)", () -> {
+      ConditionWaitingExample obj = new ConditionWaitingExample();
+      waitThenNotify(obj::waitingMethod, obj::notifyingMethod);
+    }, 1);
+  }
+
+  // Same sequence as Main, with the waiter on a virtual thread
+  private static void waitThenNotify(Runnable waiting, Runnable notifying) {
+    Thread t1 = Thread.ofVirtual().name("virtual-waiter").start(waiting);
+    try {
+      Thread.sleep(1000);
+      System.out.println("Thread state: " + t1.getState()); // WAITING
+      notifying.run();
+      t1.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
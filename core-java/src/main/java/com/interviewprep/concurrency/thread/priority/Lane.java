@@ -0,0 +1,26 @@
+package com.interviewprep.concurrency.thread.priority;
+
+// Priority lanes of a PriorityScheduler; the weight is each lane's share of dequeues under contention
+public enum Lane {
+  HIGH(6),
+  NORMAL(3),
+  LOW(1);
+
+  private final int weight;
+
+  Lane(int weight) {
+    this.weight = weight;
+  }
+
+  public int weight() {
+    return weight;
+  }
+
+  // Maps a Thread priority (1-10) to a lane, for code moving off Thread.setPriority
+  public static Lane forThreadPriority(int priority) {
+    if (priority > Thread.NORM_PRIORITY) {
+      return HIGH;
+    }
+    return priority < Thread.NORM_PRIORITY ? LOW : NORMAL;
+  }
+}
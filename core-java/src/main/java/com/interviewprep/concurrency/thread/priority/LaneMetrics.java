@@ -0,0 +1,64 @@
+package com.interviewprep.concurrency.thread.priority;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free wait-time recorder for one lane, updated by every worker
+class LaneMetrics {
+  private static final int BUCKETS = 40;
+
+  private final Lane lane;
+  private final LongAdder dispatched = new LongAdder();
+  private final LongAdder aged = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+  // Bucket i counts waits below 2^i microseconds
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+  LaneMetrics(Lane lane) {
+    this.lane = lane;
+  }
+
+  void record(long waitNanos, boolean wasAged) {
+    dispatched.increment();
+    if (wasAged) {
+      aged.increment();
+    }
+    totalWaitNanos.add(waitNanos);
+    maxWaitNanos.accumulate(waitNanos);
+    long micros = waitNanos / 1000;
+    int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    histogram.incrementAndGet(bucket);
+  }
+
+  LaneStats snapshot() {
+    long count = dispatched.sum();
+    Duration mean = count == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / count);
+    Duration max = Duration.ofNanos(maxWaitNanos.get());
+    return new LaneStats(lane, count, aged.sum(), mean, min(percentile(0.50), max), min(percentile(0.99), max), max);
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private Duration percentile(double fraction) {
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = histogram.get(i);
+      total += counts[i];
+    }
+    long rank = (long) Math.ceil(total * fraction);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (total > 0 && seen >= rank) {
+        return Duration.ofNanos((1L << i) * 1000);
+      }
+    }
+    return Duration.ZERO;
+  }
+}
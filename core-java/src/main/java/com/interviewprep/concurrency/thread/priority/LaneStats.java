@@ -0,0 +1,15 @@
+package com.interviewprep.concurrency.thread.priority;
+
+import java.time.Duration;
+
+// Queue-wait figures for one lane; percentiles are upper bounds of power-of-two microsecond buckets
+public record LaneStats(Lane lane, long dispatched, long aged, Duration meanWait, Duration p50Wait,
+    Duration p99Wait, Duration maxWait) {
+
+  @Override
+  public String toString() {
+    return String.format("%-6s dispatched=%6d aged=%5d wait mean=%6d us p50<=%6d us p99<=%7d us max=%7d us",
+        lane, dispatched, aged, meanWait.toNanos() / 1000, p50Wait.toNanos() / 1000, p99Wait.toNanos() / 1000,
+        maxWait.toNanos() / 1000);
+  }
+}
@@ -0,0 +1,253 @@
+package com.interviewprep.concurrency.thread.priority;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A user-space scheduler that enforces priorities itself instead of relying on {@link
+ * Thread#setPriority}, which Linux ignores for normal threads. Each worker owns one deque per
+ * {@link Lane}. An idle worker steals from the other workers. Lanes share the workers by weight
+ * (smooth weighted round-robin), so {@code HIGH} work gets ahead without starving {@code LOW}.
+ * Any task that has waited longer than the aging threshold is dispatched next, whatever its lane.
+ */
+public class PriorityScheduler implements AutoCloseable {
+  private static final Lane[] LANES = Lane.values();
+  private static final long PARK_NANOS = 1_000_000;
+
+  private final Worker[] workers;
+  private final LaneMetrics[] metrics = new LaneMetrics[LANES.length];
+  // Tasks submitted but not yet taken, per lane; the weighted pick only considers non-empty lanes.
+  // Counted after the task is queued, so a lane can briefly read -1 when a worker is quicker.
+  private final AtomicIntegerArray queued = new AtomicIntegerArray(LANES.length);
+  private final AtomicInteger nextWorker = new AtomicInteger();
+  private final long agingNanos;
+  private volatile boolean shutdown;
+
+  public PriorityScheduler(int workerCount, Duration agingThreshold) {
+    this.agingNanos = agingThreshold.toNanos();
+    for (Lane lane : LANES) {
+      metrics[lane.ordinal()] = new LaneMetrics(lane);
+    }
+    workers = new Worker[workerCount];
+    for (int i = 0; i < workerCount; i++) {
+      workers[i] = new Worker(i);
+    }
+    for (Worker worker : workers) {
+      worker.thread.start();
+    }
+  }
+
+  // Queues the task on the calling worker, or round-robin on a worker when called from outside
+  public void submit(Lane lane, Runnable task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("scheduler is shut down");
+    }
+    Worker target = currentWorker();
+    if (target == null) {
+      target = workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+    }
+    ConcurrentLinkedDeque<Task> deque = target.deques[lane.ordinal()];
+    Task queuedTask = new Task(task, lane, System.nanoTime());
+    deque.offerLast(queuedTask);
+    queued.incrementAndGet(lane.ordinal());
+    // Raced with close(): either a worker still sees the task before exiting, or we take it back
+    if (shutdown && deque.removeLastOccurrence(queuedTask)) {
+      queued.decrementAndGet(lane.ordinal());
+      throw new RejectedExecutionException("scheduler is shut down");
+    }
+    wakeIdleWorker();
+  }
+
+  public List<LaneStats> stats() {
+    List<LaneStats> stats = new ArrayList<>(LANES.length);
+    for (LaneMetrics laneMetrics : metrics) {
+      stats.add(laneMetrics.snapshot());
+    }
+    return stats;
+  }
+
+  // Stops accepting tasks, runs everything already queued, then waits for the workers to exit.
+  // Like ExecutorService.close(), an interrupt does not cut the wait short; it is re-asserted after.
+  @Override
+  public void close() {
+    shutdown = true;
+    for (Worker worker : workers) {
+      LockSupport.unpark(worker.thread);
+    }
+    boolean interrupted = false;
+    for (Worker worker : workers) {
+      while (true) {
+        try {
+          worker.thread.join();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Worker currentWorker() {
+    for (Worker worker : workers) {
+      if (worker.thread == Thread.currentThread()) {
+        return worker;
+      }
+    }
+    return null;
+  }
+
+  private void wakeIdleWorker() {
+    for (Worker worker : workers) {
+      if (worker.idle) {
+        LockSupport.unpark(worker.thread);
+        return;
+      }
+    }
+  }
+
+  private int totalQueued() {
+    int total = 0;
+    for (int i = 0; i < LANES.length; i++) {
+      total += Math.max(0, queued.get(i));
+    }
+    return total;
+  }
+
+  // Checks the deques themselves, since the counters trail the deques by one step
+  private boolean allDrained() {
+    for (Worker worker : workers) {
+      for (ConcurrentLinkedDeque<Task> deque : worker.deques) {
+        if (!deque.isEmpty()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private record Task(Runnable runnable, Lane lane, long enqueuedNanos) {
+  }
+
+  private final class Worker implements Runnable {
+    private final int index;
+    private final Thread thread;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ConcurrentLinkedDeque<Task>[] deques = new ConcurrentLinkedDeque[LANES.length];
+    // Smooth weighted round-robin state, private to this worker
+    private final int[] currentWeight = new int[LANES.length];
+    private volatile boolean idle;
+
+    Worker(int index) {
+      this.index = index;
+      for (int i = 0; i < deques.length; i++) {
+        deques[i] = new ConcurrentLinkedDeque<>();
+      }
+      thread = new Thread(this, "scheduler-worker-" + index);
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        Task task = next();
+        if (task != null) {
+          execute(task);
+          continue;
+        }
+        if (shutdown && allDrained()) {
+          return;
+        }
+        idle = true;
+        if (totalQueued() == 0 && !shutdown) {
+          LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        idle = false;
+      }
+    }
+
+    private void execute(Task task) {
+      long waited = System.nanoTime() - task.enqueuedNanos();
+      metrics[task.lane().ordinal()].record(waited, task.lane() != Lane.HIGH && waited > agingNanos);
+      try {
+        task.runnable().run();
+      } catch (RuntimeException e) {
+        e.printStackTrace();
+      }
+    }
+
+    private Task next() {
+      Task aged = pollAged();
+      if (aged != null) {
+        return aged;
+      }
+      int best = -1;
+      int totalWeight = 0;
+      for (Lane lane : LANES) {
+        int i = lane.ordinal();
+        if (queued.get(i) > 0) {
+          currentWeight[i] += lane.weight();
+          totalWeight += lane.weight();
+          if (best < 0 || currentWeight[i] > currentWeight[best]) {
+            best = i;
+          }
+        }
+      }
+      if (best < 0) {
+        return null;
+      }
+      currentWeight[best] -= totalWeight;
+      Task task = poll(best);
+      // The picked lane may have been drained by another worker meanwhile
+      for (int i = 0; task == null && i < LANES.length; i++) {
+        task = poll(i);
+      }
+      return task;
+    }
+
+    // The longest-waiting head of a lower lane, if it has exceeded the aging threshold
+    private Task pollAged() {
+      long now = System.nanoTime();
+      Task oldest = null;
+      ConcurrentLinkedDeque<Task> source = null;
+      for (int lane = 1; lane < LANES.length; lane++) {
+        if (queued.get(lane) == 0) {
+          continue;
+        }
+        for (Worker worker : workers) {
+          Task head = worker.deques[lane].peekFirst();
+          if (head != null && now - head.enqueuedNanos() > agingNanos
+              && (oldest == null || head.enqueuedNanos() < oldest.enqueuedNanos())) {
+            oldest = head;
+            source = worker.deques[lane];
+          }
+        }
+      }
+      if (oldest != null && source.remove(oldest)) {
+        queued.decrementAndGet(oldest.lane().ordinal());
+        return oldest;
+      }
+      return null;
+    }
+
+    // Own deque first, then steal. Thieves also take the oldest task, since wait time matters more
+    // here than the cache locality LIFO stealing would buy.
+    private Task poll(int lane) {
+      for (int i = 0; i < workers.length; i++) {
+        Task task = workers[(index + i) % workers.length].deques[lane].pollFirst();
+        if (task != null) {
+          queued.decrementAndGet(lane);
+          return task;
+        }
+      }
+      return null;
+    }
+  }
+}
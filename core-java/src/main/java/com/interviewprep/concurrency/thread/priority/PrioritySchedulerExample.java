@@ -0,0 +1,35 @@
+package com.interviewprep.concurrency.thread.priority;
+
+import java.time.Duration;
+
+public class PrioritySchedulerExample {
+  public static void main(String[] args) throws InterruptedException {
+    // Same three priorities as Main, but enforced by the scheduler rather than the OS
+    int[] priorities = {Thread.MIN_PRIORITY, Thread.NORM_PRIORITY, Thread.MAX_PRIORITY};
+    int[] tasksPerPriority = {3000, 1500, 500};
+
+    PriorityScheduler scheduler = new PriorityScheduler(2, Duration.ofMillis(200));
+    try {
+      // Interleave submissions so every lane has a backlog at the same time
+      for (int round = 0; round < 3000; round++) {
+        for (int p = 0; p < priorities.length; p++) {
+          if (round < tasksPerPriority[p]) {
+            scheduler.submit(Lane.forThreadPriority(priorities[p]), () -> busyWork(100_000));
+          }
+        }
+      }
+    } finally {
+      scheduler.close();
+    }
+    // LOW still gets a share: tasks that waited over 200 ms are dispatched ahead of HIGH ("aged")
+    scheduler.stats().forEach(System.out::println);
+  }
+
+  // Roughly 0.1 ms of CPU work
+  private static void busyWork(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -3,9 +3,14 @@ package com.interviewprep.concurrency.thread.runnable_shared_resource;
 public class SharedCounter {
   private int count = 0;
 
-  public synchronized void increment() {
-    count++;
-    System.out.println(Thread.currentThread().getName() + " incremented counter to: " + count);
+  public void increment() {
+    int value = incrementQuietly();
+    // Print outside the lock so other threads are not serialized on console I/O
+    System.out.println(Thread.currentThread().getName() + " incremented counter to: " + value);
+  }
+
+  public synchronized int incrementQuietly() {
+    return ++count;
   }
 
   public synchronized int getCount() {
@@ -0,0 +1,290 @@
+package com.interviewprep.concurrency.thread.runnable_shared_resource;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A high-throughput counter in the spirit of {@link java.util.concurrent.atomic.LongAdder}.
+ * Instead of one contended lock (as in {@link SharedCounter}) or one contended CAS word (as in
+ * {@link java.util.concurrent.atomic.AtomicLong}), increments are spread over several cells, each
+ * padded to its own cache line so that neighbouring cells do not false-share.
+ *
+ * <p>Three ways to update:
+ *
+ * <ul>
+ *   <li>{@link #increment()} / {@link #add(long)}: CAS on the calling thread's cell; a thread that
+ *       loses a CAS race moves to another cell.
+ *   <li>{@link #incrementBatched()}: counts in a thread-local batch and flushes it into the cells
+ *       every {@code batchSize} increments, so most increments touch no shared memory at all.
+ *   <li>{@link #flushLocal()}: pushes the calling thread's batch now, e.g. when a task finishes.
+ * </ul>
+ *
+ * <p>Two ways to read: {@link #sumApproximate()} only adds up the cells and may lag by up to
+ * {@code batchSize - 1} per thread that uses batching; {@link #sum()} also adds every thread's
+ * unflushed batch, so it never misses an increment that happened before the call. A flush bumps
+ * its batch's version before and after moving the count into the cells, and {@link #sum()} retries
+ * when a version changed under it, so a flushed count is never seen both in its batch and in the
+ * cells. After {@code MAX_OPTIMISTIC_READS} failed attempts it stops racing: flushes that start
+ * while it finishes wait on a lock for that one pass, so a busy set of writers cannot starve it.
+ * Plain and unflushed batched increments never wait, and {@link #sumApproximate()} never retries.
+ *
+ * <p>Batches of threads that have exited are folded into the cells and dropped when the next
+ * thread registers, so a pool that keeps replacing its threads does not grow the batch list.
+ */
+public class StripedCounter {
+  private static final int MAX_OPTIMISTIC_READS = 16;
+  private static final VarHandle VALUE;
+  private static final VarHandle PENDING;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      VALUE = lookup.findVarHandle(Cell.class, "value", long.class);
+      PENDING = lookup.findVarHandle(LocalBatch.class, "pending", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Cell[] cells;
+  private final int batchSize;
+  private final Queue<LocalBatch> batches = new ConcurrentLinkedQueue<>();
+  // Odd while dead threads' batches are being folded into the cells
+  private volatile long reaps;
+  // Set by a sum() that gave up racing; flushes then go through the batches lock
+  private volatile boolean draining;
+  private final ThreadLocal<LocalBatch> localBatch = new ThreadLocal<>();
+  private final ThreadLocal<int[]> probe = ThreadLocal.withInitial(() -> new int[] {initialProbe()});
+
+  public StripedCounter() {
+    this(Runtime.getRuntime().availableProcessors() * 2, 64);
+  }
+
+  public StripedCounter(int stripes, int batchSize) {
+    if (stripes <= 0 || batchSize <= 0) {
+      throw new IllegalArgumentException("stripes and batchSize must be positive");
+    }
+    int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+    this.cells = new Cell[size];
+    for (int i = 0; i < size; i++) {
+      cells[i] = new Cell();
+    }
+    this.batchSize = batchSize;
+  }
+
+  public void increment() {
+    add(1);
+  }
+
+  public void add(long delta) {
+    int[] threadProbe = probe.get();
+    Cell cell = cells[threadProbe[0] & (cells.length - 1)];
+    long current = (long) VALUE.getVolatile(cell);
+    if (!VALUE.compareAndSet(cell, current, current + delta)) {
+      // Contended: move this thread to another cell for next time, then add unconditionally
+      threadProbe[0] = nextProbe(threadProbe[0]);
+      VALUE.getAndAdd(cell, delta);
+    }
+  }
+
+  public void incrementBatched() {
+    LocalBatch batch = localBatch();
+    long pending = batch.pending + 1;
+    if (pending >= batchSize) {
+      flush(batch, pending);
+    } else {
+      // Release store: the owner is the only writer, readers only need a recent value
+      PENDING.setRelease(batch, pending);
+    }
+  }
+
+  public void flushLocal() {
+    LocalBatch batch = localBatch();
+    long pending = batch.pending;
+    if (pending != 0) {
+      flush(batch, pending);
+    }
+  }
+
+  // Cells plus every thread's unflushed batch; retries while a batch is mid-flush
+  public long sum() {
+    for (int attempt = 0; attempt < MAX_OPTIMISTIC_READS; attempt++) {
+      OptionalLong sum = trySum();
+      if (sum.isPresent()) {
+        return sum.getAsLong();
+      }
+      Thread.onSpinWait();
+    }
+    // Holding the lock also keeps reaps still. Each flush already past its draining check finishes
+    // at most once more, so this loop ends.
+    synchronized (batches) {
+      draining = true;
+      try {
+        while (true) {
+          OptionalLong sum = trySum();
+          if (sum.isPresent()) {
+            return sum.getAsLong();
+          }
+          Thread.onSpinWait();
+        }
+      } finally {
+        draining = false;
+      }
+    }
+  }
+
+  // Cells only; cheapest read, lags behind unflushed batches
+  public long sumApproximate() {
+    long sum = 0;
+    for (Cell cell : cells) {
+      sum += (long) VALUE.getVolatile(cell);
+    }
+    return sum;
+  }
+
+  // One consistent read, or empty if a flush or reap overlapped it
+  private OptionalLong trySum() {
+    long reapStamp = reaps;
+    if ((reapStamp & 1) != 0) {
+      return OptionalLong.empty();
+    }
+    long versions = 0;
+    long pending = 0;
+    for (LocalBatch batch : batches) {
+      long version = batch.version;
+      if ((version & 1) != 0) {
+        return OptionalLong.empty();
+      }
+      versions += version;
+      pending += (long) PENDING.getAcquire(batch);
+    }
+    long sum = pending + sumApproximate();
+    // Versions only grow, so an unchanged total means no batch flushed while we read
+    return reaps == reapStamp && versionTotal() == versions ? OptionalLong.of(sum) : OptionalLong.empty();
+  }
+
+  // Seqlock-style flush: readers that overlap the odd version retry instead of counting twice
+  private void flush(LocalBatch batch, long pending) {
+    long version = batch.version;
+    batch.version = version + 1;
+    // Checked after the odd version is visible, so a draining sum() either sees this flush in
+    // progress or this flush sees it draining
+    if (draining) {
+      batch.version = version + 2; // nothing moved yet; back out and wait for the reader
+      synchronized (batches) {
+        moveToCells(batch, pending);
+      }
+      return;
+    }
+    add(pending);
+    PENDING.setVolatile(batch, 0L);
+    batch.version = version + 2;
+  }
+
+  private void moveToCells(LocalBatch batch, long pending) {
+    long version = batch.version;
+    batch.version = version + 1;
+    add(pending);
+    PENDING.setVolatile(batch, 0L);
+    batch.version = version + 2;
+  }
+
+  private long versionTotal() {
+    long total = 0;
+    for (LocalBatch batch : batches) {
+      total += batch.version;
+    }
+    return total;
+  }
+
+  private LocalBatch localBatch() {
+    LocalBatch batch = localBatch.get();
+    if (batch == null) {
+      reapExitedThreads();
+      batch = new LocalBatch(Thread.currentThread());
+      batches.add(batch);
+      localBatch.set(batch);
+    }
+    return batch;
+  }
+
+  // A thread that has exited can no longer flush, so its pending count moves into the cells here
+  private void reapExitedThreads() {
+    boolean anyExited = false;
+    for (LocalBatch batch : batches) {
+      if (!batch.ownerAlive()) {
+        anyExited = true;
+        break;
+      }
+    }
+    if (!anyExited) {
+      return;
+    }
+    synchronized (batches) {
+      reaps = reaps + 1;
+      try {
+        for (Iterator<LocalBatch> it = batches.iterator(); it.hasNext(); ) {
+          LocalBatch batch = it.next();
+          if (!batch.ownerAlive()) {
+            add((long) PENDING.getAcquire(batch));
+            it.remove();
+          }
+        }
+      } finally {
+        reaps = reaps + 1;
+      }
+    }
+  }
+
+  private static int initialProbe() {
+    long id = Thread.currentThread().threadId();
+    int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return h == 0 ? 1 : h;
+  }
+
+  // Marsaglia xorshift, as used by LongAdder to pick a new cell
+  private static int nextProbe(int probe) {
+    probe ^= probe << 13;
+    probe ^= probe >>> 17;
+    probe ^= probe << 5;
+    return probe;
+  }
+
+  // Fields of a superclass are laid out first, so the value sits between two 56-byte pads
+  @SuppressWarnings("unused")
+  private abstract static class LeftPadding {
+    long p1, p2, p3, p4, p5, p6, p7;
+  }
+
+  private abstract static class CellValue extends LeftPadding {
+    volatile long value;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class Cell extends CellValue {
+    long q1, q2, q3, q4, q5, q6, q7;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class LocalBatch {
+    long p1, p2, p3, p4, p5, p6, p7;
+    volatile long pending;
+    volatile long version;
+    final WeakReference<Thread> owner;
+    long q1, q2, q3, q4, q5, q6, q7;
+
+    LocalBatch(Thread owner) {
+      this.owner = new WeakReference<>(owner);
+    }
+
+    boolean ownerAlive() {
+      Thread thread = owner.get();
+      return thread != null && thread.isAlive();
+    }
+  }
+}
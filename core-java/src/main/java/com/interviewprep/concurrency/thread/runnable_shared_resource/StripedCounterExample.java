@@ -0,0 +1,64 @@
+package com.interviewprep.concurrency.thread.runnable_shared_resource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StripedCounterExample {
+  public static void main(String[] args) throws InterruptedException {
+    StripedCounter counter = new StripedCounter();
+
+    // Same shape as Main: several threads share one counter
+    Thread[] threads = new Thread[3];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          counter.increment();
+          counter.incrementBatched();
+        }
+        counter.flushLocal();
+      }, "Thread-" + (t + 1));
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    System.out.println("Final counter value: " + counter.sum());
+
+    // Approximate reads lag behind batches that have not been flushed yet
+    StripedCounter batched = new StripedCounter(8, 100);
+    for (int i = 0; i < 250; i++) {
+      batched.incrementBatched();
+    }
+    System.out.println("Exact: " + batched.sum() + ", approximate: " + batched.sumApproximate());
+
+    // Quick comparison; see CounterBenchmark (benchmarks profile) for the JMH scaling run
+    int threadCount = Runtime.getRuntime().availableProcessors();
+    int increments = 2_000_000;
+    SharedCounter synchronizedCounter = new SharedCounter();
+    AtomicLong atomic = new AtomicLong();
+    LongAdder adder = new LongAdder();
+    StripedCounter striped = new StripedCounter();
+    System.out.println("synchronized:     " + time(threadCount, increments, synchronizedCounter::incrementQuietly) + " ms");
+    System.out.println("AtomicLong:       " + time(threadCount, increments, atomic::incrementAndGet) + " ms");
+    System.out.println("LongAdder:        " + time(threadCount, increments, adder::increment) + " ms");
+    System.out.println("StripedCounter:   " + time(threadCount, increments, striped::increment) + " ms");
+    System.out.println("StripedCounter b: " + time(threadCount, increments, striped::incrementBatched) + " ms");
+  }
+
+  private static long time(int threadCount, int increments, Runnable increment) throws InterruptedException {
+    Thread[] threads = new Thread[threadCount];
+    long start = System.nanoTime();
+    for (int t = 0; t < threadCount; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < increments; i++) {
+          increment.run();
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
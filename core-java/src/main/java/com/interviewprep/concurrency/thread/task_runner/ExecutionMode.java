@@ -0,0 +1,32 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+// Where a TaskRunner runs its Runnables
+public enum ExecutionMode {
+  // One virtual thread per task; blocking calls release the carrier thread
+  VIRTUAL_THREADS {
+    @Override
+    ExecutorService newExecutor(int parallelism) {
+      return Executors.newVirtualThreadPerTaskExecutor();
+    }
+  },
+  // A fixed pool of platform threads; at most `parallelism` tasks block at once
+  PLATFORM_POOL {
+    @Override
+    ExecutorService newExecutor(int parallelism) {
+      return Executors.newFixedThreadPool(parallelism);
+    }
+  },
+  // Work-stealing pool, best for short CPU-bound tasks
+  FORK_JOIN_POOL {
+    @Override
+    ExecutorService newExecutor(int parallelism) {
+      return new ForkJoinPool(parallelism);
+    }
+  };
+
+  abstract ExecutorService newExecutor(int parallelism);
+}
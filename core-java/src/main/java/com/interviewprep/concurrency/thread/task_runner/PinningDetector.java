@@ -0,0 +1,48 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs a blocking code path on virtual threads under a {@link PinningMonitor} and flags the call
+ * sites that pinned a carrier thread. Use it to check a {@code synchronized} section before moving
+ * its callers to virtual threads, and again after migrating it to a {@code ReentrantLock}.
+ */
+public class PinningDetector {
+  private final Duration threshold;
+
+  public PinningDetector() {
+    this(Duration.ofMillis(1));
+  }
+
+  public PinningDetector(Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  // Runs `section` on `threads` concurrent virtual threads and returns pinning events per call site
+  public Map<String, Long> detect(Runnable section, int threads) {
+    PinningMonitor monitor = PinningMonitor.start(threshold);
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("virtual-", 0).factory())) {
+      for (int i = 0; i < threads; i++) {
+        executor.execute(section);
+      }
+    } finally {
+      monitor.close();
+    }
+    return monitor.eventsBySite();
+  }
+
+  // Prints a PINS / OK verdict for a code path, listing the sites to migrate
+  public boolean check(String name, Runnable section, int threads) {
+    Map<String, Long> sites = detect(section, threads);
+    if (sites.isEmpty()) {
+      System.out.println("OK    " + name + ": no carrier thread pinned for " + threshold.toMillis() + " ms or more");
+      return false;
+    }
+    System.out.println("PINS  " + name + ":");
+    sites.forEach((site, count) -> System.out.println("        " + site + " pinned " + count + " time(s)"));
+    return true;
+  }
+}
@@ -0,0 +1,73 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import com.interviewprep.concurrency.profiling.CallSites;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events in-process. The JVM emits one whenever a
+ * virtual thread blocks (sleep, I/O, lock wait) while it cannot unmount from its carrier, typically
+ * because it is inside a {@code synchronized} block or method. {@code Object.wait()} always pins
+ * but is reported as {@code jdk.JavaMonitorWait} instead, so those events are counted too when they
+ * come from a virtual thread. Each event is attributed to the first application frame on its stack.
+ */
+public class PinningMonitor implements AutoCloseable {
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  static final String MONITOR_WAIT_EVENT = "jdk.JavaMonitorWait";
+
+  private final RecordingStream stream;
+  private final LongAdder events = new LongAdder();
+  private final LongAdder pinnedNanos = new LongAdder();
+  private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+  private PinningMonitor(Duration threshold) {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.enable(MONITOR_WAIT_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::record);
+    stream.onEvent(MONITOR_WAIT_EVENT, event -> {
+      if (event.getThread() != null && event.getThread().isVirtual()) {
+        record(event);
+      }
+    });
+    stream.startAsync();
+  }
+
+  // Reports pinned sections that block for at least the threshold (JFR's default is 20 ms)
+  public static PinningMonitor start(Duration threshold) {
+    return new PinningMonitor(threshold);
+  }
+
+  public long eventCount() {
+    return events.sum();
+  }
+
+  public Duration pinnedTime() {
+    return Duration.ofNanos(pinnedNanos.sum());
+  }
+
+  // Pinning events per application call site, e.g. "SharedResource.access(SharedResource.java:7)"
+  public Map<String, Long> eventsBySite() {
+    Map<String, Long> result = new TreeMap<>();
+    sites.forEach((site, count) -> result.put(site, count.sum()));
+    return result;
+  }
+
+  // Stops recording after the events produced so far have been delivered
+  @Override
+  public void close() {
+    stream.stop();
+    stream.close();
+  }
+
+  private void record(RecordedEvent event) {
+    events.increment();
+    pinnedNanos.add(event.getDuration().toNanos());
+    sites.computeIfAbsent(CallSites.of(event), site -> new LongAdder()).increment();
+  }
+}
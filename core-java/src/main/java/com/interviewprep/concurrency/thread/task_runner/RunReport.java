@@ -0,0 +1,20 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Outcome of running one batch of tasks in one ExecutionMode
+public record RunReport(ExecutionMode mode, int tasks, int failed, Duration elapsed, long pinnedEvents,
+    Duration pinnedTime, Map<String, Long> pinnedSites) {
+
+  public double tasksPerSecond() {
+    return tasks / Math.max(1e-9, elapsed.toNanos() / 1e9);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%-15s %7d tasks (%d failed) in %6d ms = %10.1f tasks/s, pinned %d times for %d ms%s",
+        mode, tasks, failed, elapsed.toMillis(), tasksPerSecond(), pinnedEvents, pinnedTime.toMillis(),
+        pinnedSites.isEmpty() ? "" : " " + pinnedSites);
+  }
+}
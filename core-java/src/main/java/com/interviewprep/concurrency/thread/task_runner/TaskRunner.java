@@ -0,0 +1,74 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs the same {@link Runnable}s (e.g. {@code CounterTask}, {@code Printer}, {@code
+ * sleep_and_join.Task}) in any {@link ExecutionMode} instead of hand-creating one platform thread
+ * per task, and reports throughput for each mode. Runs on virtual threads also record JFR pinning
+ * events, so {@code synchronized} sections that block a carrier thread show up in the report.
+ */
+public class TaskRunner {
+  private final int platformParallelism;
+  private final Duration pinningThreshold;
+
+  public TaskRunner() {
+    this(Runtime.getRuntime().availableProcessors() * 2, Duration.ofMillis(1));
+  }
+
+  public TaskRunner(int platformParallelism, Duration pinningThreshold) {
+    this.platformParallelism = platformParallelism;
+    this.pinningThreshold = pinningThreshold;
+  }
+
+  public RunReport run(ExecutionMode mode, List<? extends Runnable> tasks) throws InterruptedException {
+    PinningMonitor monitor = mode == ExecutionMode.VIRTUAL_THREADS ? PinningMonitor.start(pinningThreshold) : null;
+    int failed = 0;
+    long start = System.nanoTime();
+    try (ExecutorService executor = mode.newExecutor(platformParallelism)) {
+      List<Future<?>> futures = new ArrayList<>(tasks.size());
+      for (Runnable task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          failed++;
+        }
+      }
+    } finally {
+      // Also stops the JFR stream when a task submission or the wait is interrupted
+      if (monitor != null) {
+        monitor.close();
+      }
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    if (monitor == null) {
+      return new RunReport(mode, tasks.size(), failed, elapsed, 0, Duration.ZERO, Map.of());
+    }
+    return new RunReport(mode, tasks.size(), failed, elapsed, monitor.eventCount(), monitor.pinnedTime(),
+        monitor.eventsBySite());
+  }
+
+  // Runs a fresh batch of tasks from the factory in every mode
+  public List<RunReport> compare(Supplier<? extends Runnable> taskFactory, int taskCount, ExecutionMode... modes)
+      throws InterruptedException {
+    List<RunReport> reports = new ArrayList<>();
+    for (ExecutionMode mode : modes) {
+      List<Runnable> tasks = new ArrayList<>(taskCount);
+      for (int i = 0; i < taskCount; i++) {
+        tasks.add(taskFactory.get());
+      }
+      reports.add(run(mode, tasks));
+    }
+    return reports;
+  }
+}
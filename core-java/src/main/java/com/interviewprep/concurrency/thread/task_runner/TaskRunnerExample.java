@@ -0,0 +1,54 @@
+package com.interviewprep.concurrency.thread.task_runner;
+
+import com.interviewprep.concurrency.thread.runnable_shared_resource.CounterTask;
+import com.interviewprep.concurrency.thread.runnable_shared_resource.SharedCounter;
+import java.time.Duration;
+import java.util.List;
+
+public class TaskRunnerExample {
+  private static final Object LOCK = new Object();
+
+  public static void main(String[] args) throws InterruptedException {
+    // 200 platform threads: the pool modes can block on at most 200 requests at a time
+    TaskRunner runner = new TaskRunner(200, Duration.ofMillis(1));
+
+    // The same CounterTask that runnable_shared_resource.Main starts on three platform threads
+    SharedCounter counter = new SharedCounter();
+    System.out.println(runner.run(ExecutionMode.VIRTUAL_THREADS,
+        List.of(new CounterTask(counter), new CounterTask(counter), new CounterTask(counter))));
+    System.out.println("Final counter value: " + counter.getCount());
+
+    // Many requests that mostly wait, like sleep_and_join.Task
+    int requests = 2_000;
+    for (RunReport report : runner.compare(TaskRunnerExample::blockingRequest, requests, ExecutionMode.values())) {
+      System.out.println(report);
+    }
+
+    // Sleeping inside synchronized, like SharedResource.access, pins the carrier thread
+    for (RunReport report : runner.compare(TaskRunnerExample::pinningRequest, 200, ExecutionMode.VIRTUAL_THREADS)) {
+      System.out.println(report);
+    }
+  }
+
+  private static Runnable blockingRequest() {
+    return () -> {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  private static Runnable pinningRequest() {
+    return () -> {
+      synchronized (LOCK) {
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+  }
+}
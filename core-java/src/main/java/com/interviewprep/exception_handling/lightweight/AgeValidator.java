@@ -0,0 +1,17 @@
+package com.interviewprep.exception_handling.lightweight;
+
+// CustomExceptions.checkAge and ThrowThrowsExample.validateAge without a stack trace per rejection
+public class AgeValidator {
+  public static final int VOTING_AGE = 18;
+  private static final String TOO_YOUNG = "Age is less than " + VOTING_AGE + ".";
+
+  public static void checkAge(int age) throws InvalidAgeException {
+    if (age < VOTING_AGE) {
+      throw InvalidAgeException.INSTANCE;
+    }
+  }
+
+  public static Result<Integer, String> validateAge(int age) {
+    return age < VOTING_AGE ? Result.err(TOO_YOUNG) : Result.ok(age);
+  }
+}
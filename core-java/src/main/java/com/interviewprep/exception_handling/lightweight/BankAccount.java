@@ -0,0 +1,34 @@
+package com.interviewprep.exception_handling.lightweight;
+
+// exception_propagation.BankAccount with long cents, offering both a throwing and a Result-returning withdraw
+public class BankAccount {
+  // Why a withdrawal was refused; the amounts travel in the error, not in an exception
+  public record InsufficientFunds(long balanceCents, long requestedCents) {
+  }
+
+  private long balanceCents;
+
+  public BankAccount(long initialBalanceCents) {
+    this.balanceCents = initialBalanceCents;
+  }
+
+  public void withdraw(long amountCents) throws InsufficientFundsException {
+    if (amountCents > balanceCents) {
+      throw new InsufficientFundsException(balanceCents, amountCents);
+    }
+    balanceCents -= amountCents;
+  }
+
+  // Same rule without throwing; returns the new balance
+  public Result<Long, InsufficientFunds> tryWithdraw(long amountCents) {
+    if (amountCents > balanceCents) {
+      return Result.err(new InsufficientFunds(balanceCents, amountCents));
+    }
+    balanceCents -= amountCents;
+    return Result.ok(balanceCents);
+  }
+
+  public long getBalanceCents() {
+    return balanceCents;
+  }
+}
@@ -0,0 +1,23 @@
+package com.interviewprep.exception_handling.lightweight;
+
+// Stackless counterpart of exception_propagation.InsufficientFundsException, carrying the amounts
+public class InsufficientFundsException extends LightweightException {
+  private static final long serialVersionUID = 1L;
+
+  private final long balanceCents;
+  private final long requestedCents;
+
+  public InsufficientFundsException(long balanceCents, long requestedCents) {
+    super("Insufficient funds for withdrawal.");
+    this.balanceCents = balanceCents;
+    this.requestedCents = requestedCents;
+  }
+
+  public long getBalanceCents() {
+    return balanceCents;
+  }
+
+  public long getRequestedCents() {
+    return requestedCents;
+  }
+}
@@ -0,0 +1,12 @@
+package com.interviewprep.exception_handling.lightweight;
+
+// Stackless counterpart of custom_exceptions.InvalidAgeException; the message never varies, so one instance is shared
+public class InvalidAgeException extends LightweightException {
+  private static final long serialVersionUID = 1L;
+
+  public static final InvalidAgeException INSTANCE = new InvalidAgeException();
+
+  private InvalidAgeException() {
+    super("Age is not valid for voting.", null, false);
+  }
+}
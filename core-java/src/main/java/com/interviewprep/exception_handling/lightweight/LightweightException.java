@@ -0,0 +1,54 @@
+package com.interviewprep.exception_handling.lightweight;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for checked exceptions that signal expected business outcomes (insufficient funds,
+ * invalid input) rather than bugs. Filling in the stack trace is by far the most expensive part of
+ * {@code new Exception()}, and these stacks are never read, so subclasses skip it by default.
+ *
+ * <p>Capture can be switched back on per type with {@link #captureStackTraces}, or at startup with
+ * {@code -Dlightweight.exceptions.stackTraces=com.example.FooException,...}. Suppression is always
+ * disabled, and instances built with {@code writableStackTrace = false} are fully immutable, so
+ * they can be cached and thrown from many threads (see {@code InvalidAgeException.INSTANCE}).
+ */
+public abstract class LightweightException extends Exception {
+  private static final long serialVersionUID = 1L;
+  // Tolerates spaces, empty entries and repeats such as "A, B,,A"
+  private static final Set<String> ENABLED_AT_STARTUP =
+      Arrays.stream(System.getProperty("lightweight.exceptions.stackTraces", "").split(","))
+          .map(String::trim)
+          .filter(name -> !name.isEmpty())
+          .collect(Collectors.toSet());
+  private static final Map<Class<?>, Boolean> CAPTURE = new ConcurrentHashMap<>();
+
+  protected LightweightException(String message) {
+    this(message, null);
+  }
+
+  protected LightweightException(String message, Throwable cause) {
+    super(message, cause, false, true);
+  }
+
+  // writableStackTrace = false: never captures, and setStackTrace is ignored; use for shared instances
+  protected LightweightException(String message, Throwable cause, boolean writableStackTrace) {
+    super(message, cause, false, writableStackTrace);
+  }
+
+  public static void captureStackTraces(Class<? extends LightweightException> type, boolean enabled) {
+    CAPTURE.put(type, enabled);
+  }
+
+  public static boolean capturesStackTraces(Class<? extends LightweightException> type) {
+    return CAPTURE.computeIfAbsent(type, t -> ENABLED_AT_STARTUP.contains(t.getName()));
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return capturesStackTraces(getClass()) ? super.fillInStackTrace() : this;
+  }
+}
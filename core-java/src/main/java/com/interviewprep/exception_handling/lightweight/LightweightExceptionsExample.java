@@ -0,0 +1,101 @@
+package com.interviewprep.exception_handling.lightweight;
+
+public class LightweightExceptionsExample {
+  private static final int ITERATIONS = 1_000_000;
+
+  // A regular exception with a full stack trace, like the originals in the other packages
+  static class RegularInsufficientFundsException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    RegularInsufficientFundsException(String message) {
+      super(message);
+    }
+  }
+
+  public static void main(String[] args) {
+    BankAccount account = new BankAccount(500_00);
+
+    try {
+      account.withdraw(600_00);
+    } catch (InsufficientFundsException e) {
+      System.out.println("Withdrawal failed: " + e.getMessage() + " (balance " + e.getBalanceCents()
+          + ", requested " + e.getRequestedCents() + ", " + e.getStackTrace().length + " stack frames)");
+    }
+
+    switch (account.tryWithdraw(600_00)) {
+      case Result.Ok<Long, BankAccount.InsufficientFunds> ok -> System.out.println("New balance: " + ok.value());
+      case Result.Err<Long, BankAccount.InsufficientFunds> err -> System.out.println("Refused: " + err.error());
+    }
+
+    try {
+      AgeValidator.checkAge(16);
+    } catch (InvalidAgeException e) {
+      System.out.println("Caught exception: " + e.getMessage() + " (shared: " + (e == InvalidAgeException.INSTANCE) + ")");
+    }
+    System.out.println("validateAge(15) = " + AgeValidator.validateAge(15));
+
+    // Stack traces can be turned back on for one type while debugging
+    LightweightException.captureStackTraces(InsufficientFundsException.class, true);
+    System.out.println("Frames with capture enabled: " + new InsufficientFundsException(0, 1).getStackTrace().length);
+    LightweightException.captureStackTraces(InsufficientFundsException.class, false);
+
+    // Rough timings only (the JIT removes some of this work); run ExceptionCostBenchmark for real numbers
+    for (int round = 0; round < 3; round++) {
+      System.out.printf(
+          "round %d: regular %5.1f ns, stackless %5.1f ns, singleton %5.1f ns, result %5.1f ns per failure%n",
+          round,
+          time(LightweightExceptionsExample::regular),
+          time(LightweightExceptionsExample::stackless),
+          time(LightweightExceptionsExample::singleton),
+          time(LightweightExceptionsExample::result));
+    }
+  }
+
+  private static double time(Runnable failures) {
+    long start = System.nanoTime();
+    failures.run();
+    return (double) (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  private static long sink;
+
+  private static void regular() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      try {
+        throw new RegularInsufficientFundsException("Insufficient funds for withdrawal.");
+      } catch (RegularInsufficientFundsException e) {
+        sink += e.getMessage().length();
+      }
+    }
+  }
+
+  private static void stackless() {
+    BankAccount account = new BankAccount(0);
+    for (int i = 0; i < ITERATIONS; i++) {
+      try {
+        account.withdraw(i + 1);
+      } catch (InsufficientFundsException e) {
+        sink += e.getRequestedCents();
+      }
+    }
+  }
+
+  private static void singleton() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      try {
+        AgeValidator.checkAge(i & 15);
+      } catch (InvalidAgeException e) {
+        sink++;
+      }
+    }
+  }
+
+  private static void result() {
+    BankAccount account = new BankAccount(0);
+    for (int i = 0; i < ITERATIONS; i++) {
+      if (account.tryWithdraw(i + 1) instanceof Result.Err<Long, BankAccount.InsufficientFunds> err) {
+        sink += err.error().requestedCents();
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.interviewprep.exception_handling.lightweight;
+
+import java.util.function.Function;
+
+/**
+ * Either a value or an error, returned instead of thrown. Callers have to look at the outcome,
+ * typically with a pattern-matching switch over {@link Ok} and {@link Err}. A failure costs the
+ * small record and no stack walk; primitive payloads are still boxed, so a {@code Result<Long, E>}
+ * also allocates a {@code Long} outside the small-value cache unless escape analysis removes it.
+ */
+public sealed interface Result<T, E> {
+  record Ok<T, E>(T value) implements Result<T, E> {
+  }
+
+  record Err<T, E>(E error) implements Result<T, E> {
+  }
+
+  static <T, E> Result<T, E> ok(T value) {
+    return new Ok<>(value);
+  }
+
+  static <T, E> Result<T, E> err(E error) {
+    return new Err<>(error);
+  }
+
+  default boolean isOk() {
+    return this instanceof Ok;
+  }
+
+  default <U> Result<U, E> map(Function<? super T, ? extends U> mapper) {
+    return switch (this) {
+      case Ok<T, E> ok -> new Ok<>(mapper.apply(ok.value()));
+      case Err<T, E> err -> new Err<>(err.error());
+    };
+  }
+
+  default <U> Result<U, E> flatMap(Function<? super T, Result<U, E>> mapper) {
+    return switch (this) {
+      case Ok<T, E> ok -> mapper.apply(ok.value());
+      case Err<T, E> err -> new Err<>(err.error());
+    };
+  }
+
+  default T orElse(T fallback) {
+    return this instanceof Ok<T, E> ok ? ok.value() : fallback;
+  }
+
+  // Bridges back to exception-based callers
+  default <X extends Exception> T orElseThrow(Function<? super E, ? extends X> toException) throws X {
+    return switch (this) {
+      case Ok<T, E> ok -> ok.value();
+      case Err<T, E> err -> throw toException.apply(err.error());
+    };
+  }
+}
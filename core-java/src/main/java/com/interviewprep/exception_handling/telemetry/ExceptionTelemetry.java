@@ -0,0 +1,211 @@
+package com.interviewprep.exception_handling.telemetry;
+
+import com.interviewprep.concurrency.profiling.CallSites;
+import com.interviewprep.concurrency.thread.runnable_shared_resource.StripedCounter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Makes exception traffic visible, including exceptions that are swallowed (as in {@code
+ * ExceptionSwallowingExample}) or caught far from where they were thrown (as in {@code
+ * ExceptionPropagation}).
+ *
+ * <ul>
+ *   <li>{@link #record} is called from catch blocks. It counts per exception type and reporting
+ *       site in a {@link StripedCounter}, so hot paths on many threads do not contend. Hot catch
+ *       blocks pass a {@link Site} obtained once from {@link #site}, which costs a map lookup per
+ *       call. Without one, the site is the calling class, found with a short stack walk and cached
+ *       per class. One call in {@code sampleEvery} also reads the exception's stack trace to learn
+ *       where it was thrown.
+ *   <li>A JFR stream follows {@code jdk.ExceptionStatistics}, the JVM-wide count of every
+ *       throwable created, so the gap between it and the recorded count shows exceptions that no
+ *       code reports. It also follows {@code jdk.JavaErrorThrow}, which is cheap because Errors
+ *       are rare. {@code jdk.JavaExceptionThrow} costs a stack walk per throw, so it is only
+ *       enabled when {@code traceAllThrows} is set, typically for a short diagnostic window.
+ *       Throws seen this way are counted apart from recorded ones ({@link #observedCount}).
+ * </ul>
+ *
+ * <p>{@link #hotSites} lists the sites throwing often enough that the exception is effectively
+ * control flow and should become a normal return path (see {@code exception_handling.lightweight}).
+ */
+public class ExceptionTelemetry implements AutoCloseable {
+  private static final int MAX_ORIGINS_PER_SITE = 8;
+  private static final StackWalker WALKER =
+      StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  private final int sampleEvery;
+  private final long startNanos = System.nanoTime();
+  private final Map<String, Site> sites = new ConcurrentHashMap<>();
+  // Filled from JFR events only, so recordedCount() stays a count of record() calls
+  private final Map<ObservedKey, LongAdder> observed = new ConcurrentHashMap<>();
+  private final ClassValue<Site> callerSites = new ClassValue<>() {
+    @Override
+    protected Site computeValue(Class<?> caller) {
+      return site(caller.getSimpleName());
+    }
+  };
+  private final RecordingStream stream;
+  private final AtomicLong jvmThrowablesAtStart = new AtomicLong(-1);
+  private final AtomicLong jvmThrowables = new AtomicLong(-1);
+
+  /** A reporting site, looked up once with {@link #site} and then passed to every {@link #record}. */
+  public static final class Site {
+    private final String name;
+    private final Map<Class<?>, Counts> byType = new ConcurrentHashMap<>();
+
+    private Site(String name) {
+      this.name = name;
+    }
+
+    public String name() {
+      return name;
+    }
+  }
+
+  // JFR names the thrown class, which may not be loadable here, so observed throws key by name
+  private record ObservedKey(String type, String site) {
+  }
+
+  private static final class Counts {
+    final StripedCounter count = new StripedCounter();
+    final Map<String, LongAdder> origins = new ConcurrentHashMap<>();
+  }
+
+  public ExceptionTelemetry(int sampleEvery, boolean traceAllThrows) {
+    if (sampleEvery <= 0) {
+      throw new IllegalArgumentException("sampleEvery must be positive");
+    }
+    this.sampleEvery = sampleEvery;
+    stream = new RecordingStream();
+    stream.enable("jdk.ExceptionStatistics").withPeriod(Duration.ofSeconds(1));
+    stream.enable("jdk.JavaErrorThrow").withStackTrace();
+    stream.onEvent("jdk.ExceptionStatistics", event -> {
+      long throwables = event.getLong("throwables");
+      jvmThrowablesAtStart.compareAndSet(-1, throwables);
+      jvmThrowables.set(throwables);
+    });
+    stream.onEvent("jdk.JavaErrorThrow", event -> countThrow(event, "jfr:error"));
+    if (traceAllThrows) {
+      stream.enable("jdk.JavaExceptionThrow").withStackTrace();
+      stream.onEvent("jdk.JavaExceptionThrow", event -> countThrow(event, "jfr:throw"));
+    }
+    stream.startAsync();
+  }
+
+  public Site site(String name) {
+    return sites.computeIfAbsent(name, Site::new);
+  }
+
+  // Counts a caught exception against the calling class; the stack walk makes this the slower form
+  public void record(Throwable throwable) {
+    record(throwable, callerSites.get(WALKER.getCallerClass()));
+  }
+
+  // Counts a caught exception against a site looked up beforehand; never throws, and allocates nothing
+  // once the site has seen this exception type
+  public void record(Throwable throwable, Site site) {
+    Counts counts = site.byType.computeIfAbsent(throwable.getClass(), type -> new Counts());
+    counts.count.increment();
+    if (ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+      StackTraceElement[] stack = throwable.getStackTrace();
+      String origin = stack.length == 0 ? "<no stack trace>" : originOf(stack[0]);
+      if (counts.origins.size() < MAX_ORIGINS_PER_SITE || counts.origins.containsKey(origin)) {
+        counts.origins.computeIfAbsent(origin, o -> new LongAdder()).increment();
+      }
+    }
+  }
+
+  // Throwables created JVM-wide since the first statistics event, including ones nobody recorded
+  public Optional<Long> jvmThrowables() {
+    long start = jvmThrowablesAtStart.get();
+    return start < 0 ? Optional.empty() : Optional.of(jvmThrowables.get() - start);
+  }
+
+  // Exceptions passed to record()
+  public long recordedCount() {
+    long total = 0;
+    for (Site site : sites.values()) {
+      for (Counts counts : site.byType.values()) {
+        total += counts.count.sum();
+      }
+    }
+    return total;
+  }
+
+  // Throws seen through JFR events (Errors, plus every exception when traceAllThrows is set)
+  public long observedCount() {
+    long total = 0;
+    for (LongAdder count : observed.values()) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  // Every type and site seen so far, recorded and JFR-observed ("jfr:" sites), busiest first
+  public List<ThrowSite> sites() {
+    double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+    List<ThrowSite> result = new ArrayList<>();
+    Comparator<LongAdder> bySum = Comparator.comparingLong(LongAdder::sum);
+    sites.forEach((name, site) -> site.byType.forEach((type, counts) -> {
+      Map<String, Long> origins = new LinkedHashMap<>();
+      counts.origins.entrySet().stream()
+          .sorted(Map.Entry.<String, LongAdder>comparingByValue(bySum).reversed())
+          .forEach(entry -> origins.put(entry.getKey(), entry.getValue().sum()));
+      long count = counts.count.sum();
+      result.add(new ThrowSite(type.getName(), name, count, count / seconds, origins));
+    }));
+    observed.forEach((key, adder) -> {
+      long count = adder.sum();
+      result.add(new ThrowSite(key.type(), key.site(), count, count / seconds, Map.of()));
+    });
+    result.sort(Comparator.comparingLong(ThrowSite::count).reversed());
+    return result;
+  }
+
+  // Sites averaging at least `perSecond` exceptions: candidates for a non-exceptional path
+  public List<ThrowSite> hotSites(double perSecond) {
+    return sites().stream().filter(site -> site.perSecond() >= perSecond).toList();
+  }
+
+  public String report(int topN, double hotPerSecond) {
+    StringBuilder sb = new StringBuilder("Exceptions recorded: ").append(recordedCount());
+    sb.append(", observed by JFR: ").append(observedCount());
+    jvmThrowables().ifPresent(n -> sb.append(", created JVM-wide: ").append(n));
+    sb.append(System.lineSeparator());
+    sites().stream().limit(topN).forEach(site -> sb.append(site.perSecond() >= hotPerSecond ? "HOT " : "    ")
+        .append(site).append(System.lineSeparator()));
+    return sb.toString();
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  private void countThrow(RecordedEvent event, String source) {
+    RecordedClass thrownClass = event.getValue("thrownClass");
+    String type = thrownClass == null ? "<unknown>" : thrownClass.getName();
+    observed.computeIfAbsent(new ObservedKey(type, source + " " + CallSites.of(event)), key -> new LongAdder())
+        .increment();
+  }
+
+  private static String originOf(StackTraceElement frame) {
+    return simpleName(frame.getClassName()) + "." + frame.getMethodName() + "(line " + frame.getLineNumber() + ")";
+  }
+
+  private static String simpleName(String className) {
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+}
@@ -0,0 +1,70 @@
+package com.interviewprep.exception_handling.telemetry;
+
+import com.interviewprep.exception_handling.exception_swollowing.ExceptionSwallowingExample;
+
+public class ExceptionTelemetryExample {
+  public static void main(String[] args) throws InterruptedException {
+    try (ExceptionTelemetry telemetry = new ExceptionTelemetry(1_000, false)) {
+      Thread.sleep(1_200); // let the first ExceptionStatistics event set the baseline
+
+      // Hot: parsing with exceptions as control flow. Hot catch blocks look their site up once.
+      ExceptionTelemetry.Site parseSite = telemetry.site("ExceptionTelemetryExample.parse");
+      String[] inputs = {"42", "abc", "7", "", "x9"};
+      long parsed = 0;
+      for (int i = 0; i < 300_000; i++) {
+        try {
+          parsed += Integer.parseInt(inputs[i % inputs.length]);
+        } catch (NumberFormatException e) {
+          telemetry.record(e, parseSite);
+        }
+      }
+
+      // Hot and swallowed: after enough throws the JIT drops the stack trace (OmitStackTraceInFastThrow),
+      // which shows up as "<no stack trace>" samples
+      ExceptionTelemetry.Site divideSite = telemetry.site("ExceptionTelemetryExample.divide");
+      for (int i = 0; i < 200_000; i++) {
+        try {
+          ExceptionSwallowingExample.divide(i, i % 2);
+        } catch (ArithmeticException e) {
+          telemetry.record(e, divideSite);
+        }
+      }
+
+      // Cold: propagated through several frames before being caught; without a site, the calling
+      // class is the site
+      for (int i = 0; i < 20; i++) {
+        try {
+          deepCall(3);
+        } catch (IllegalStateException e) {
+          telemetry.record(e);
+        }
+      }
+
+      // Never recorded: only the JVM-wide statistics see these
+      for (int i = 0; i < 50_000; i++) {
+        try {
+          Integer.parseInt("not a number");
+        } catch (NumberFormatException ignored) {
+        }
+      }
+
+      Thread.sleep(1_200); // wait for a statistics event covering the loops above
+      System.out.println("parsed sum " + parsed);
+      System.out.print(telemetry.report(10, 1_000));
+      System.out.println();
+      // The JVM counts Throwable constructions, so reused fast-throw instances are missing from its total
+      // while the 50,000 unrecorded parse failures are in it
+      telemetry.jvmThrowables().ifPresent(total -> System.out.printf(
+          "Recorded %,d, created JVM-wide %,d%n", telemetry.recordedCount(), total));
+      System.out.println("Turn these into non-exceptional paths:");
+      telemetry.hotSites(1_000).forEach(site -> System.out.printf("  %s at %s (%,.0f/s)%n", site.type(), site.site(), site.perSecond()));
+    }
+  }
+
+  private static void deepCall(int depth) {
+    if (depth == 0) {
+      throw new IllegalStateException("no more depth");
+    }
+    deepCall(depth - 1);
+  }
+}
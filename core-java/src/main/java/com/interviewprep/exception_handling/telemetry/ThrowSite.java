@@ -0,0 +1,20 @@
+package com.interviewprep.exception_handling.telemetry;
+
+import java.util.Map;
+
+/**
+ * Counts for one exception type at one site. {@code site} is where the exception was reported: the
+ * site passed to {@code ExceptionTelemetry.record}, or else the calling class. For JFR-observed
+ * throws it is where the exception was thrown. {@code sampledOrigins} maps the throwing frame of sampled stack traces
+ * to how often it was seen.
+ */
+public record ThrowSite(String type, String site, long count, double perSecond, Map<String, Long> sampledOrigins) {
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(String.format("%-36s %-48s %,10d (%,.0f/s)", type, site, count, perSecond));
+    sampledOrigins.forEach((origin, n) -> sb.append(System.lineSeparator()).append("      thrown at ").append(origin)
+        .append(" (").append(n).append(" samples)"));
+    return sb.toString();
+  }
+}
@@ -0,0 +1,305 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads many files at once with {@link AsynchronousFileChannel}, unlike the one-file-at-a-time
+ * blocking reads in {@code TryWithResourcesExample}.
+ *
+ * <ul>
+ *   <li>Every read needs a buffer from a fixed {@link DirectBufferPool}, so the pool size bounds
+ *       the reads in flight across all files. Files waiting for a buffer take turns round-robin.
+ *       Files are opened in submission order only when granted their first buffer, and at most
+ *       {@code maxInFlight} are open at once, so a long queue of files holds no descriptors.
+ *   <li>Each file keeps up to {@code readAhead} chunk reads outstanding. Reads can complete out of
+ *       order, so finished chunks wait in a small reorder map until the handler can take them in
+ *       file order.
+ * </ul>
+ *
+ * <p>Completions and handlers run on the reader's own thread pool, not on the caller's thread.
+ */
+public class AsyncFileReader implements FileReadEngine {
+  private final DirectBufferPool pool;
+  private final int readAhead;
+  private final ExecutorService completionPool;
+  private final int maxOpenFiles;
+  private final Deque<FileRead<?>> waitingToOpen = new ArrayDeque<>();
+  private final Deque<FileRead<?>> waitingForBuffer = new ArrayDeque<>();
+  private int openFiles;
+
+  public AsyncFileReader(int maxInFlight, int bufferSize, int readAhead) {
+    if (maxInFlight <= 0 || bufferSize <= 0 || readAhead <= 0) {
+      throw new IllegalArgumentException("maxInFlight, bufferSize and readAhead must be positive");
+    }
+    this.pool = new DirectBufferPool(maxInFlight, bufferSize);
+    this.readAhead = readAhead;
+    this.maxOpenFiles = maxInFlight;
+    this.completionPool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+  }
+
+  @Override
+  public <R> CompletableFuture<R> read(Path file, FileReadHandler<R> handler) {
+    FileRead<R> read = new FileRead<>(file, handler);
+    synchronized (this) {
+      waitingToOpen.addLast(read);
+    }
+    // A file cancelled while queued with no read outstanding is only retired by the next pump()
+    read.future.whenComplete((result, error) -> {
+      if (read.future.isCancelled()) {
+        pump();
+      }
+    });
+    pump();
+    return read.future;
+  }
+
+  @Override
+  public void close() {
+    completionPool.close();
+  }
+
+  // Issues reads while buffers are free and some file may read ahead; a new file is opened only
+  // while fewer than maxOpenFiles are open
+  private void pump() {
+    while (true) {
+      FileRead<?> file;
+      ByteBuffer buffer;
+      long position = 0;
+      boolean first;
+      synchronized (this) {
+        first = openFiles < maxOpenFiles && !waitingToOpen.isEmpty();
+        file = first ? waitingToOpen.peekFirst() : waitingForBuffer.pollFirst();
+        if (file == null) {
+          return;
+        }
+        if (first && file.future.isDone()) {
+          waitingToOpen.pollFirst(); // cancelled while queued
+          continue;
+        }
+        if (!first && !file.canIssue(readAhead)) {
+          file.queued = false;
+          if (file.future.isDone() && file.outstanding == 0) {
+            retire(file); // cancelled: no completion is left to retire it
+          }
+          continue;
+        }
+        buffer = pool.tryAcquire();
+        if (buffer == null) {
+          if (!first) {
+            waitingForBuffer.addFirst(file);
+          }
+          return;
+        }
+        if (first) {
+          // Stays out of both queues until open() has learned the size
+          waitingToOpen.pollFirst();
+          openFiles++;
+          file.outstanding++;
+        } else {
+          position = file.nextIssue;
+          file.nextIssue += pool.bufferSize();
+          file.outstanding++;
+          if (file.canIssue(readAhead)) {
+            waitingForBuffer.addLast(file);
+          } else {
+            file.queued = false;
+          }
+          buffer.limit((int) Math.min(buffer.capacity(), file.size - position));
+        }
+      }
+      if (first) {
+        open(file, buffer);
+      } else {
+        file.channel.read(buffer, position, new ReadOp(file, position, buffer), onRead);
+      }
+    }
+  }
+
+  // Opens a file that has just been granted its first buffer and issues the read at offset 0
+  private void open(FileRead<?> file, ByteBuffer buffer) {
+    long size;
+    try {
+      file.channel = AsynchronousFileChannel.open(file.path, Set.of(StandardOpenOption.READ), completionPool);
+      size = file.channel.size();
+    } catch (IOException | RuntimeException e) {
+      pool.release(buffer);
+      file.fail(e);
+      synchronized (this) {
+        file.outstanding--;
+        retire(file);
+      }
+      return;
+    }
+    synchronized (this) {
+      file.size = size;
+      if (size > 0) {
+        file.nextIssue = pool.bufferSize();
+        buffer.limit((int) Math.min(buffer.capacity(), size));
+        if (file.canIssue(readAhead)) {
+          waitingForBuffer.addLast(file);
+          file.queued = true;
+        }
+      } else {
+        file.outstanding--;
+        retire(file);
+      }
+    }
+    if (size == 0) {
+      pool.release(buffer);
+      file.finish();
+      return;
+    }
+    file.channel.read(buffer, 0, new ReadOp(file, 0, buffer), onRead);
+  }
+
+  // Closes the file and frees its open-file slot once; guarded by this
+  private void retire(FileRead<?> file) {
+    if (!file.retired) {
+      file.retired = true;
+      file.closeChannel();
+      openFiles--;
+    }
+  }
+
+  private final CompletionHandler<Integer, ReadOp> onRead = new CompletionHandler<>() {
+    @Override
+    public void completed(Integer bytes, ReadOp op) {
+      // Short reads are continued into the same buffer until the chunk is full or the file ends
+      if (bytes > 0 && op.buffer.hasRemaining() && !op.file.future.isDone()) {
+        op.file.channel.read(op.buffer, op.position + op.buffer.position(), op, this);
+        return;
+      }
+      op.buffer.flip();
+      int delivered = op.file.complete(op.position, op.buffer, pool);
+      synchronized (AsyncFileReader.this) {
+        op.file.outstanding -= delivered;
+        if (op.file.future.isDone()) {
+          retire(op.file);
+        } else if (!op.file.queued && op.file.canIssue(readAhead)) {
+          waitingForBuffer.addLast(op.file);
+          op.file.queued = true;
+        }
+      }
+      pump();
+    }
+
+    @Override
+    public void failed(Throwable error, ReadOp op) {
+      pool.release(op.buffer);
+      int released = op.file.abort(error, pool);
+      synchronized (AsyncFileReader.this) {
+        op.file.outstanding -= 1 + released;
+        retire(op.file);
+      }
+      pump();
+    }
+  };
+
+  private record ReadOp(FileRead<?> file, long position, ByteBuffer buffer) {
+  }
+
+  // Per-file state; issue-side fields are guarded by the reader, delivery-side fields by `this`
+  private static final class FileRead<R> {
+    final Path path;
+    final FileReadHandler<R> handler;
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    volatile AsynchronousFileChannel channel;
+    boolean retired;
+    long size;
+    long nextIssue;
+    int outstanding;
+    boolean queued;
+    private final TreeMap<Long, ByteBuffer> reorder = new TreeMap<>();
+    private long nextDeliver;
+
+    FileRead(Path path, FileReadHandler<R> handler) {
+      this.path = path;
+      this.handler = handler;
+    }
+
+    boolean canIssue(int readAhead) {
+      return !future.isDone() && nextIssue < size && outstanding < readAhead;
+    }
+
+    // Hands every chunk that is now in order to the handler; returns how many were released
+    synchronized int complete(long position, ByteBuffer buffer, DirectBufferPool pool) {
+      if (future.isDone()) {
+        pool.release(buffer);
+        return 1;
+      }
+      reorder.put(position, buffer);
+      int delivered = 0;
+      ByteBuffer next;
+      while ((next = reorder.remove(nextDeliver)) != null) {
+        delivered++;
+        // A chunk shorter than requested means the file shrank while being read
+        boolean end = next.limit() == 0 || next.limit() < Math.min(pool.bufferSize(), size - nextDeliver);
+        nextDeliver += pool.bufferSize();
+        try {
+          if (next.hasRemaining()) {
+            handler.onChunk(next);
+          }
+        } catch (RuntimeException e) {
+          pool.release(next);
+          fail(e);
+          return delivered + releaseAll(pool);
+        }
+        pool.release(next);
+        if (end || nextDeliver >= size) {
+          finish();
+          return delivered + releaseAll(pool);
+        }
+      }
+      return delivered;
+    }
+
+    void finish() {
+      try {
+        closeChannel();
+        future.complete(handler.onComplete());
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+    void fail(Throwable error) {
+      closeChannel();
+      future.completeExceptionally(error);
+    }
+
+    // Fails the file and returns the chunks still waiting for delivery to the pool
+    synchronized int abort(Throwable error, DirectBufferPool pool) {
+      fail(error);
+      return releaseAll(pool);
+    }
+
+    private int releaseAll(DirectBufferPool pool) {
+      int released = reorder.size();
+      reorder.values().forEach(pool::release);
+      reorder.clear();
+      return released;
+    }
+
+    private void closeChannel() {
+      try {
+        if (channel != null) {
+          channel.close();
+        }
+      } catch (IOException ignored) {
+        // Read-only channel: nothing to lose on a failed close
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class AsyncFileReaderExample {
+
+  // Checksums a file and counts its lines from the raw chunks
+  static class Checksum implements FileReadHandler<Long> {
+    private final CRC32C crc = new CRC32C();
+    private long lines;
+
+    @Override
+    public void onChunk(ByteBuffer chunk) {
+      for (int i = chunk.position(); i < chunk.limit(); i++) {
+        if (chunk.get(i) == '\n') {
+          lines++;
+        }
+      }
+      crc.update(chunk);
+    }
+
+    @Override
+    public Long onComplete() {
+      return crc.getValue() ^ (lines << 32);
+    }
+  }
+
+  // Requests a batch at a time, like a consumer writing results to a slow sink
+  static class BatchSubscriber implements Flow.Subscriber<FileResult<Long>> {
+    final Map<Path, Long> results = new ConcurrentHashMap<>();
+    final AtomicInteger failures = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(1);
+    private final int batch;
+    private Flow.Subscription subscription;
+    private int received;
+
+    BatchSubscriber(int batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(batch);
+    }
+
+    @Override
+    public void onNext(FileResult<Long> result) {
+      if (result.failed()) {
+        failures.incrementAndGet();
+      } else {
+        results.put(result.file(), result.value());
+      }
+      if (++received % batch == 0) {
+        subscription.request(batch);
+      }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      error.printStackTrace();
+      done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      done.countDown();
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Path dir = Files.createTempDirectory("ingest");
+    try {
+      List<Path> files = writeFiles(dir, 1_000);
+      files.add(dir.resolve("missing.log")); // reported as a failed FileResult, the stream carries on
+
+      Map<Path, Long> expected = new ConcurrentHashMap<>();
+      long start = System.nanoTime();
+      for (Path file : files.subList(0, files.size() - 1)) {
+        Checksum checksum = new Checksum();
+        checksum.onChunk(ByteBuffer.wrap(Files.readAllBytes(file)));
+        expected.put(file, checksum.onComplete());
+      }
+      System.out.printf("blocking, one at a time: %4d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+      for (int round = 0; round < 2; round++) {
+        try (FileReadEngine async = new AsyncFileReader(64, 16 * 1024, 4)) {
+          run("AsynchronousFileChannel", async, files, expected);
+        }
+        try (FileReadEngine virtual = new VirtualThreadFileReader(64, 16 * 1024)) {
+          run("virtual threads", virtual, files, expected);
+        }
+      }
+      try (FileReadEngine async = new AsyncFileReader(2, 64, 2)) {
+        cancelAndReadAgain(async, files.subList(0, 40), expected);
+      }
+    } finally {
+      try (Stream<Path> paths = Files.walk(dir)) {
+        for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(path);
+        }
+      }
+    }
+  }
+
+  private static void run(String name, FileReadEngine engine, List<Path> files, Map<Path, Long> expected)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    BatchSubscriber subscriber = new BatchSubscriber(32);
+    new FilePublisher<>(engine, files, file -> new Checksum(), 32).subscribe(subscriber);
+    subscriber.done.await();
+    System.out.printf("%-24s %4d ms, %d files, %d failed%n", name + ":", (System.nanoTime() - start) / 1_000_000,
+        subscriber.results.size(), subscriber.failures.get());
+    if (!subscriber.results.equals(expected) || subscriber.failures.get() != 1) {
+      throw new AssertionError(name + " produced different checksums");
+    }
+  }
+
+  // Cancels reads at random while they queue and run. Every cancelled file must give its open-file
+  // slot back, or after a few rounds the reader (2 slots here) can no longer start a read
+  private static void cancelAndReadAgain(FileReadEngine engine, List<Path> files, Map<Path, Long> expected)
+      throws InterruptedException, ExecutionException {
+    Random random = new Random(5);
+    for (int round = 0; round < 10; round++) {
+      List<CompletableFuture<Long>> reads = new ArrayList<>();
+      for (Path file : files) {
+        reads.add(engine.read(file, new Checksum()));
+      }
+      while (reads.stream().anyMatch(read -> !read.isDone())) {
+        reads.get(random.nextInt(reads.size())).cancel(false);
+        Thread.sleep(0, 50_000);
+      }
+    }
+    Path probe = files.get(1);
+    try {
+      if (!engine.read(probe, new Checksum()).get(10, TimeUnit.SECONDS).equals(expected.get(probe))) {
+        throw new AssertionError("wrong checksum after cancellations");
+      }
+    } catch (TimeoutException e) {
+      throw new AssertionError("read stalled: cancelled reads kept their files open");
+    }
+    System.out.println("cancelled reads released their files");
+  }
+
+  // Files from empty to a few hundred KB, so some span many chunks and exercise read-ahead
+  private static List<Path> writeFiles(Path dir, int count) throws IOException {
+    Random random = new Random(11);
+    List<Path> files = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      StringBuilder sb = new StringBuilder();
+      int lines = i % 100 == 0 ? 0 : random.nextInt(4_000);
+      for (int line = 0; line < lines; line++) {
+        sb.append("file ").append(i).append(" line ").append(line).append(" value ").append(random.nextLong()).append('\n');
+      }
+      Path file = dir.resolve("part-" + i + ".log");
+      Files.writeString(file, sb);
+      files.add(file);
+    }
+    return files;
+  }
+}
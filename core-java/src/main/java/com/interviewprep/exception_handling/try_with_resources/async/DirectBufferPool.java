@@ -0,0 +1,37 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Fixed set of direct buffers allocated once; the pool size is also the limit on reads in flight
+final class DirectBufferPool {
+  private final BlockingQueue<ByteBuffer> free;
+  private final int bufferSize;
+
+  DirectBufferPool(int buffers, int bufferSize) {
+    this.free = new ArrayBlockingQueue<>(buffers);
+    this.bufferSize = bufferSize;
+    for (int i = 0; i < buffers; i++) {
+      free.add(ByteBuffer.allocateDirect(bufferSize));
+    }
+  }
+
+  int bufferSize() {
+    return bufferSize;
+  }
+
+  // null when every buffer is in use
+  ByteBuffer tryAcquire() {
+    return free.poll();
+  }
+
+  ByteBuffer acquire() throws InterruptedException {
+    return free.take();
+  }
+
+  void release(ByteBuffer buffer) {
+    buffer.clear();
+    free.add(buffer);
+  }
+}
@@ -0,0 +1,148 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Streams one {@link FileResult} per file to a single subscriber. Backpressure reaches the disk:
+ * a file is only opened while the subscriber has requested more results than are already being
+ * read or waiting to be delivered, and never more than {@code maxConcurrentFiles} at once. A slow
+ * subscriber therefore stops the reading instead of piling up results. Results are published in
+ * completion order.
+ */
+public class FilePublisher<R> implements Flow.Publisher<FileResult<R>> {
+  private final FileReadEngine engine;
+  private final List<Path> files;
+  private final Function<Path, FileReadHandler<R>> handlers;
+  private final int maxConcurrentFiles;
+  private boolean subscribed;
+
+  public FilePublisher(FileReadEngine engine, List<Path> files, Function<Path, FileReadHandler<R>> handlers,
+      int maxConcurrentFiles) {
+    this.engine = engine;
+    this.files = List.copyOf(files);
+    this.handlers = handlers;
+    this.maxConcurrentFiles = maxConcurrentFiles;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super FileResult<R>> subscriber) {
+    synchronized (this) {
+      if (subscribed) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+          public void request(long n) {
+          }
+
+          public void cancel() {
+          }
+        });
+        subscriber.onError(new IllegalStateException("FilePublisher supports a single subscriber"));
+        return;
+      }
+      subscribed = true;
+    }
+    FileSubscription subscription = new FileSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    subscription.drain();
+  }
+
+  private final class FileSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super FileResult<R>> subscriber;
+    private final Deque<FileResult<R>> ready = new ArrayDeque<>();
+    private long demand;
+    private int nextFile;
+    private int reading;
+    private boolean emitting;
+    private boolean done;
+
+    FileSubscription(Flow.Subscriber<? super FileResult<R>> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        cancel();
+        subscriber.onError(new IllegalArgumentException("request must be positive, was " + n));
+        return;
+      }
+      synchronized (this) {
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+      }
+      drain();
+    }
+
+    @Override
+    public synchronized void cancel() {
+      done = true;
+      ready.clear();
+    }
+
+    // Emits ready results up to the demand, then opens more files; re-entrant calls from onNext just return
+    void drain() {
+      synchronized (this) {
+        if (emitting) {
+          return;
+        }
+        emitting = true;
+      }
+      while (true) {
+        FileResult<R> next = null;
+        boolean complete = false;
+        synchronized (this) {
+          if (!done && demand > 0 && !ready.isEmpty()) {
+            next = ready.pollFirst();
+            demand--;
+          } else if (!done && nextFile == files.size() && reading == 0 && ready.isEmpty()) {
+            done = true;
+            complete = true;
+          } else {
+            emitting = false;
+            break;
+          }
+        }
+        if (complete) {
+          subscriber.onComplete();
+          return;
+        }
+        subscriber.onNext(next);
+      }
+      startReads();
+    }
+
+    private void startReads() {
+      List<Path> toStart = new ArrayList<>();
+      synchronized (this) {
+        while (!done && nextFile < files.size() && reading < maxConcurrentFiles && reading + ready.size() < demand) {
+          toStart.add(files.get(nextFile++));
+          reading++;
+        }
+      }
+      for (Path file : toStart) {
+        FileReadHandler<R> handler;
+        try {
+          handler = handlers.apply(file);
+        } catch (RuntimeException e) {
+          finished(new FileResult<>(file, null, e));
+          continue;
+        }
+        engine.read(file, handler).whenComplete((value, error) -> finished(new FileResult<>(file, value, error)));
+      }
+    }
+
+    private void finished(FileResult<R> result) {
+      synchronized (this) {
+        reading--;
+        if (!done) {
+          ready.addLast(result);
+        }
+      }
+      drain();
+    }
+  }
+}
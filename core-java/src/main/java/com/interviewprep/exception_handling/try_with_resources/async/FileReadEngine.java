@@ -0,0 +1,12 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+public interface FileReadEngine extends AutoCloseable {
+  // Completes with the handler's result, or exceptionally if the read or the handler fails
+  <R> CompletableFuture<R> read(Path file, FileReadHandler<R> handler);
+
+  @Override
+  void close();
+}
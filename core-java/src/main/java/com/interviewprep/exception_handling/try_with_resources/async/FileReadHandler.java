@@ -0,0 +1,14 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives one file's bytes. Chunks arrive in file order and never concurrently for the same
+ * file. The buffer goes back to the pool when {@code onChunk} returns, so it must not be kept.
+ */
+public interface FileReadHandler<R> {
+  void onChunk(ByteBuffer chunk);
+
+  // Called once after the last chunk; the value completes the file's future
+  R onComplete();
+}
@@ -0,0 +1,11 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.nio.file.Path;
+
+// One file's outcome; a failed file does not end the stream, it is published with `error` set
+public record FileResult<R>(Path file, R value, Throwable error) {
+
+  public boolean failed() {
+    return error != null;
+  }
+}
@@ -0,0 +1,61 @@
+package com.interviewprep.exception_handling.try_with_resources.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The same contract as {@link AsyncFileReader}, written as plain blocking code: one virtual thread
+ * per file reads sequentially with {@link FileChannel}. A file holds one pooled buffer for its
+ * whole read and only opens its channel once it has the buffer, so the pool size bounds both the
+ * files read and the file descriptors open at once. Read-ahead is left to the OS page cache.
+ */
+public class VirtualThreadFileReader implements FileReadEngine {
+  private final DirectBufferPool pool;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public VirtualThreadFileReader(int maxInFlight, int bufferSize) {
+    if (maxInFlight <= 0 || bufferSize <= 0) {
+      throw new IllegalArgumentException("maxInFlight and bufferSize must be positive");
+    }
+    this.pool = new DirectBufferPool(maxInFlight, bufferSize);
+  }
+
+  @Override
+  public <R> CompletableFuture<R> read(Path file, FileReadHandler<R> handler) {
+    CompletableFuture<R> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      ByteBuffer buffer;
+      try {
+        buffer = pool.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.completeExceptionally(e);
+        return;
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        while (channel.read(buffer) > 0) {
+          buffer.flip();
+          handler.onChunk(buffer);
+          buffer.clear();
+        }
+        future.complete(handler.onComplete());
+      } catch (IOException | RuntimeException e) {
+        future.completeExceptionally(e);
+      } finally {
+        pool.release(buffer);
+      }
+    });
+    return future;
+  }
+
+  @Override
+  public void close() {
+    executor.close();
+  }
+}
@@ -0,0 +1,80 @@
+package com.interviewprep.exception_handling.try_with_resources.mapped;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable view of a line inside a mapped buffer. The reader repositions the same instance for
+ * every line, so a handler must copy anything it wants to keep ({@link #toString} or {@link
+ * #copyTo}) before returning.
+ */
+public final class ByteSlice {
+  private ByteBuffer buffer;
+  private int offset;
+  private int length;
+
+  void set(ByteBuffer buffer, int offset, int length) {
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public byte byteAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return buffer.get(offset + index);
+  }
+
+  public int indexOf(byte b, int from) {
+    for (int i = Math.max(from, 0); i < length; i++) {
+      if (buffer.get(offset + i) == b) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public boolean startsWith(byte[] prefix) {
+    return regionMatches(0, prefix);
+  }
+
+  // Finds an ASCII/UTF-8 byte sequence without decoding the line
+  public boolean contains(byte[] needle) {
+    for (int i = 0; i + needle.length <= length; i++) {
+      if (regionMatches(i, needle)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int copyTo(byte[] target, int targetOffset) {
+    buffer.get(offset, target, targetOffset, length);
+    return length;
+  }
+
+  // Decodes the line as UTF-8; allocates, so only for lines that are actually kept
+  @Override
+  public String toString() {
+    byte[] bytes = new byte[length];
+    copyTo(bytes, 0);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private boolean regionMatches(int at, byte[] other) {
+    if (at + other.length > length) {
+      return false;
+    }
+    for (int i = 0; i < other.length; i++) {
+      if (buffer.get(offset + at + i) != other[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
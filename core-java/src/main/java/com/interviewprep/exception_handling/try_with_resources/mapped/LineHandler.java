@@ -0,0 +1,7 @@
+package com.interviewprep.exception_handling.try_with_resources.mapped;
+
+@FunctionalInterface
+public interface LineHandler {
+  // `line` is only valid during the call, without its '\n' or "\r\n"
+  void onLine(ByteSlice line);
+}
@@ -0,0 +1,135 @@
+package com.interviewprep.exception_handling.try_with_resources.mapped;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Reads a file line by line without a String or a char decode per line, unlike the {@code
+ * BufferedReader.readLine} loop in {@code TryWithResourcesExample}. The file is split into
+ * newline-aligned chunks that are memory mapped one at a time. {@link NewlineScanner} finds line
+ * ends eight bytes per step, and every line goes to the handler through one reused {@link
+ * ByteSlice}.
+ *
+ * <p>A {@code MappedByteBuffer} addresses at most 2 GiB, so multi-GB files are always split into
+ * chunks of at most {@link #MAX_CHUNK_BYTES}. The parallel variant hands out those chunks to a
+ * fixed pool with one handler per chunk, so handlers need no synchronization and the caller merges
+ * them in file order.
+ */
+public final class MappedLineReader {
+  static final long MAX_CHUNK_BYTES = 1L << 30;
+  private static final int BOUNDARY_PROBE_BYTES = 8 * 1024;
+
+  private MappedLineReader() {
+  }
+
+  // Returns the number of lines
+  public static long forEachLine(Path file, LineHandler handler) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long lines = 0;
+      ByteSlice slice = new ByteSlice();
+      for (long[] chunk : chunks(channel, 1)) {
+        lines += scan(channel, chunk[0], chunk[1], handler, slice);
+      }
+      return lines;
+    }
+  }
+
+  // Runs one handler per chunk on `threads` threads and returns the handlers in file order
+  public static <H extends LineHandler> List<H> forEachLineParallel(Path file, int threads, Supplier<H> handlers)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+      List<H> result = new ArrayList<>();
+      List<Future<?>> futures = new ArrayList<>();
+      for (long[] chunk : chunks(channel, threads)) {
+        H handler = handlers.get();
+        result.add(handler);
+        futures.add(pool.submit(() -> {
+          try {
+            return scan(channel, chunk[0], chunk[1], handler, new ByteSlice());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof UncheckedIOException io) {
+            throw io.getCause();
+          }
+          throw new IllegalStateException("Line handler failed", e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while reading " + file, e);
+        }
+      }
+      return result;
+    }
+  }
+
+  // Newline-aligned [start, end) ranges: at least `parts` of them when the file is large enough
+  static List<long[]> chunks(FileChannel channel, int parts) throws IOException {
+    long size = channel.size();
+    long target = Math.min(MAX_CHUNK_BYTES, Math.max(1, (size + parts - 1) / parts));
+    List<long[]> chunks = new ArrayList<>();
+    long start = 0;
+    while (start < size) {
+      long end = start + target >= size ? size : afterNextNewline(channel, start + target, size);
+      if (end - start > Integer.MAX_VALUE) {
+        throw new IOException("Line longer than 2 GiB at offset " + start);
+      }
+      chunks.add(new long[] {start, end});
+      start = end;
+    }
+    return chunks;
+  }
+
+  private static long afterNextNewline(FileChannel channel, long from, long size) throws IOException {
+    ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_BYTES);
+    for (long position = from; position < size; position += probe.limit()) {
+      probe.clear();
+      channel.read(probe, position);
+      probe.flip();
+      for (int i = 0; i < probe.limit(); i++) {
+        if (probe.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+    }
+    return size;
+  }
+
+  private static long scan(FileChannel channel, long start, long end, LineHandler handler, ByteSlice slice)
+      throws IOException {
+    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    mapped.order(ByteOrder.LITTLE_ENDIAN);
+    int limit = mapped.limit();
+    long lines = 0;
+    int lineStart = 0;
+    while (lineStart < limit) {
+      int newline = NewlineScanner.next(mapped, lineStart, limit);
+      int lineEnd = newline < 0 ? limit : newline;
+      int contentEnd = lineEnd > lineStart && mapped.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+      slice.set(mapped, lineStart, contentEnd - lineStart);
+      handler.onLine(slice);
+      lines++;
+      lineStart = lineEnd + 1;
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,105 @@
+package com.interviewprep.exception_handling.try_with_resources.mapped;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+public class MappedLineReaderExample {
+  private static final byte[] ERROR = "ERROR".getBytes(StandardCharsets.US_ASCII);
+
+  // Per-chunk state: no sharing between threads, merged after the run
+  static class ErrorCounter implements LineHandler {
+    long lines;
+    long errors;
+    long bytes;
+
+    @Override
+    public void onLine(ByteSlice line) {
+      lines++;
+      bytes += line.length();
+      if (line.contains(ERROR)) {
+        errors++;
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path file = Files.createTempFile("app", ".log");
+    try {
+      writeLog(file, 2_000_000);
+      System.out.printf("%s: %,d bytes%n", file.getFileName(), Files.size(file));
+
+      for (int round = 0; round < 3; round++) {
+        long start = System.nanoTime();
+        ErrorCounter buffered = new ErrorCounter();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            buffered.lines++;
+            buffered.bytes += line.length();
+            if (line.contains("ERROR")) {
+              buffered.errors++;
+            }
+          }
+        }
+        long bufferedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ErrorCounter mapped = new ErrorCounter();
+        long lines = MappedLineReader.forEachLine(file, mapped);
+        long mappedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<ErrorCounter> perChunk = MappedLineReader.forEachLineParallel(file, 4, ErrorCounter::new);
+        ErrorCounter parallel = new ErrorCounter();
+        perChunk.forEach(c -> {
+          parallel.lines += c.lines;
+          parallel.errors += c.errors;
+          parallel.bytes += c.bytes;
+        });
+        long parallelNanos = System.nanoTime() - start;
+
+        System.out.printf("readLine %4d ms | mapped %4d ms | parallel (%d chunks) %4d ms%n",
+            bufferedNanos / 1_000_000, mappedNanos / 1_000_000, perChunk.size(), parallelNanos / 1_000_000);
+        if (lines != buffered.lines || !same(buffered, mapped) || !same(buffered, parallel)) {
+          throw new AssertionError("Mismatch: " + describe(buffered) + " vs " + describe(mapped) + " vs " + describe(parallel));
+        }
+      }
+      System.out.println("All readers agree");
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // ASCII lines with CRLF endings, blank lines and no newline after the last line
+  private static void writeLog(Path file, int lines) throws IOException {
+    Random random = new Random(7);
+    String[] levels = {"INFO", "INFO", "INFO", "WARN", "ERROR"};
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      for (int i = 0; i < lines; i++) {
+        if (random.nextInt(50) == 0) {
+          writer.write("");
+        } else {
+          writer.write("2024-09-02T10:" + (i % 60) + " " + levels[random.nextInt(levels.length)]
+              + " request " + i + " took " + random.nextInt(500) + "ms");
+        }
+        if (i < lines - 1) {
+          writer.write(random.nextInt(10) == 0 ? "\r\n" : "\n");
+        }
+      }
+    }
+  }
+
+  private static boolean same(ErrorCounter a, ErrorCounter b) {
+    return a.lines == b.lines && a.errors == b.errors && a.bytes == b.bytes;
+  }
+
+  private static String describe(ErrorCounter c) {
+    return c.lines + "/" + c.errors + "/" + c.bytes;
+  }
+}
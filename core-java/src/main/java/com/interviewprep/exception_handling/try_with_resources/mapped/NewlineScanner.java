@@ -0,0 +1,38 @@
+package com.interviewprep.exception_handling.try_with_resources.mapped;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Finds '\n' eight bytes at a time (SWAR). XOR-ing a little-endian word with 0x0A in every byte
+ * turns newlines into zero bytes, and {@code (x - 0x01..) & ~x & 0x80..} sets the high bit of each
+ * zero byte. Bits above the first match can be false positives from the borrow, but the lowest set
+ * bit is always exact, which is the only one used.
+ */
+final class NewlineScanner {
+  private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  private NewlineScanner() {
+  }
+
+  // Index of the next '\n' in [from, limit), or -1; `buffer` must be little-endian
+  static int next(ByteBuffer buffer, int from, int limit) {
+    assert buffer.order() == ByteOrder.LITTLE_ENDIAN;
+    int i = from;
+    for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+      long x = buffer.getLong(i) ^ NEWLINES;
+      long found = (x - ONES) & ~x & HIGH_BITS;
+      if (found != 0) {
+        return i + (Long.numberOfTrailingZeros(found) >>> 3);
+      }
+    }
+    for (; i < limit; i++) {
+      if (buffer.get(i) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,43 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.lang.ref.Cleaner;
+
+/**
+ * A borrowed resource. {@link #close} hands it back to the pool instead of destroying it, so it
+ * fits a try-with-resources block exactly like the resource itself would. Closing twice is a
+ * no-op. A lease that becomes unreachable without being closed is reported as a leak and its
+ * resource is destroyed, so the pool does not shrink for good.
+ */
+public final class Lease<T> implements AutoCloseable {
+  private final ResourcePool<T> pool;
+  private final ResourcePool.Entry<T> entry;
+  private final ResourcePool.LeakGuard<T> guard;
+  private final Cleaner.Cleanable cleanable;
+
+  Lease(ResourcePool<T> pool, ResourcePool.Entry<T> entry, ResourcePool.LeakGuard<T> guard, Cleaner cleaner) {
+    this.pool = pool;
+    this.entry = entry;
+    this.guard = guard;
+    this.cleanable = cleaner.register(this, guard);
+  }
+
+  public T get() {
+    if (guard.isReturned()) {
+      throw new IllegalStateException("Lease already closed");
+    }
+    return entry.resource;
+  }
+
+  // Destroys the resource on close instead of reusing it, e.g. after an I/O error left it in an unknown state
+  public void invalidate() {
+    entry.broken = true;
+  }
+
+  @Override
+  public void close() {
+    if (guard.markReturned()) {
+      cleanable.clean();
+      pool.release(entry);
+    }
+  }
+}
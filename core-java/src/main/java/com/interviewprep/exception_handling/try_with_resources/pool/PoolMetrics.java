@@ -0,0 +1,21 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+/**
+ * A snapshot of a {@link ResourcePool}'s counters. Every lease is served by one of four routes:
+ * the thread's own cache, the shared queue, stealing an idle resource cached by another thread, or
+ * creating a new one.
+ */
+public record PoolMetrics(long leases, long threadCacheHits, long sharedHits, long steals, long created,
+    long destroyed, long evicted, long leaked, long waits, long waitNanos, int inUse, int idle) {
+
+  public double reuseRatio() {
+    return leases == 0 ? 0 : 1.0 - (double) created / leases;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("leases=%,d (thread cache %,d, shared %,d, stolen %,d, created %,d) reuse=%.1f%% destroyed=%d "
+            + "evicted=%d leaked=%d waits=%d (%.1f ms) inUse=%d idle=%d", leases, threadCacheHits, sharedHits, steals,
+        created, reuseRatio() * 100, destroyed, evicted, leaked, waits, waitNanos / 1e6, inUse, idle);
+  }
+}
@@ -0,0 +1,69 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+// Ready-made pools for the resources TryWithResourcesExample-style code keeps re-creating
+public final class Pools {
+  private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(30);
+  // -Dresource.pool.trackLeaks=true records where each leaked lease was taken
+  private static final boolean TRACK_LEAKS = Boolean.getBoolean("resource.pool.trackLeaks");
+
+  private Pools() {
+  }
+
+  public static ResourcePool<ByteBuffer> directBuffers(int bufferSize, int maxSize) {
+    return new ResourcePool<>("direct-buffers", new ResourceFactory<>() {
+      @Override
+      public ByteBuffer create() {
+        return ByteBuffer.allocateDirect(bufferSize);
+      }
+
+      @Override
+      public boolean reset(ByteBuffer buffer) {
+        buffer.clear();
+        return true;
+      }
+    }, maxSize, 4, IDLE_TIMEOUT, TRACK_LEAKS);
+  }
+
+  // Readers come back with their file closed; lease().get().open(path) to use one
+  public static ResourcePool<ReusableLineReader> lineReaders(int maxSize) {
+    return new ResourcePool<>("line-readers", new ResourceFactory<>() {
+      @Override
+      public ReusableLineReader create() {
+        return new ReusableLineReader(8192, StandardCharsets.UTF_8);
+      }
+
+      @Override
+      public boolean reset(ReusableLineReader reader) {
+        try {
+          reader.close();
+          return true;
+        } catch (IOException e) {
+          return false;
+        }
+      }
+    }, maxSize, 2, IDLE_TIMEOUT, TRACK_LEAKS);
+  }
+
+  // Open channels to one hot file; use positional reads so leases never depend on each other's position
+  public static ResourcePool<FileChannel> fileChannels(Path file, int maxSize) {
+    return new ResourcePool<>("channels-" + file.getFileName(), new ResourceFactory<>() {
+      @Override
+      public FileChannel create() throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ);
+      }
+
+      @Override
+      public boolean reset(FileChannel channel) {
+        return channel.isOpen();
+      }
+    }, maxSize, 2, IDLE_TIMEOUT, TRACK_LEAKS);
+  }
+}
@@ -0,0 +1,24 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.io.IOException;
+
+public interface ResourceFactory<T> {
+  T create() throws IOException;
+
+  // Prepares a returned resource for the next lease; returning false destroys it instead
+  default boolean reset(T resource) {
+    return true;
+  }
+
+  default void destroy(T resource) throws IOException {
+    if (resource instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (IOException | RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+    }
+  }
+}
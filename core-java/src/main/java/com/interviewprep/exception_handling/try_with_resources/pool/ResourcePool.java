@@ -0,0 +1,318 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded pool of reusable resources handed out as {@link Lease}s.
+ *
+ * <ul>
+ *   <li>A resource released by a thread goes to that thread's small cache first, so a thread
+ *       that loops over lease/close keeps getting the same warm resource without touching shared
+ *       state. When its cache is full, the resource goes to a shared LIFO queue.
+ *   <li>Each entry has one atomic state, IDLE, IN_USE or REMOVED, and every handoff is a CAS on
+ *       it. A cached entry is therefore never pinned to its thread: when the pool is at {@code
+ *       maxSize}, a borrower steals any idle entry, and the evictor can remove idle entries from
+ *       any cache. Stale references left in caches or the queue are skipped.
+ *   <li>A daemon evictor destroys resources idle for longer than {@code idleTimeout}.
+ *   <li>Every lease registers with a {@link Cleaner}. A lease collected without being closed
+ *       counts as leaked, its resource is destroyed and its slot is freed. With {@code
+ *       trackLeaks}, the report includes the stack of the code that took the lease.
+ * </ul>
+ */
+public class ResourcePool<T> implements AutoCloseable {
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  private static final int REMOVED = 2;
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final String name;
+  private final ResourceFactory<T> factory;
+  private final int maxSize;
+  private final int threadCacheSize;
+  private final long idleTimeoutNanos;
+  private final boolean trackLeaks;
+  private final List<Entry<T>> all = new CopyOnWriteArrayList<>();
+  private final ConcurrentLinkedDeque<Entry<T>> shared = new ConcurrentLinkedDeque<>();
+  private final ThreadLocal<ArrayDeque<Entry<T>>> threadCache = ThreadLocal.withInitial(ArrayDeque::new);
+  private final AtomicInteger size = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final ScheduledExecutorService evictor;
+  private volatile boolean closed;
+
+  private final LongAdder leases = new LongAdder();
+  private final LongAdder threadCacheHits = new LongAdder();
+  private final LongAdder sharedHits = new LongAdder();
+  private final LongAdder steals = new LongAdder();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder destroyed = new LongAdder();
+  private final LongAdder evicted = new LongAdder();
+  private final LongAdder leaked = new LongAdder();
+  private final LongAdder waits = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+
+  static final class Entry<T> {
+    final T resource;
+    final AtomicInteger state = new AtomicInteger(IN_USE);
+    volatile long idleSince;
+    volatile boolean broken;
+
+    Entry(T resource) {
+      this.resource = resource;
+    }
+  }
+
+  // Cleaner state for one lease; must not reference the Lease itself or it would never become unreachable
+  static final class LeakGuard<T> implements Runnable {
+    private final ResourcePool<T> pool;
+    private final Entry<T> entry;
+    private final Throwable acquiredAt;
+    private final AtomicBoolean returned = new AtomicBoolean();
+
+    LeakGuard(ResourcePool<T> pool, Entry<T> entry, Throwable acquiredAt) {
+      this.pool = pool;
+      this.entry = entry;
+      this.acquiredAt = acquiredAt;
+    }
+
+    boolean markReturned() {
+      return returned.compareAndSet(false, true);
+    }
+
+    boolean isReturned() {
+      return returned.get();
+    }
+
+    @Override
+    public void run() {
+      if (markReturned()) {
+        pool.leaked(entry, acquiredAt);
+      }
+    }
+  }
+
+  public ResourcePool(String name, ResourceFactory<T> factory, int maxSize, int threadCacheSize, Duration idleTimeout,
+      boolean trackLeaks) {
+    if (maxSize <= 0 || threadCacheSize < 0) {
+      throw new IllegalArgumentException("maxSize must be positive and threadCacheSize non-negative");
+    }
+    this.name = name;
+    this.factory = factory;
+    this.maxSize = maxSize;
+    this.threadCacheSize = threadCacheSize;
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.trackLeaks = trackLeaks;
+    this.evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+      Thread thread = new Thread(task, name + "-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long period = Math.max(1, idleTimeoutNanos / 2);
+    evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+  }
+
+  // Waits as long as needed for a free resource
+  public Lease<T> lease() throws IOException {
+    return lease(Duration.ofNanos(Long.MAX_VALUE));
+  }
+
+  public Lease<T> lease(Duration maxWait) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("Pool " + name + " is closed");
+    }
+    leases.increment();
+    Entry<T> entry = borrow();
+    if (entry == null) {
+      entry = awaitEntry(maxWait.toNanos());
+    }
+    LeakGuard<T> guard = new LeakGuard<>(this, entry, trackLeaks ? new Throwable("Lease taken here") : null);
+    return new Lease<>(this, entry, guard, CLEANER);
+  }
+
+  public PoolMetrics metrics() {
+    int idle = 0;
+    int inUse = 0;
+    for (Entry<T> entry : all) {
+      switch (entry.state.get()) {
+        case IDLE -> idle++;
+        case IN_USE -> inUse++;
+        default -> {
+        }
+      }
+    }
+    return new PoolMetrics(leases.sum(), threadCacheHits.sum(), sharedHits.sum(), steals.sum(), created.sum(),
+        destroyed.sum(), evicted.sum(), leaked.sum(), waits.sum(), waitNanos.sum(), inUse, idle);
+  }
+
+  // Destroys idle resources now; leased ones are destroyed as they are closed
+  @Override
+  public void close() {
+    closed = true;
+    evictor.shutdownNow();
+    for (Entry<T> entry : all) {
+      if (entry.state.compareAndSet(IDLE, REMOVED)) {
+        remove(entry);
+      }
+    }
+    signalAll();
+  }
+
+  void release(Entry<T> entry) {
+    if (closed || entry.broken || !factory.reset(entry.resource)) {
+      entry.state.set(REMOVED);
+      remove(entry);
+      signalAll();
+      return;
+    }
+    entry.idleSince = System.nanoTime();
+    entry.state.set(IDLE);
+    ArrayDeque<Entry<T>> cache = threadCache.get();
+    if (cache.size() < threadCacheSize) {
+      cache.push(entry);
+    } else {
+      shared.push(entry);
+    }
+    if (waiting.get() > 0) {
+      signalAll();
+    }
+  }
+
+  void leaked(Entry<T> entry, Throwable acquiredAt) {
+    leaked.increment();
+    System.err.println("Pool " + name + ": lease was never closed; destroying " + entry.resource);
+    if (acquiredAt != null) {
+      acquiredAt.printStackTrace();
+    }
+    entry.state.set(REMOVED);
+    remove(entry);
+    signalAll();
+  }
+
+  private Entry<T> borrow() throws IOException {
+    ArrayDeque<Entry<T>> cache = threadCache.get();
+    Entry<T> entry;
+    while ((entry = cache.poll()) != null) {
+      if (entry.state.compareAndSet(IDLE, IN_USE)) {
+        threadCacheHits.increment();
+        return entry;
+      }
+    }
+    while ((entry = shared.poll()) != null) {
+      if (entry.state.compareAndSet(IDLE, IN_USE)) {
+        sharedHits.increment();
+        return entry;
+      }
+    }
+    for (int current = size.get(); current < maxSize; current = size.get()) {
+      if (size.compareAndSet(current, current + 1)) {
+        return create();
+      }
+    }
+    // At capacity: take an idle entry sitting in another thread's cache
+    for (Entry<T> candidate : all) {
+      if (candidate.state.compareAndSet(IDLE, IN_USE)) {
+        steals.increment();
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private Entry<T> awaitEntry(long maxWaitNanos) throws IOException {
+    waits.increment();
+    waiting.incrementAndGet();
+    long start = System.nanoTime();
+    long remaining = maxWaitNanos;
+    try {
+      while (true) {
+        lock.lock();
+        try {
+          // Releasers signal when `waiting` is non-zero, so retrying under the lock cannot miss a release
+          Entry<T> entry = borrow();
+          if (entry != null) {
+            return entry;
+          }
+          if (closed) {
+            throw new IllegalStateException("Pool " + name + " is closed");
+          }
+          if (remaining <= 0) {
+            throw new IOException("Timed out waiting for a resource from pool " + name);
+          }
+          remaining = released.awaitNanos(remaining);
+        } finally {
+          lock.unlock();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for pool " + name);
+    } finally {
+      waiting.decrementAndGet();
+      waitNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  private Entry<T> create() throws IOException {
+    try {
+      Entry<T> entry = new Entry<>(factory.create());
+      all.add(entry);
+      created.increment();
+      return entry;
+    } catch (IOException | RuntimeException e) {
+      size.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private void remove(Entry<T> entry) {
+    if (all.remove(entry)) {
+      size.decrementAndGet();
+      destroyed.increment();
+      try {
+        factory.destroy(entry.resource);
+      } catch (IOException | RuntimeException e) {
+        System.err.println("Pool " + name + ": failed to destroy " + entry.resource + ": " + e);
+      }
+    }
+  }
+
+  private void evictIdle() {
+    long now = System.nanoTime();
+    for (Entry<T> entry : all) {
+      if (now - entry.idleSince > idleTimeoutNanos && entry.state.compareAndSet(IDLE, REMOVED)) {
+        if (now - entry.idleSince <= idleTimeoutNanos) {
+          // Leased and returned between the two reads: it is fresh again
+          entry.state.set(IDLE);
+          continue;
+        }
+        evicted.increment();
+        remove(entry);
+      }
+    }
+  }
+
+  private void signalAll() {
+    lock.lock();
+    try {
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResourcePoolExample {
+  public static void main(String[] args) throws Exception {
+    Path file = Files.createTempFile("example", ".txt");
+    try {
+      StringBuilder content = new StringBuilder();
+      for (int i = 0; i < 40; i++) {
+        content.append("line ").append(i).append(" of example.txt\n");
+      }
+      Files.writeString(file, content);
+
+      compareReaders(file);
+      sharedBuffers();
+      channels(file);
+      idleEvictionAndLeaks();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // TryWithResourcesExample's pattern, repeated, against a pooled reader
+  private static void compareReaders(Path file) throws IOException {
+    try (ResourcePool<ReusableLineReader> readers = Pools.lineReaders(4)) {
+      for (int round = 0; round < 3; round++) {
+        long start = System.nanoTime();
+        long fresh = 0;
+        for (int i = 0; i < 20_000; i++) {
+          try (BufferedReader br = new BufferedReader(new FileReader(file.toFile()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+              fresh += line.length();
+            }
+          }
+        }
+        long freshNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long pooled = 0;
+        for (int i = 0; i < 20_000; i++) {
+          try (Lease<ReusableLineReader> lease = readers.lease()) {
+            ReusableLineReader reader = lease.get().open(file);
+            String line;
+            while ((line = reader.readLine()) != null) {
+              pooled += line.length();
+            }
+          }
+        }
+        long pooledNanos = System.nanoTime() - start;
+        if (fresh != pooled) {
+          throw new AssertionError(fresh + " != " + pooled);
+        }
+        System.out.printf("new BufferedReader per call: %4d ms | pooled reader: %4d ms%n",
+            freshNanos / 1_000_000, pooledNanos / 1_000_000);
+      }
+      System.out.println("readers: " + readers.metrics());
+    }
+  }
+
+  // More threads than buffers: leases wait, and idle buffers cached by one thread are stolen by others
+  private static void sharedBuffers() throws InterruptedException {
+    try (ResourcePool<ByteBuffer> buffers = Pools.directBuffers(64 * 1024, 4)) {
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        threads.add(Thread.ofPlatform().start(() -> {
+          for (int i = 0; i < 5_000; i++) {
+            try (Lease<ByteBuffer> lease = buffers.lease()) {
+              ByteBuffer buffer = lease.get();
+              buffer.putLong(0, i);
+              if (buffer.position() != 0) {
+                throw new AssertionError("buffer was not reset");
+              }
+            } catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        }));
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      System.out.println("buffers: " + buffers.metrics());
+    }
+  }
+
+  private static void channels(Path file) throws IOException {
+    try (ResourcePool<FileChannel> channels = Pools.fileChannels(file, 2)) {
+      ByteBuffer header = ByteBuffer.allocate(6);
+      for (int i = 0; i < 10_000; i++) {
+        try (Lease<FileChannel> lease = channels.lease()) {
+          header.clear();
+          lease.get().read(header, 0);
+        }
+      }
+      System.out.println("channels: " + channels.metrics());
+    }
+  }
+
+  private static void idleEvictionAndLeaks() throws Exception {
+    ResourceFactory<StringBuilder> factory = () -> new StringBuilder(1024);
+    try (ResourcePool<StringBuilder> pool = new ResourcePool<>("builders", factory, 8, 2, Duration.ofMillis(200), true)) {
+      List<Lease<StringBuilder>> held = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        held.add(pool.lease());
+      }
+      held.forEach(Lease::close);
+      Thread.sleep(500);
+      System.out.println("after idle timeout: " + pool.metrics());
+
+      leak(pool);
+      for (int i = 0; i < 50 && pool.metrics().leaked() == 0; i++) {
+        System.gc();
+        Thread.sleep(20);
+      }
+      System.out.println("after a leaked lease: " + pool.metrics());
+    }
+  }
+
+  private static void leak(ResourcePool<StringBuilder> pool) throws IOException {
+    pool.lease().get().append("never closed");
+  }
+}
@@ -0,0 +1,108 @@
+package com.interviewprep.exception_handling.try_with_resources.pool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A line reader that can be pointed at one file after another. The byte buffer, char buffer,
+ * decoder and line builder are allocated once per reader rather than once per file, as they are
+ * with {@code new BufferedReader(new FileReader(...))}. Lines end at "\n", "\r\n" or "\r", as
+ * with {@link java.io.BufferedReader#readLine}, and malformed input is replaced like {@link
+ * java.io.InputStreamReader} does.
+ */
+public final class ReusableLineReader implements Closeable {
+  private final ByteBuffer bytes;
+  private final CharBuffer chars;
+  private final CharsetDecoder decoder;
+  private final StringBuilder line = new StringBuilder();
+  private FileChannel channel;
+  private boolean eof;
+  private boolean skipLf;
+
+  public ReusableLineReader(int bufferSize, Charset charset) {
+    this.bytes = ByteBuffer.allocateDirect(bufferSize);
+    this.chars = CharBuffer.allocate(bufferSize);
+    this.decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  public ReusableLineReader open(Path file) throws IOException {
+    close();
+    channel = FileChannel.open(file, StandardOpenOption.READ);
+    bytes.clear();
+    chars.clear().flip();
+    decoder.reset();
+    eof = false;
+    skipLf = false;
+    return this;
+  }
+
+  // null at end of file
+  public String readLine() throws IOException {
+    if (channel == null) {
+      throw new IllegalStateException("No file open");
+    }
+    line.setLength(0);
+    boolean any = false;
+    while (true) {
+      while (chars.hasRemaining()) {
+        char c = chars.get();
+        if (skipLf) {
+          skipLf = false;
+          if (c == '\n') {
+            continue;
+          }
+        }
+        if (c == '\n') {
+          return line.toString();
+        }
+        if (c == '\r') {
+          skipLf = true;
+          return line.toString();
+        }
+        any = true;
+        line.append(c);
+      }
+      if (!fill()) {
+        return any ? line.toString() : null;
+      }
+    }
+  }
+
+  // Closes the current file only; the reader can be opened again
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      FileChannel current = channel;
+      channel = null;
+      current.close();
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (eof) {
+      return false;
+    }
+    chars.clear();
+    while (chars.position() == 0 && !eof) {
+      eof = channel.read(bytes) < 0;
+      bytes.flip();
+      decoder.decode(bytes, chars, eof);
+      bytes.compact();
+      if (eof) {
+        decoder.flush(chars);
+      }
+    }
+    chars.flip();
+    return chars.hasRemaining();
+  }
+}
@@ -0,0 +1,87 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Run with --add-modules jdk.incubator.vector for the SIMD kernels; without it the scalar fallback is used
+public class AggregationExample {
+  private static final int CALLS = 50;
+
+  public static void main(String[] args) {
+    System.out.println("Kernels: " + Aggregations.implementation());
+
+    Random random = new Random(42);
+    int[] latenciesMicros = new int[10_000_000];
+    double[] amounts = new double[10_000_000];
+    for (int i = 0; i < latenciesMicros.length; i++) {
+      latenciesMicros[i] = 100 + random.nextInt(5_000);
+      amounts[i] = random.nextDouble() * 1_000;
+    }
+    List<Integer> boxed = new ArrayList<>(latenciesMicros.length);
+    for (int latency : latenciesMicros) {
+      boxed.add(latency);
+    }
+
+    // Repeated calls on 1M values: the Vector API is only fast once C2 has compiled the kernels
+    int[] window = Arrays.copyOf(latenciesMicros, 1_000_000);
+    List<Integer> boxedWindow = boxed.subList(0, window.length);
+    ScalarKernels scalar = new ScalarKernels();
+    for (int round = 0; round < 5; round++) {
+      long start = System.nanoTime();
+      double boxedSum = 0;
+      for (int call = 0; call < CALLS; call++) {
+        boxedSum = 0;
+        for (Number number : boxedWindow) {
+          boxedSum += number.doubleValue(); // what BoundedTypesExample.sum does per pair
+        }
+      }
+      long boxedNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      LongSummary scalarSummary = null;
+      for (int call = 0; call < CALLS; call++) {
+        scalarSummary = scalar.summarize(window, 0, window.length);
+      }
+      long scalarNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      LongSummary summary = null;
+      for (int call = 0; call < CALLS; call++) {
+        summary = Aggregations.summarize(window);
+      }
+      long kernelNanos = System.nanoTime() - start;
+
+      if (summary.sum() != (long) boxedSum || summary.sum() != scalarSummary.sum() || summary.min() != scalarSummary.min()
+          || summary.max() != scalarSummary.max()) {
+        throw new AssertionError(summary + " vs " + scalarSummary);
+      }
+      System.out.printf("per 1M values: boxed doubleValue sum %5.2f ms | scalar summary %5.2f ms | %s summary %5.2f ms%n",
+          boxedNanos / 1e6 / CALLS, scalarNanos / 1e6 / CALLS, Aggregations.implementation(), kernelNanos / 1e6 / CALLS);
+    }
+
+    long start = System.nanoTime();
+    DoubleSummary listSummary = Aggregations.summarize(boxed); // unboxes once, then the long kernels
+    System.out.printf("List<Integer> of %,d: sum %.0f in %d ms%n", boxed.size(), listSummary.sum(),
+        (System.nanoTime() - start) / 1_000_000);
+
+    LongSummary latency = Aggregations.summarize(latenciesMicros);
+    System.out.printf("latency: count=%,d mean=%.1fus stddev=%.1fus min=%dus max=%dus%n", latency.count(),
+        latency.mean(), latency.standardDeviation(), latency.min(), latency.max());
+
+    DoubleSummary money = Aggregations.summarize(amounts);
+    double naive = 0;
+    for (double amount : amounts) {
+      naive += amount;
+    }
+    System.out.printf("amounts: compensated sum %.6f, naive sum %.6f, variance %.3f%n", money.sum(), naive, money.variance());
+
+    IntArrayList recent = new IntArrayList();
+    for (int i = 0; i < 1_000; i++) {
+      recent.add(latenciesMicros[i]);
+    }
+    System.out.println("recent latencies: " + recent.summarize());
+    System.out.println("List<? extends Number>: " + Aggregations.summarize(List.of(1.5, 2.5, 3.5)));
+  }
+}
@@ -0,0 +1,172 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sum, min, max, mean and variance over primitive arrays. This is the unboxed counterpart of
+ * walking a {@code List<? extends Number>} and calling {@code doubleValue()} per element, as
+ * {@code TypeParametersAndWildcards.printNumbers} and {@code BoundedTypesExample.sum} do.
+ *
+ * <ul>
+ *   <li>The loops use the Vector API when the JVM was started with {@code --add-modules
+ *       jdk.incubator.vector}. Otherwise, or with {@code -Daggregation.scalar=true}, they fall
+ *       back to plain scalar loops, which C2 may still auto-vectorize.
+ *   <li>int and long sums are exact; long sums wrap on overflow like {@code +}. double sums are
+ *       Kahan-compensated. Variance is the population variance from a two-pass computation; see
+ *       the summaries' {@code sampleVariance} for the n - 1 form.
+ *   <li>min and max of an empty range follow {@code LongSummaryStatistics} and {@code
+ *       DoubleSummaryStatistics}: the identity of the operation, not an exception.
+ * </ul>
+ */
+public final class Aggregations {
+  private static final Kernels KERNELS = loadKernels();
+
+  private Aggregations() {
+  }
+
+  // "vector" or "scalar"
+  public static String implementation() {
+    return KERNELS instanceof ScalarKernels ? "scalar" : "vector";
+  }
+
+  public static long sum(int[] values) {
+    return sum(values, 0, values.length);
+  }
+
+  public static long sum(int[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.sum(values, from, to);
+  }
+
+  public static int min(int[] values) {
+    return KERNELS.min(values, 0, values.length);
+  }
+
+  public static int max(int[] values) {
+    return KERNELS.max(values, 0, values.length);
+  }
+
+  public static LongSummary summarize(int[] values) {
+    return summarize(values, 0, values.length);
+  }
+
+  public static LongSummary summarize(int[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.summarize(values, from, to);
+  }
+
+  public static long sum(long[] values) {
+    return sum(values, 0, values.length);
+  }
+
+  public static long sum(long[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.sum(values, from, to);
+  }
+
+  public static long min(long[] values) {
+    return KERNELS.min(values, 0, values.length);
+  }
+
+  public static long max(long[] values) {
+    return KERNELS.max(values, 0, values.length);
+  }
+
+  public static LongSummary summarize(long[] values) {
+    return summarize(values, 0, values.length);
+  }
+
+  public static LongSummary summarize(long[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.summarize(values, from, to);
+  }
+
+  public static double sum(double[] values) {
+    return sum(values, 0, values.length);
+  }
+
+  public static double sum(double[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.sum(values, from, to);
+  }
+
+  public static double min(double[] values) {
+    return KERNELS.min(values, 0, values.length);
+  }
+
+  public static double max(double[] values) {
+    return KERNELS.max(values, 0, values.length);
+  }
+
+  public static DoubleSummary summarize(double[] values) {
+    return summarize(values, 0, values.length);
+  }
+
+  public static DoubleSummary summarize(double[] values, int from, int to) {
+    Objects.checkFromToIndex(from, to, values.length);
+    return KERNELS.summarize(values, from, to);
+  }
+
+  public static double mean(int[] values) {
+    return values.length == 0 ? 0 : (double) sum(values) / values.length;
+  }
+
+  public static double mean(long[] values) {
+    return values.length == 0 ? 0 : (double) sum(values) / values.length;
+  }
+
+  public static double mean(double[] values) {
+    return values.length == 0 ? 0 : sum(values) / values.length;
+  }
+
+  public static double variance(int[] values) {
+    return summarize(values).variance();
+  }
+
+  public static double variance(long[] values) {
+    return summarize(values).variance();
+  }
+
+  public static double variance(double[] values) {
+    return summarize(values).variance();
+  }
+
+  /**
+   * Unboxes the list once into a primitive array and aggregates that. If every element is an
+   * Integer, Long, Short or Byte, the values go through the exact long kernels. Anything else
+   * (Double, Float, BigDecimal...) goes through {@code doubleValue()} and the double kernels.
+   */
+  public static DoubleSummary summarize(List<? extends Number> numbers) {
+    int size = numbers.size();
+    long[] longs = new long[size];
+    int i = 0;
+    for (Number number : numbers) {
+      if (!(number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte)) {
+        return summarize(toDoubles(numbers));
+      }
+      longs[i++] = number.longValue();
+    }
+    return summarize(longs).toDoubleSummary();
+  }
+
+  private static double[] toDoubles(List<? extends Number> numbers) {
+    double[] doubles = new double[numbers.size()];
+    int i = 0;
+    for (Number number : numbers) {
+      doubles[i++] = number.doubleValue();
+    }
+    return doubles;
+  }
+
+  private static Kernels loadKernels() {
+    if (!Boolean.getBoolean("aggregation.scalar") && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        return new VectorKernels();
+      } catch (LinkageError e) {
+        // Module present but unusable on this platform
+      }
+    }
+    return new ScalarKernels();
+  }
+}
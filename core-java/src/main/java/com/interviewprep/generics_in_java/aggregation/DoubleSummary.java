@@ -0,0 +1,13 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+// Summary of double values; `variance` is the population variance, an empty summary has min +Infinity and max -Infinity
+public record DoubleSummary(long count, double sum, double min, double max, double mean, double variance) {
+
+  public double sampleVariance() {
+    return count < 2 ? 0 : variance * count / (count - 1);
+  }
+
+  public double standardDeviation() {
+    return Math.sqrt(variance);
+  }
+}
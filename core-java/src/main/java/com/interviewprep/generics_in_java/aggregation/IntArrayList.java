@@ -0,0 +1,47 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+import java.util.Arrays;
+
+// A growable int buffer for metrics; values stay unboxed and the backing array is handed straight to the kernels
+public class IntArrayList {
+  private int[] values;
+  private int size;
+
+  public IntArrayList() {
+    this(16);
+  }
+
+  public IntArrayList(int initialCapacity) {
+    values = new int[Math.max(1, initialCapacity)];
+  }
+
+  public void add(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, values.length * 2);
+    }
+    values[size++] = value;
+  }
+
+  public int get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return values[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    size = 0;
+  }
+
+  public LongSummary summarize() {
+    return Aggregations.summarize(values, 0, size);
+  }
+
+  public long sum() {
+    return Aggregations.sum(values, 0, size);
+  }
+}
@@ -0,0 +1,29 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+// The loops behind Aggregations, over [from, to); VectorKernels and ScalarKernels must agree exactly except for double rounding
+interface Kernels {
+  long sum(int[] values, int from, int to);
+
+  int min(int[] values, int from, int to);
+
+  int max(int[] values, int from, int to);
+
+  LongSummary summarize(int[] values, int from, int to);
+
+  long sum(long[] values, int from, int to);
+
+  long min(long[] values, int from, int to);
+
+  long max(long[] values, int from, int to);
+
+  LongSummary summarize(long[] values, int from, int to);
+
+  // Kahan-compensated
+  double sum(double[] values, int from, int to);
+
+  double min(double[] values, int from, int to);
+
+  double max(double[] values, int from, int to);
+
+  DoubleSummary summarize(double[] values, int from, int to);
+}
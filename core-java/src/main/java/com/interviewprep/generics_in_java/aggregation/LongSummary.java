@@ -0,0 +1,19 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+// Summary of int or long values; an empty summary has min Long.MAX_VALUE and max Long.MIN_VALUE, like LongSummaryStatistics
+public record LongSummary(long count, long sum, long min, long max, double mean, double variance) {
+
+  // Unbiased (n - 1) estimate, for when the values are a sample rather than the whole population
+  public double sampleVariance() {
+    return count < 2 ? 0 : variance * count / (count - 1);
+  }
+
+  public double standardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  public DoubleSummary toDoubleSummary() {
+    return new DoubleSummary(count, sum, count == 0 ? Double.POSITIVE_INFINITY : min,
+        count == 0 ? Double.NEGATIVE_INFINITY : max, mean, variance);
+  }
+}
@@ -0,0 +1,141 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+// One element at a time; used when jdk.incubator.vector is not available and as the reference for VectorKernels
+final class ScalarKernels implements Kernels {
+
+  @Override
+  public long sum(int[] values, int from, int to) {
+    long sum = 0;
+    for (int i = from; i < to; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+
+  @Override
+  public int min(int[] values, int from, int to) {
+    int min = Integer.MAX_VALUE;
+    for (int i = from; i < to; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return min;
+  }
+
+  @Override
+  public int max(int[] values, int from, int to) {
+    int max = Integer.MIN_VALUE;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return max;
+  }
+
+  @Override
+  public LongSummary summarize(int[] values, int from, int to) {
+    long count = to - from;
+    long sum = sum(values, from, to);
+    long min = count == 0 ? Long.MAX_VALUE : min(values, from, to);
+    long max = count == 0 ? Long.MIN_VALUE : max(values, from, to);
+    double mean = count == 0 ? 0 : (double) sum / count;
+    double squares = 0;
+    for (int i = from; i < to; i++) {
+      double deviation = values[i] - mean;
+      squares = Math.fma(deviation, deviation, squares);
+    }
+    return new LongSummary(count, sum, min, max, mean, count == 0 ? 0 : squares / count);
+  }
+
+  @Override
+  public long sum(long[] values, int from, int to) {
+    long sum = 0;
+    for (int i = from; i < to; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+
+  @Override
+  public long min(long[] values, int from, int to) {
+    long min = Long.MAX_VALUE;
+    for (int i = from; i < to; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return min;
+  }
+
+  @Override
+  public long max(long[] values, int from, int to) {
+    long max = Long.MIN_VALUE;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return max;
+  }
+
+  @Override
+  public LongSummary summarize(long[] values, int from, int to) {
+    long count = to - from;
+    long sum = sum(values, from, to);
+    double mean = count == 0 ? 0 : (double) sum / count;
+    double squares = 0;
+    for (int i = from; i < to; i++) {
+      double deviation = values[i] - mean;
+      squares = Math.fma(deviation, deviation, squares);
+    }
+    return new LongSummary(count, sum, min(values, from, to), max(values, from, to), mean,
+        count == 0 ? 0 : squares / count);
+  }
+
+  @Override
+  public double sum(double[] values, int from, int to) {
+    double sum = 0;
+    double compensation = 0;
+    double plain = 0;
+    for (int i = from; i < to; i++) {
+      double y = values[i] - compensation;
+      double t = sum + y;
+      compensation = (t - sum) - y;
+      sum = t;
+      plain += values[i];
+    }
+    return compensatedOrPlain(sum, plain);
+  }
+
+  @Override
+  public double min(double[] values, int from, int to) {
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = from; i < to; i++) {
+      min = Math.min(min, values[i]);
+    }
+    return min;
+  }
+
+  @Override
+  public double max(double[] values, int from, int to) {
+    double max = Double.NEGATIVE_INFINITY;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return max;
+  }
+
+  @Override
+  public DoubleSummary summarize(double[] values, int from, int to) {
+    long count = to - from;
+    double sum = sum(values, from, to);
+    double mean = count == 0 ? 0 : sum / count;
+    double squares = 0;
+    for (int i = from; i < to; i++) {
+      double deviation = values[i] - mean;
+      squares = Math.fma(deviation, deviation, squares);
+    }
+    return new DoubleSummary(count, sum, min(values, from, to), max(values, from, to), mean,
+        count == 0 ? 0 : squares / count);
+  }
+
+  // Once the sum overflows or an input is infinite, the compensation becomes Infinity - Infinity and
+  // turns the Kahan sum into NaN; the plain sum is then the right answer, as in DoubleSummaryStatistics
+  static double compensatedOrPlain(double compensated, double plain) {
+    return Double.isNaN(compensated) && Double.isInfinite(plain) ? plain : compensated;
+  }
+}
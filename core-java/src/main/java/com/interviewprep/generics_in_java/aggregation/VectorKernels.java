@@ -0,0 +1,289 @@
+package com.interviewprep.generics_in_java.aggregation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD versions of the kernels on the platform's preferred vector width, with a scalar loop for
+ * the tail.
+ *
+ * <ul>
+ *   <li>int sums widen each int vector into two long vectors, so they are exact like the scalar
+ *       long sums.
+ *   <li>double sums keep a separate Kahan compensation per lane, then fold the lane sums and
+ *       compensations together with one more Kahan pass. The result can differ from {@link
+ *       ScalarKernels} in the last bits because the additions happen in a different order. A plain
+ *       sum runs alongside and is returned when overflow or an infinite input makes the
+ *       compensated sum NaN.
+ *   <li>{@code summarize} computes sum, min and max in one pass and the squared deviations in a
+ *       second.
+ * </ul>
+ *
+ * <p>Only loaded when jdk.incubator.vector is in the boot layer (see {@link Aggregations}).
+ */
+final class VectorKernels implements Kernels {
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+  private static final ScalarKernels TAIL = new ScalarKernels();
+
+  @Override
+  public long sum(int[] values, int from, int to) {
+    int i = from;
+    int bound = from + INTS.loopBound(to - from);
+    LongVector low = LongVector.zero(LONGS);
+    LongVector high = LongVector.zero(LONGS);
+    for (; i < bound; i += INTS.length()) {
+      IntVector v = IntVector.fromArray(INTS, values, i);
+      low = low.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0));
+      high = high.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 1));
+    }
+    return low.add(high).reduceLanes(VectorOperators.ADD) + TAIL.sum(values, i, to);
+  }
+
+  @Override
+  public int min(int[] values, int from, int to) {
+    int i = from;
+    int bound = from + INTS.loopBound(to - from);
+    IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+    for (; i < bound; i += INTS.length()) {
+      min = min.min(IntVector.fromArray(INTS, values, i));
+    }
+    return Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+  }
+
+  @Override
+  public int max(int[] values, int from, int to) {
+    int i = from;
+    int bound = from + INTS.loopBound(to - from);
+    IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+    for (; i < bound; i += INTS.length()) {
+      max = max.max(IntVector.fromArray(INTS, values, i));
+    }
+    return Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+  }
+
+  @Override
+  public LongSummary summarize(int[] values, int from, int to) {
+    long count = to - from;
+    if (count == 0) {
+      return TAIL.summarize(values, from, to);
+    }
+    int i = from;
+    int bound = from + INTS.loopBound(to - from);
+    LongVector low = LongVector.zero(LONGS);
+    LongVector high = LongVector.zero(LONGS);
+    IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+    IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+    for (; i < bound; i += INTS.length()) {
+      IntVector v = IntVector.fromArray(INTS, values, i);
+      low = low.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0));
+      high = high.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 1));
+      min = min.min(v);
+      max = max.max(v);
+    }
+    long sum = low.add(high).reduceLanes(VectorOperators.ADD) + TAIL.sum(values, i, to);
+    long minValue = Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+    long maxValue = Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+    double mean = (double) sum / count;
+
+    DoubleVector means = DoubleVector.broadcast(DOUBLES, mean);
+    DoubleVector squares = DoubleVector.zero(DOUBLES);
+    i = from;
+    for (; i < bound; i += INTS.length()) {
+      IntVector v = IntVector.fromArray(INTS, values, i);
+      for (int part = 0; part < INTS.length() / DOUBLES.length(); part++) {
+        DoubleVector deviation = ((DoubleVector) v.convertShape(VectorOperators.I2D, DOUBLES, part)).sub(means);
+        squares = deviation.fma(deviation, squares);
+      }
+    }
+    double squareSum = squares.reduceLanes(VectorOperators.ADD);
+    for (; i < to; i++) {
+      double deviation = values[i] - mean;
+      squareSum = Math.fma(deviation, deviation, squareSum);
+    }
+    return new LongSummary(count, sum, minValue, maxValue, mean, squareSum / count);
+  }
+
+  @Override
+  public long sum(long[] values, int from, int to) {
+    int i = from;
+    int bound = from + LONGS.loopBound(to - from);
+    LongVector sum = LongVector.zero(LONGS);
+    for (; i < bound; i += LONGS.length()) {
+      sum = sum.add(LongVector.fromArray(LONGS, values, i));
+    }
+    return sum.reduceLanes(VectorOperators.ADD) + TAIL.sum(values, i, to);
+  }
+
+  @Override
+  public long min(long[] values, int from, int to) {
+    int i = from;
+    int bound = from + LONGS.loopBound(to - from);
+    LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+    for (; i < bound; i += LONGS.length()) {
+      min = min.min(LongVector.fromArray(LONGS, values, i));
+    }
+    return Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+  }
+
+  @Override
+  public long max(long[] values, int from, int to) {
+    int i = from;
+    int bound = from + LONGS.loopBound(to - from);
+    LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+    for (; i < bound; i += LONGS.length()) {
+      max = max.max(LongVector.fromArray(LONGS, values, i));
+    }
+    return Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+  }
+
+  @Override
+  public LongSummary summarize(long[] values, int from, int to) {
+    long count = to - from;
+    if (count == 0) {
+      return TAIL.summarize(values, from, to);
+    }
+    int i = from;
+    int bound = from + LONGS.loopBound(to - from);
+    LongVector sums = LongVector.zero(LONGS);
+    LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+    LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+    for (; i < bound; i += LONGS.length()) {
+      LongVector v = LongVector.fromArray(LONGS, values, i);
+      sums = sums.add(v);
+      min = min.min(v);
+      max = max.max(v);
+    }
+    long sum = sums.reduceLanes(VectorOperators.ADD) + TAIL.sum(values, i, to);
+    long minValue = Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+    long maxValue = Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+    double mean = (double) sum / count;
+
+    // Same bit size, so a long vector converts to a double vector with the same lane count
+    VectorSpecies<Double> doubles = LONGS.withLanes(double.class);
+    DoubleVector means = DoubleVector.broadcast(doubles, mean);
+    DoubleVector squares = DoubleVector.zero(doubles);
+    i = from;
+    for (; i < bound; i += LONGS.length()) {
+      DoubleVector deviation = ((DoubleVector) LongVector.fromArray(LONGS, values, i)
+          .convert(VectorOperators.L2D, 0)).sub(means);
+      squares = deviation.fma(deviation, squares);
+    }
+    double squareSum = squares.reduceLanes(VectorOperators.ADD);
+    for (; i < to; i++) {
+      double deviation = values[i] - mean;
+      squareSum = Math.fma(deviation, deviation, squareSum);
+    }
+    return new LongSummary(count, sum, minValue, maxValue, mean, squareSum / count);
+  }
+
+  @Override
+  public double sum(double[] values, int from, int to) {
+    int i = from;
+    int bound = from + DOUBLES.loopBound(to - from);
+    DoubleVector sum = DoubleVector.zero(DOUBLES);
+    DoubleVector compensation = DoubleVector.zero(DOUBLES);
+    DoubleVector plain = DoubleVector.zero(DOUBLES);
+    for (; i < bound; i += DOUBLES.length()) {
+      DoubleVector v = DoubleVector.fromArray(DOUBLES, values, i);
+      DoubleVector y = v.sub(compensation);
+      DoubleVector t = sum.add(y);
+      compensation = t.sub(sum).sub(y);
+      sum = t;
+      plain = plain.add(v);
+    }
+    return foldLanes(sum, compensation, plain, values, i, to);
+  }
+
+  @Override
+  public double min(double[] values, int from, int to) {
+    int i = from;
+    int bound = from + DOUBLES.loopBound(to - from);
+    DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+    for (; i < bound; i += DOUBLES.length()) {
+      min = min.min(DoubleVector.fromArray(DOUBLES, values, i));
+    }
+    return Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+  }
+
+  @Override
+  public double max(double[] values, int from, int to) {
+    int i = from;
+    int bound = from + DOUBLES.loopBound(to - from);
+    DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+    for (; i < bound; i += DOUBLES.length()) {
+      max = max.max(DoubleVector.fromArray(DOUBLES, values, i));
+    }
+    return Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+  }
+
+  @Override
+  public DoubleSummary summarize(double[] values, int from, int to) {
+    long count = to - from;
+    if (count == 0) {
+      return TAIL.summarize(values, from, to);
+    }
+    int i = from;
+    int bound = from + DOUBLES.loopBound(to - from);
+    DoubleVector sums = DoubleVector.zero(DOUBLES);
+    DoubleVector compensation = DoubleVector.zero(DOUBLES);
+    DoubleVector plain = DoubleVector.zero(DOUBLES);
+    DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+    DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+    for (; i < bound; i += DOUBLES.length()) {
+      DoubleVector v = DoubleVector.fromArray(DOUBLES, values, i);
+      DoubleVector y = v.sub(compensation);
+      DoubleVector t = sums.add(y);
+      compensation = t.sub(sums).sub(y);
+      sums = t;
+      plain = plain.add(v);
+      min = min.min(v);
+      max = max.max(v);
+    }
+    double sum = foldLanes(sums, compensation, plain, values, i, to);
+    double minValue = Math.min(min.reduceLanes(VectorOperators.MIN), TAIL.min(values, i, to));
+    double maxValue = Math.max(max.reduceLanes(VectorOperators.MAX), TAIL.max(values, i, to));
+    double mean = sum / count;
+
+    DoubleVector means = DoubleVector.broadcast(DOUBLES, mean);
+    DoubleVector squares = DoubleVector.zero(DOUBLES);
+    i = from;
+    for (; i < bound; i += DOUBLES.length()) {
+      DoubleVector deviation = DoubleVector.fromArray(DOUBLES, values, i).sub(means);
+      squares = deviation.fma(deviation, squares);
+    }
+    double squareSum = squares.reduceLanes(VectorOperators.ADD);
+    for (; i < to; i++) {
+      double deviation = values[i] - mean;
+      squareSum = Math.fma(deviation, deviation, squareSum);
+    }
+    return new DoubleSummary(count, sum, minValue, maxValue, mean, squareSum / count);
+  }
+
+  // Kahan-adds every lane's sum, minus its pending compensation, and then the scalar tail
+  private static double foldLanes(DoubleVector sums, DoubleVector compensations, DoubleVector plainSums,
+      double[] values, int from, int to) {
+    double plain = plainSums.reduceLanes(VectorOperators.ADD);
+    double sum = 0;
+    double compensation = 0;
+    for (int k = 0; k < 2 * sums.length(); k++) {
+      double term = (k & 1) == 0 ? sums.lane(k >> 1) : -compensations.lane(k >> 1);
+      double y = term - compensation;
+      double t = sum + y;
+      compensation = (t - sum) - y;
+      sum = t;
+    }
+    for (int i = from; i < to; i++) {
+      double y = values[i] - compensation;
+      double t = sum + y;
+      compensation = (t - sum) - y;
+      sum = t;
+      plain += values[i];
+    }
+    return ScalarKernels.compensatedOrPlain(sum, plain);
+  }
+}
@@ -0,0 +1,13 @@
+package com.interviewprep.generics_in_java.bounded_types_generics;
+
+class Bound<T extends Number> {
+  private final T data;
+
+  public Bound(T data) {
+    this.data = data;
+  }
+
+  public T getData() {
+    return data;
+  }
+}
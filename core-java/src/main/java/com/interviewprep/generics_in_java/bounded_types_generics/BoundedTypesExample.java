@@ -1,17 +1,5 @@
 package com.interviewprep.generics_in_java.bounded_types_generics;
 
-class Bound<T extends Number> {
-  private final T data;
-
-  public Bound(T data) {
-    this.data = data;
-  }
-
-  public T getData() {
-    return data;
-  }
-}
-
 public class BoundedTypesExample {
   public static void main(String[] args) {
     Bound<Integer> boundInt = new Bound<>(5);
@@ -25,6 +13,21 @@ public class BoundedTypesExample {
     System.out.println("Sum of integers: " + sum(10, 20));
     System.out.println("Sum of doubles: " + sum(5.5, 4.5));
     System.out.println("Sum of floats: " + sum(3.0f, 7.5f));
+
+    // Primitive specializations: no Integer/Long is allocated
+    IntBound intBound = Bounds.of(5);
+    LongBound longBound = Bounds.of(1000000000L);
+    System.out.println("IntBound: " + intBound.getData() + ", LongBound: " + longBound.getData());
+    System.out.println("Primitive sum of ints: " + Bounds.sum(Integer.MAX_VALUE, 1));
+    System.out.println("Primitive sum of longs: " + Bounds.sum(10L, 20L));
+
+    // Narrower primitives widen to the int overloads and float to the double ones
+    short small = 7;
+    IntBound fromShort = Bounds.of(small);
+    DoubleBound fromFloat = Bounds.of(3.14f);
+    Bound<Float> keptFloat = Bounds.of(Float.valueOf(3.14f)); // box first to keep Bound<Float>
+    System.out.println("Bounds.of(short): " + fromShort.getData() + ", Bounds.of(float): " + fromFloat.getData()
+        + ", Bounds.of(Float): " + keptFloat.getData());
   }
 
   // Method that accepts only numbers or subclasses of Number
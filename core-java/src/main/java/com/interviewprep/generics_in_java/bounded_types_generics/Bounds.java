@@ -0,0 +1,51 @@
+package com.interviewprep.generics_in_java.bounded_types_generics;
+
+/**
+ * Factory and arithmetic for bounded numbers that prefers the generated primitive
+ * specializations ({@code IntBound}, {@code LongBound}, {@code DoubleBound}, expanded from
+ * src/main/templates at build time). Primitive arguments resolve to the primitive overloads
+ * without boxing. Anything else falls back to the {@link Number}-based generic versions.
+ *
+ * <p>Only int, long and double are specialized. {@code byte}, {@code short} and {@code char}
+ * arguments widen to the int overloads, and {@code float} widens to the double ones, so {@code
+ * Bounds.of(3.14f)} is a {@code DoubleBound} holding the float's exact double value
+ * (3.140000104904175). Pass a boxed value, e.g. {@code Bounds.of(Float.valueOf(3.14f))}, to keep
+ * a {@code Bound<Float>}.
+ */
+final class Bounds {
+  private Bounds() {
+  }
+
+  static IntBound of(int data) {
+    return new IntBound(data);
+  }
+
+  static LongBound of(long data) {
+    return new LongBound(data);
+  }
+
+  static DoubleBound of(double data) {
+    return new DoubleBound(data);
+  }
+
+  static <T extends Number> Bound<T> of(T data) {
+    return new Bound<>(data);
+  }
+
+  static long sum(int a, int b) {
+    return IntBound.sum(a, b);
+  }
+
+  static long sum(long a, long b) {
+    return LongBound.sum(a, b);
+  }
+
+  // float arguments widen to this overload, as they did to doubleValue() before
+  static double sum(double a, double b) {
+    return DoubleBound.sum(a, b);
+  }
+
+  static <T extends Number> double sum(T a, T b) {
+    return BoundedTypesExample.sum(a, b);
+  }
+}
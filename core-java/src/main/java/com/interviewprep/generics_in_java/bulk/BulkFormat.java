@@ -0,0 +1,140 @@
+package com.interviewprep.generics_in_java.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Formats whole arrays at once instead of one {@code System.out.print} per element. The
+ * StringBuilder variants append primitives directly, without a String per value. The ByteBuffer
+ * variants write ASCII digits straight into a buffer that can go to a channel in a few large
+ * writes.
+ */
+public final class BulkFormat {
+  private static final byte[] LONG_MIN = Long.toString(Long.MIN_VALUE).getBytes();
+
+  private BulkFormat() {
+  }
+
+  public static <T> StringBuilder appendAll(StringBuilder sb, T[] values, int from, int to, String separator) {
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        sb.append(separator);
+      }
+      sb.append(values[i]);
+    }
+    return sb;
+  }
+
+  public static StringBuilder appendAll(StringBuilder sb, int[] values, int from, int to, String separator) {
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        sb.append(separator);
+      }
+      sb.append(values[i]);
+    }
+    return sb;
+  }
+
+  public static StringBuilder appendAll(StringBuilder sb, long[] values, int from, int to, String separator) {
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        sb.append(separator);
+      }
+      sb.append(values[i]);
+    }
+    return sb;
+  }
+
+  public static StringBuilder appendAll(StringBuilder sb, double[] values, int from, int to, String separator) {
+    for (int i = from; i < to; i++) {
+      if (i > from) {
+        sb.append(separator);
+      }
+      sb.append(values[i]);
+    }
+    return sb;
+  }
+
+  public static <T> String join(T[] values, String separator) {
+    return appendAll(new StringBuilder(values.length * 8), values, 0, values.length, separator).toString();
+  }
+
+  public static String join(int[] values, String separator) {
+    return appendAll(new StringBuilder(values.length * 8), values, 0, values.length, separator).toString();
+  }
+
+  public static String join(long[] values, String separator) {
+    return appendAll(new StringBuilder(values.length * 12), values, 0, values.length, separator).toString();
+  }
+
+  public static String join(double[] values, String separator) {
+    return appendAll(new StringBuilder(values.length * 12), values, 0, values.length, separator).toString();
+  }
+
+  // Puts values[from..] as ASCII, each followed by `separator`, until the buffer is full; returns the next index to put
+  public static int put(ByteBuffer buffer, long[] values, int from, byte separator) {
+    int i = from;
+    while (i < values.length && putAscii(buffer, values[i], separator)) {
+      i++;
+    }
+    return i;
+  }
+
+  public static int put(ByteBuffer buffer, int[] values, int from, byte separator) {
+    int i = from;
+    while (i < values.length && putAscii(buffer, values[i], separator)) {
+      i++;
+    }
+    return i;
+  }
+
+  // Writes every value through `buffer`, flushing it to the channel whenever it fills up
+  public static void writeTo(WritableByteChannel channel, long[] values, byte separator, ByteBuffer buffer) throws IOException {
+    int next = 0;
+    while (next < values.length) {
+      int first = next;
+      next = put(buffer, values, next, separator);
+      if (next == first && buffer.position() == 0) {
+        throw new IllegalArgumentException("Buffer too small for " + values[first]);
+      }
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+
+  // Digits are written right to left into their final positions; false (and nothing written) if they do not fit
+  static boolean putAscii(ByteBuffer buffer, long value, byte separator) {
+    if (value == Long.MIN_VALUE) {
+      if (buffer.remaining() < LONG_MIN.length + 1) {
+        return false;
+      }
+      buffer.put(LONG_MIN).put(separator);
+      return true;
+    }
+    boolean negative = value < 0;
+    long magnitude = Math.abs(value);
+    int digits = 1;
+    for (long rest = magnitude / 10; rest != 0; rest /= 10) {
+      digits++;
+    }
+    int length = digits + (negative ? 1 : 0);
+    if (buffer.remaining() < length + 1) {
+      return false;
+    }
+    int start = buffer.position();
+    if (negative) {
+      buffer.put(start, (byte) '-');
+    }
+    for (int at = start + length - 1; at >= start + (negative ? 1 : 0); at--) {
+      buffer.put(at, (byte) ('0' + magnitude % 10));
+      magnitude /= 10;
+    }
+    buffer.position(start + length);
+    buffer.put(separator);
+    return true;
+  }
+}
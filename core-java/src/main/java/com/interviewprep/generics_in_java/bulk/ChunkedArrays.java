@@ -0,0 +1,503 @@
+package com.interviewprep.generics_in_java.bulk;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Bulk operations over {@code T[]} and primitive arrays: map, filter, reduce, forEach, prefix
+ * sums and formatting. It replaces element-at-a-time loops like {@code
+ * GenericMethodsExample.displayArray}.
+ *
+ * <ul>
+ *   <li>An array at least {@code parallelThreshold} long is cut into a fixed grid of chunks of
+ *       about {@link #CHUNK_BYTES} of input, so one chunk's input and output stay in a core's L2.
+ *       The chunks are processed as a ForkJoin task tree on {@code pool}. Smaller arrays, or a
+ *       pool of parallelism 1, run as one sequential chunk on the caller.
+ *   <li>The grid depends only on the array length, not on scheduling. Per-chunk partial results
+ *       are always combined in index order, so reduce only needs an associative operator (not a
+ *       commutative one) and even double results are the same from run to run.
+ *   <li>Results go into caller-supplied output arrays, so hot loops need not allocate. Filter and
+ *       prefix sum use two passes over the chunks with a sequential step in between.
+ * </ul>
+ */
+public class ChunkedArrays {
+  static final int CHUNK_BYTES = 64 * 1024;
+  // References are 4 bytes with compressed oops, but each one points at an object elsewhere
+  private static final int REFERENCE_BYTES = 8;
+
+  private final ForkJoinPool pool;
+  private final int parallelThreshold;
+
+  @FunctionalInterface
+  interface ChunkAction {
+    void run(int chunk, int from, int to);
+  }
+
+  public ChunkedArrays(ForkJoinPool pool, int parallelThreshold) {
+    this.pool = pool;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  // Common pool; below 64K elements the fork/join overhead outweighs the work for simple lambdas
+  public static ChunkedArrays common() {
+    return new ChunkedArrays(ForkJoinPool.commonPool(), 1 << 16);
+  }
+
+  public <T, R> R[] map(T[] source, Function<? super T, ? extends R> function, R[] target) {
+    checkTarget(source.length, target.length);
+    forEachChunk(source.length, chunkSize(source.length, REFERENCE_BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        target[i] = function.apply(source[i]);
+      }
+    });
+    return target;
+  }
+
+  public int[] map(int[] source, IntUnaryOperator function, int[] target) {
+    checkTarget(source.length, target.length);
+    forEachChunk(source.length, chunkSize(source.length, Integer.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        target[i] = function.applyAsInt(source[i]);
+      }
+    });
+    return target;
+  }
+
+  public long[] map(long[] source, LongUnaryOperator function, long[] target) {
+    checkTarget(source.length, target.length);
+    forEachChunk(source.length, chunkSize(source.length, Long.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        target[i] = function.applyAsLong(source[i]);
+      }
+    });
+    return target;
+  }
+
+  public double[] map(double[] source, DoubleUnaryOperator function, double[] target) {
+    checkTarget(source.length, target.length);
+    forEachChunk(source.length, chunkSize(source.length, Double.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        target[i] = function.applyAsDouble(source[i]);
+      }
+    });
+    return target;
+  }
+
+  /**
+   * Copies the matching elements to the front of {@code target}, keeping their order, and returns
+   * how many matched. Each chunk first compacts its matches to the start of its own slice of
+   * {@code target}. Those runs are then moved down in chunk order, which is safe because a run
+   * never moves up. The predicate is evaluated once per element. {@code target} may be {@code
+   * source}.
+   */
+  public <T> int filter(T[] source, Predicate<? super T> predicate, T[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, REFERENCE_BYTES);
+    int[] counts = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int out = from;
+      for (int i = from; i < to; i++) {
+        T value = source[i];
+        if (predicate.test(value)) {
+          target[out++] = value;
+        }
+      }
+      counts[chunk] = out - from;
+    });
+    int size = compact(target, counts, chunkSize);
+    Arrays.fill(target, size, source.length, null); // drop references to the staged copies
+    return size;
+  }
+
+  public int filter(int[] source, IntPredicate predicate, int[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Integer.BYTES);
+    int[] counts = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int out = from;
+      for (int i = from; i < to; i++) {
+        int value = source[i];
+        if (predicate.test(value)) {
+          target[out++] = value;
+        }
+      }
+      counts[chunk] = out - from;
+    });
+    return compact(target, counts, chunkSize);
+  }
+
+  public int filter(long[] source, LongPredicate predicate, long[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Long.BYTES);
+    int[] counts = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int out = from;
+      for (int i = from; i < to; i++) {
+        long value = source[i];
+        if (predicate.test(value)) {
+          target[out++] = value;
+        }
+      }
+      counts[chunk] = out - from;
+    });
+    return compact(target, counts, chunkSize);
+  }
+
+  public int filter(double[] source, DoublePredicate predicate, double[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Double.BYTES);
+    int[] counts = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int out = from;
+      for (int i = from; i < to; i++) {
+        double value = source[i];
+        if (predicate.test(value)) {
+          target[out++] = value;
+        }
+      }
+      counts[chunk] = out - from;
+    });
+    return compact(target, counts, chunkSize);
+  }
+
+  // `operator` must be associative and `identity` its identity; chunks are combined left to right
+  @SuppressWarnings("unchecked")
+  public <T> T reduce(T[] source, T identity, BinaryOperator<T> operator) {
+    int chunkSize = chunkSize(source.length, REFERENCE_BYTES);
+    Object[] partials = new Object[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      T result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.apply(result, source[i]);
+      }
+      partials[chunk] = result;
+    });
+    T result = identity;
+    for (Object partial : partials) {
+      result = operator.apply(result, (T) partial);
+    }
+    return result;
+  }
+
+  public int reduce(int[] source, int identity, IntBinaryOperator operator) {
+    int chunkSize = chunkSize(source.length, Integer.BYTES);
+    int[] partials = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsInt(result, source[i]);
+      }
+      partials[chunk] = result;
+    });
+    int result = identity;
+    for (int partial : partials) {
+      result = operator.applyAsInt(result, partial);
+    }
+    return result;
+  }
+
+  public long reduce(long[] source, long identity, LongBinaryOperator operator) {
+    int chunkSize = chunkSize(source.length, Long.BYTES);
+    long[] partials = new long[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      long result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsLong(result, source[i]);
+      }
+      partials[chunk] = result;
+    });
+    long result = identity;
+    for (long partial : partials) {
+      result = operator.applyAsLong(result, partial);
+    }
+    return result;
+  }
+
+  public double reduce(double[] source, double identity, DoubleBinaryOperator operator) {
+    int chunkSize = chunkSize(source.length, Double.BYTES);
+    double[] partials = new double[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      double result = identity;
+      for (int i = from; i < to; i++) {
+        result = operator.applyAsDouble(result, source[i]);
+      }
+      partials[chunk] = result;
+    });
+    double result = identity;
+    for (double partial : partials) {
+      result = operator.applyAsDouble(result, partial);
+    }
+    return result;
+  }
+
+  // Chunks run concurrently: `action` must be thread-safe and must not rely on encounter order
+  public <T> void forEach(T[] source, Consumer<? super T> action) {
+    forEachChunk(source.length, chunkSize(source.length, REFERENCE_BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        action.accept(source[i]);
+      }
+    });
+  }
+
+  public void forEach(int[] source, IntConsumer action) {
+    forEachChunk(source.length, chunkSize(source.length, Integer.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        action.accept(source[i]);
+      }
+    });
+  }
+
+  public void forEach(long[] source, LongConsumer action) {
+    forEachChunk(source.length, chunkSize(source.length, Long.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        action.accept(source[i]);
+      }
+    });
+  }
+
+  public void forEach(double[] source, DoubleConsumer action) {
+    forEachChunk(source.length, chunkSize(source.length, Double.BYTES), (chunk, from, to) -> {
+      for (int i = from; i < to; i++) {
+        action.accept(source[i]);
+      }
+    });
+  }
+
+  /**
+   * Inclusive prefix sum: {@code target[i] = source[0] + ... + source[i]}, overflowing like
+   * {@code +}. Each chunk is scanned locally, the chunk totals are scanned sequentially, and then
+   * every chunk after the first adds its offset. {@code target} may be {@code source}.
+   */
+  public long[] prefixSum(long[] source, long[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Long.BYTES);
+    long[] offsets = new long[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      long sum = 0;
+      for (int i = from; i < to; i++) {
+        sum += source[i];
+        target[i] = sum;
+      }
+      offsets[chunk] = sum;
+    });
+    if (offsets.length > 1) {
+      long carry = 0;
+      for (int chunk = 0; chunk < offsets.length; chunk++) {
+        long total = offsets[chunk];
+        offsets[chunk] = carry;
+        carry += total;
+      }
+      forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+        long offset = offsets[chunk];
+        for (int i = from; i < to; i++) {
+          target[i] += offset;
+        }
+      });
+    }
+    return target;
+  }
+
+  public int[] prefixSum(int[] source, int[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Integer.BYTES);
+    int[] offsets = new int[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      int sum = 0;
+      for (int i = from; i < to; i++) {
+        sum += source[i];
+        target[i] = sum;
+      }
+      offsets[chunk] = sum;
+    });
+    if (offsets.length > 1) {
+      int carry = 0;
+      for (int chunk = 0; chunk < offsets.length; chunk++) {
+        int total = offsets[chunk];
+        offsets[chunk] = carry;
+        carry += total;
+      }
+      forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+        int offset = offsets[chunk];
+        for (int i = from; i < to; i++) {
+          target[i] += offset;
+        }
+      });
+    }
+    return target;
+  }
+
+  // Any associative operator; parallel double sums round differently from a sequential scan
+  public double[] prefix(double[] source, DoubleBinaryOperator operator, double[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, Double.BYTES);
+    double[] totals = new double[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      if (from == to) {
+        return;
+      }
+      double running = source[from];
+      target[from] = running;
+      for (int i = from + 1; i < to; i++) {
+        running = operator.applyAsDouble(running, source[i]);
+        target[i] = running;
+      }
+      totals[chunk] = running;
+    });
+    for (int chunk = 1; chunk < totals.length; chunk++) {
+      totals[chunk] = operator.applyAsDouble(totals[chunk - 1], totals[chunk]);
+    }
+    if (totals.length > 1) {
+      forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+        if (chunk > 0) {
+          double offset = totals[chunk - 1];
+          for (int i = from; i < to; i++) {
+            target[i] = operator.applyAsDouble(offset, target[i]);
+          }
+        }
+      });
+    }
+    return target;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T[] prefix(T[] source, BinaryOperator<T> operator, T[] target) {
+    checkTarget(source.length, target.length);
+    int chunkSize = chunkSize(source.length, REFERENCE_BYTES);
+    Object[] totals = new Object[chunkCount(source.length, chunkSize)];
+    forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+      if (from == to) {
+        return;
+      }
+      T running = source[from];
+      target[from] = running;
+      for (int i = from + 1; i < to; i++) {
+        running = operator.apply(running, source[i]);
+        target[i] = running;
+      }
+      totals[chunk] = running;
+    });
+    for (int chunk = 1; chunk < totals.length; chunk++) {
+      totals[chunk] = operator.apply((T) totals[chunk - 1], (T) totals[chunk]);
+    }
+    if (totals.length > 1) {
+      forEachChunk(source.length, chunkSize, (chunk, from, to) -> {
+        if (chunk > 0) {
+          T offset = (T) totals[chunk - 1];
+          for (int i = from; i < to; i++) {
+            target[i] = operator.apply(offset, target[i]);
+          }
+        }
+      });
+    }
+    return target;
+  }
+
+  // Formats chunks into their own builders in parallel, then appends them in order into one
+  public String format(long[] values, String separator) {
+    int chunkSize = chunkSize(values.length, Long.BYTES);
+    StringBuilder[] parts = new StringBuilder[chunkCount(values.length, chunkSize)];
+    forEachChunk(values.length, chunkSize, (chunk, from, to) ->
+        parts[chunk] = BulkFormat.appendAll(new StringBuilder((to - from) * 12), values, from, to, separator));
+    int length = 0;
+    for (StringBuilder part : parts) {
+      length += part.length() + separator.length();
+    }
+    StringBuilder sb = new StringBuilder(length);
+    for (int chunk = 0; chunk < parts.length; chunk++) {
+      if (chunk > 0) {
+        sb.append(separator);
+      }
+      sb.append(parts[chunk]);
+    }
+    return sb.toString();
+  }
+
+  private int chunkSize(int length, int elementBytes) {
+    if (length < parallelThreshold || pool.getParallelism() == 1) {
+      return Math.max(1, length);
+    }
+    return Math.max(1, CHUNK_BYTES / elementBytes);
+  }
+
+  private static int chunkCount(int length, int chunkSize) {
+    return (length + chunkSize - 1) / chunkSize;
+  }
+
+  private void forEachChunk(int length, int chunkSize, ChunkAction action) {
+    int chunks = chunkCount(length, chunkSize);
+    if (chunks == 1) {
+      action.run(0, 0, length);
+    } else if (chunks > 1) {
+      pool.invoke(new ChunkTask(action, 0, chunks, chunkSize, length));
+    }
+  }
+
+  private static <A> int compact(A target, int[] counts, int chunkSize) {
+    int size = 0;
+    for (int chunk = 0; chunk < counts.length; chunk++) {
+      int from = chunk * chunkSize;
+      if (size != from) {
+        System.arraycopy(target, from, target, size, counts[chunk]);
+      }
+      size += counts[chunk];
+    }
+    return size;
+  }
+
+  private static void checkTarget(int sourceLength, int targetLength) {
+    if (targetLength < sourceLength) {
+      throw new IllegalArgumentException("Target holds " + targetLength + " elements, source has " + sourceLength);
+    }
+  }
+
+  // Splits a range of chunk indices in halves until one chunk is left
+  // Never serialized; tasks only live inside one invoke()
+  private static final class ChunkTask extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient ChunkAction action;
+    private final int firstChunk;
+    private final int endChunk;
+    private final int chunkSize;
+    private final int length;
+
+    ChunkTask(ChunkAction action, int firstChunk, int endChunk, int chunkSize, int length) {
+      this.action = action;
+      this.firstChunk = firstChunk;
+      this.endChunk = endChunk;
+      this.chunkSize = chunkSize;
+      this.length = length;
+    }
+
+    @Override
+    protected void compute() {
+      if (endChunk - firstChunk == 1) {
+        int from = firstChunk * chunkSize;
+        action.run(firstChunk, from, Math.min(length, from + chunkSize));
+        return;
+      }
+      int middle = (firstChunk + endChunk) >>> 1;
+      invokeAll(new ChunkTask(action, firstChunk, middle, chunkSize, length),
+          new ChunkTask(action, middle, endChunk, chunkSize, length));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.interviewprep.generics_in_java.bulk;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ChunkedArraysExample {
+  public static void main(String[] args) throws IOException {
+    ChunkedArrays arrays = ChunkedArrays.common();
+    ChunkedArrays sequential = new ChunkedArrays(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    System.out.println("Parallelism: " + ForkJoinPool.commonPool().getParallelism());
+
+    Random random = new Random(3);
+    long[] amounts = random.longs(8_000_000, 0, 10_000).toArray();
+    long[] scaled = new long[amounts.length];
+    long[] large = new long[amounts.length];
+    long[] running = new long[amounts.length];
+
+    // Output arrays are allocated once and reused every round
+    for (int round = 0; round < 5; round++) {
+      for (ChunkedArrays engine : new ChunkedArrays[] {sequential, arrays}) {
+        long start = System.nanoTime();
+        engine.map(amounts, amount -> amount * 105 / 100, scaled);
+        long mapped = System.nanoTime();
+        int count = engine.filter(scaled, amount -> amount > 9_000, large);
+        long filtered = System.nanoTime();
+        long total = engine.reduce(scaled, 0L, Long::sum);
+        long reduced = System.nanoTime();
+        engine.prefixSum(scaled, running);
+        long scanned = System.nanoTime();
+        if (running[running.length - 1] != total) {
+          throw new AssertionError("prefix sum " + running[running.length - 1] + " != " + total);
+        }
+        System.out.printf("%-10s map %3d ms, filter %3d ms (%,d kept), reduce %3d ms, prefix sum %3d ms%n",
+            engine == arrays ? "chunked" : "sequential", (mapped - start) / 1_000_000, (filtered - mapped) / 1_000_000,
+            count, (reduced - filtered) / 1_000_000, (scanned - reduced) / 1_000_000);
+      }
+    }
+
+    // Formatting 200,000 values: one print per element against one bulk write
+    long[] sample = Arrays.copyOf(running, 200_000);
+    long start = System.nanoTime();
+    StringBuilder perElement = new StringBuilder();
+    for (long value : sample) {
+      perElement.append(value + " "); // a String per element, as displayArray did
+    }
+    long perElementNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+    String bulk = arrays.format(sample, " ");
+    long bulkNanos = System.nanoTime() - start;
+    System.out.printf("format: per element %d ms, bulk %d ms, same text: %b%n", perElementNanos / 1_000_000,
+        bulkNanos / 1_000_000, perElement.toString().trim().equals(bulk));
+
+    // Straight to stdout as ASCII bytes through one reused buffer
+    WritableByteChannel stdout = Channels.newChannel(new FileOutputStream(FileDescriptor.out));
+    BulkFormat.writeTo(stdout, Arrays.copyOf(running, 10), (byte) '\n', ByteBuffer.allocateDirect(64 * 1024));
+  }
+}
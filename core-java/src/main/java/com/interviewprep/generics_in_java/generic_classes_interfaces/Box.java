@@ -0,0 +1,16 @@
+package com.interviewprep.generics_in_java.generic_classes_interfaces;
+
+// Implement the generic interface in the Box class
+class Box<T> implements Container<T> {
+  private final T value;
+
+  public Box(T value) {
+    this.value = value;
+  }
+
+  // Implementing the get method from Container
+  @Override
+  public T get() {
+    return value;
+  }
+}
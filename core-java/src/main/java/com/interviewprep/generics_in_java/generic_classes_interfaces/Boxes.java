@@ -0,0 +1,32 @@
+package com.interviewprep.generics_in_java.generic_classes_interfaces;
+
+/**
+ * Factory for boxes. Overload resolution picks the primitive specialization whenever the
+ * argument is a primitive, so {@code Boxes.of(10)} is an {@link IntBox} that holds an int, while
+ * {@code Boxes.of("text")} or an already boxed {@code Integer} still gets a generic {@link Box}.
+ * Only int, long and double are specialized: {@code char}, {@code byte} and {@code short} widen to
+ * {@code of(int)} (so {@code Boxes.of('A')} holds 65) and {@code float} widens to {@code
+ * of(double)}. Pass a boxed value, e.g. {@code Boxes.of(Character.valueOf('A'))}, to keep the type.
+ * {@code IntBox}, {@code LongBox} and {@code DoubleBox} are generated at build time from
+ * src/main/templates (see the antrun execution in pom.xml).
+ */
+final class Boxes {
+  private Boxes() {
+  }
+
+  static IntBox of(int value) {
+    return new IntBox(value);
+  }
+
+  static LongBox of(long value) {
+    return new LongBox(value);
+  }
+
+  static DoubleBox of(double value) {
+    return new DoubleBox(value);
+  }
+
+  static <T> Box<T> of(T value) {
+    return new Box<>(value);
+  }
+}
@@ -0,0 +1,6 @@
+package com.interviewprep.generics_in_java.generic_classes_interfaces;
+
+// Define a generic interface
+interface Container<T> {
+  T get();
+}
@@ -1,29 +1,22 @@
 package com.interviewprep.generics_in_java.generic_classes_interfaces;
 
-// Define a generic interface
-interface Container<T> {
-  T get();
-}
-
-// Implement the generic interface in the Box class
-class Box<T> implements Container<T> {
-  private final T value;
-
-  public Box(T value) {
-    this.value = value;
-  }
-
-  // Implementing the get method from Container
-  @Override
-  public T get() {
-    return value;
-  }
-}
-
 // Main class to test the generic class and interface
 public class GenericClassesAndInterfaces {
   public static void main(String[] args) {
     Box<Integer> integerBox = new Box<>(10);
     System.out.println("Box contains: " + integerBox.get()); // Using the get() method from Container
+
+    // The factory picks the generated primitive specialization for primitive arguments
+    IntBox intBox = Boxes.of(10);
+    Container<Integer> asContainer = intBox; // still usable where a Container<Integer> is expected
+    Box<String> stringBox = Boxes.of("text");
+    System.out.println("IntBox contains: " + intBox.getInt() + ", as Container: " + asContainer.get()
+        + ", String box: " + stringBox.get());
+
+    // There is no CharBox: a char widens to the int overload, so the box holds the code point.
+    // Box the argument first to keep the type.
+    IntBox fromChar = Boxes.of('A');
+    Box<Character> charBox = Boxes.of(Character.valueOf('A'));
+    System.out.println("Boxes.of('A') holds " + fromChar.getInt() + ", Boxes.of(Character) holds " + charBox.get());
   }
 }
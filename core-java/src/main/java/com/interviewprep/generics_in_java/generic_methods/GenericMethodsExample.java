@@ -1,11 +1,11 @@
 package com.interviewprep.generics_in_java.generic_methods;
 
+import com.interviewprep.generics_in_java.bulk.BulkFormat;
+
 public class GenericMethodsExample {
+  // One StringBuilder and one println for the whole array, instead of a print per element
   public static <T> void displayArray(T[] array) {
-    for (T element : array) {
-      System.out.print(element + " ");
-    }
-    System.out.println();
+    System.out.println(BulkFormat.join(array, " "));
   }
 
   public static void main(String[] args) {
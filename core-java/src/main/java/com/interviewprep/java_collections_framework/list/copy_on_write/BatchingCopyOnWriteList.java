@@ -0,0 +1,213 @@
+package com.interviewprep.java_collections_framework.list.copy_on_write;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A copy-on-write list like {@link java.util.concurrent.CopyOnWriteArrayList}, but writers can
+ * group many mutations into a single copy through {@link #mutate(Consumer)}. Reads and iteration
+ * work on an immutable snapshot array and never lock. Every read that looks at more than one
+ * element (iterators, streams, search, equality, {@link #subList}) reads the array once and works
+ * on that snapshot, so it never sees a concurrent batch half-way.
+ */
+public class BatchingCopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private volatile Object[] array;
+
+  public BatchingCopyOnWriteList() {
+    array = new Object[0];
+  }
+
+  public BatchingCopyOnWriteList(List<? extends E> initial) {
+    array = initial.toArray();
+  }
+
+  /**
+   * Applies all mutations made by {@code mutator} to a private working copy and publishes the
+   * result atomically. Readers see either the old or the new contents, never a partial batch. If
+   * the mutator throws, nothing is published.
+   */
+  public void mutate(Consumer<? super List<E>> mutator) {
+    writeLock.lock();
+    try {
+      @SuppressWarnings("unchecked")
+      List<E> working = new ArrayList<>((List<E>) Arrays.asList(array));
+      mutator.accept(working);
+      array = working.toArray();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Returns an immutable view of the current contents
+  @SuppressWarnings("unchecked")
+  public List<E> snapshot() {
+    return Collections.unmodifiableList((List<E>) Arrays.asList(array));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E) array[index];
+  }
+
+  @Override
+  public int size() {
+    return array.length;
+  }
+
+  // Iterates a snapshot; like CopyOnWriteArrayList, its remove() is unsupported. Use removeIf or mutate() instead.
+  @Override
+  public Iterator<E> iterator() {
+    return snapshot().iterator();
+  }
+
+  // AbstractList's versions walk get(i) across several reads of `array`; these read it once
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return snapshot().listIterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    return snapshot().listIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return snapshot().spliterator();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    snapshot().forEach(action);
+  }
+
+  @Override
+  public int indexOf(Object element) {
+    return snapshot().indexOf(element);
+  }
+
+  @Override
+  public int lastIndexOf(Object element) {
+    return snapshot().lastIndexOf(element);
+  }
+
+  @Override
+  public boolean contains(Object element) {
+    return snapshot().contains(element);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> elements) {
+    return snapshot().containsAll(elements);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return array.clone();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] target) {
+    return snapshot().toArray(target);
+  }
+
+  // An immutable slice of the current snapshot, not a live view: later writes do not show through
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    return snapshot().subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other == this || snapshot().equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return snapshot().hashCode();
+  }
+
+  // Single-element writes each pay for one copy; prefer mutate() for bursts of changes
+
+  @Override
+  public E set(int index, E element) {
+    List<E> result = new ArrayList<>(1);
+    mutate(list -> result.add(list.set(index, element)));
+    return result.getFirst();
+  }
+
+  // Appends under the write lock; AbstractList's add(size(), e) would race with concurrent removals
+  @Override
+  public boolean add(E element) {
+    mutate(list -> list.add(element));
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> elements) {
+    boolean[] changed = new boolean[1];
+    mutate(list -> changed[0] = list.addAll(elements));
+    return changed[0];
+  }
+
+  @Override
+  public void add(int index, E element) {
+    mutate(list -> list.add(index, element));
+  }
+
+  @Override
+  public E remove(int index) {
+    List<E> result = new ArrayList<>(1);
+    mutate(list -> result.add(list.remove(index)));
+    return result.getFirst();
+  }
+
+  // AbstractCollection's removal methods go through iterator().remove(), which snapshots cannot support
+
+  @Override
+  public boolean remove(Object element) {
+    boolean[] changed = new boolean[1];
+    mutate(list -> changed[0] = list.remove(element));
+    return changed[0];
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    boolean[] changed = new boolean[1];
+    mutate(list -> changed[0] = list.removeIf(filter));
+    return changed[0];
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> elements) {
+    boolean[] changed = new boolean[1];
+    mutate(list -> changed[0] = list.removeAll(elements));
+    return changed[0];
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> elements) {
+    boolean[] changed = new boolean[1];
+    mutate(list -> changed[0] = list.retainAll(elements));
+    return changed[0];
+  }
+
+  @Override
+  public void clear() {
+    mutate(List::clear);
+  }
+}
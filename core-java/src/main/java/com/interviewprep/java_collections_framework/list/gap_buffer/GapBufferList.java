@@ -0,0 +1,139 @@
+package com.interviewprep.java_collections_framework.list.gap_buffer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@link java.util.List} backed by a gap buffer: one array with an empty "gap" kept at the
+ * position of the last edit. Inserting or removing next to the previous edit only touches the
+ * gap, so clustered inserts at a moving cursor are O(1) amortized instead of shifting the tail
+ * like {@link java.util.ArrayList#add(int, Object)} does. Moving the cursor far away costs a
+ * copy proportional to the distance moved.
+ */
+public class GapBufferList<E> extends AbstractList<E> implements RandomAccess {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private Object[] buffer;
+  private int gapStart; // first free slot
+  private int gapEnd; // first used slot after the gap
+
+  public GapBufferList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public GapBufferList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    }
+    buffer = new Object[Math.max(initialCapacity, 1)];
+    gapStart = 0;
+    gapEnd = buffer.length;
+  }
+
+  @Override
+  public int size() {
+    return buffer.length - gapLength();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    Objects.checkIndex(index, size());
+    return (E) buffer[physicalIndex(index)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E set(int index, E element) {
+    Objects.checkIndex(index, size());
+    int physical = physicalIndex(index);
+    E old = (E) buffer[physical];
+    buffer[physical] = element;
+    return old;
+  }
+
+  @Override
+  public boolean add(E element) {
+    add(size(), element);
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    if (index < 0 || index > size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+    moveGapTo(index);
+    if (gapStart == gapEnd) {
+      grow(size() + 1);
+    }
+    buffer[gapStart++] = element;
+    modCount++;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E remove(int index) {
+    Objects.checkIndex(index, size());
+    moveGapTo(index);
+    E old = (E) buffer[gapEnd];
+    buffer[gapEnd++] = null; // let GC do its work
+    modCount++;
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(buffer, null);
+    gapStart = 0;
+    gapEnd = buffer.length;
+    modCount++;
+  }
+
+  // Returns the current cursor (gap) position, i.e. where the next clustered insert is cheapest
+  public int cursor() {
+    return gapStart;
+  }
+
+  private int gapLength() {
+    return gapEnd - gapStart;
+  }
+
+  private int physicalIndex(int index) {
+    return index < gapStart ? index : index + gapLength();
+  }
+
+  // Moves the gap so that it starts at the given logical index
+  private void moveGapTo(int index) {
+    if (index == gapStart) {
+      return;
+    }
+    if (index < gapStart) {
+      // Shift [index, gapStart) to the right end of the gap
+      int count = gapStart - index;
+      System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+      Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+      gapStart = index;
+      gapEnd -= count;
+    } else {
+      // Shift the elements between the gap and index to the left end of the gap
+      int count = index - gapStart;
+      System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+      Arrays.fill(buffer, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+      gapStart += count;
+      gapEnd += count;
+    }
+  }
+
+  private void grow(int minCapacity) {
+    int newCapacity = Math.max(minCapacity, buffer.length + (buffer.length >> 1) + 1);
+    Object[] newBuffer = new Object[newCapacity];
+    int tail = buffer.length - gapEnd;
+    System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+    System.arraycopy(buffer, gapEnd, newBuffer, newCapacity - tail, tail);
+    buffer = newBuffer;
+    gapEnd = newCapacity - tail;
+  }
+}
@@ -0,0 +1,44 @@
+package com.interviewprep.java_collections_framework.list.gap_buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GapBufferListExample {
+  public static void main(String[] args) {
+    // Same operations as ArrayListExample, backed by a gap buffer
+    List<String> list = new GapBufferList<>();
+    list.add("Apple");
+    list.add("Banana");
+    list.add("Cherry");
+
+    // Insert at index: moves the gap to index 1 instead of shifting the tail
+    list.add(1, "Blueberry");
+    System.out.println("After inserting Blueberry at index 1: " + list);
+
+    // Clustered inserts right after the previous one only fill the gap
+    list.add(2, "Blackberry");
+    list.add(3, "Boysenberry");
+    System.out.println("After clustered inserts: " + list);
+
+    list.remove("Cherry");
+    System.out.println("After removing Cherry: " + list);
+
+    // Simulate an editor typing at a cursor in the middle of a large buffer
+    int size = 100_000;
+    int inserts = 50_000;
+    System.out.println("ArrayList clustered inserts:     " + timeClusteredInserts(new ArrayList<>(), size, inserts) + " ms");
+    System.out.println("GapBufferList clustered inserts: " + timeClusteredInserts(new GapBufferList<>(), size, inserts) + " ms");
+  }
+
+  private static long timeClusteredInserts(List<Integer> list, int size, int inserts) {
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    long start = System.nanoTime();
+    int cursor = size / 2;
+    for (int i = 0; i < inserts; i++) {
+      list.add(cursor++, i);
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
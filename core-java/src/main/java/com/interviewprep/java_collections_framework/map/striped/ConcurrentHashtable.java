@@ -0,0 +1,232 @@
+package com.interviewprep.java_collections_framework.map.striped;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Migration adapter: a {@link Hashtable} subclass backed by a {@link StripedHashMap}. Code that
+ * declares {@code Hashtable<K, V>} fields and parameters keeps compiling and behaving the same
+ * (null keys and values still throw {@link NullPointerException}, {@code keys()} and {@code
+ * elements()} still return enumerations), but no call takes the single {@code Hashtable} monitor
+ * any more. Only the construction site changes.
+ *
+ * <p>Differences to keep in mind: iteration is weakly consistent instead of fail-fast, and {@code
+ * synchronized (table) { ... }} blocks no longer exclude other writers, so compound actions should
+ * move to {@link #putIfAbsent}, {@link #compute} and friends.
+ *
+ * <p>Serialization writes a snapshot of the entries through a proxy and reads it back into a new
+ * striped map, since the inherited {@code Hashtable} state is always empty.
+ */
+public class ConcurrentHashtable<K, V> extends Hashtable<K, V> {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final transient StripedHashMap<K, V> map;
+
+  public ConcurrentHashtable() {
+    super(1); // the inherited table stays empty
+    this.map = new StripedHashMap<>();
+  }
+
+  public ConcurrentHashtable(int initialCapacity) {
+    super(1);
+    this.map = new StripedHashMap<>(initialCapacity, Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  public ConcurrentHashtable(Map<? extends K, ? extends V> t) {
+    super(1);
+    this.map = new StripedHashMap<>(t);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public Enumeration<K> keys() {
+    return map.keys();
+  }
+
+  @Override
+  public Enumeration<V> elements() {
+    return map.elements();
+  }
+
+  @Override
+  public boolean contains(Object value) {
+    return map.containsValue(value);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return map.containsValue(value);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public V get(Object key) {
+    return map.get(key);
+  }
+
+  @Override
+  protected void rehash() {
+    // Segments grow on their own
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return map.put(key, value);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return map.remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> t) {
+    map.putAll(t);
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+
+  @Override
+  public Object clone() {
+    return new ConcurrentHashtable<>(map);
+  }
+
+  @Override
+  public String toString() {
+    return map.toString();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return map.keySet();
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return map.entrySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return map.values();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o == this || map.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return map.hashCode();
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    return map.getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    map.forEach(action);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    map.replaceAll(function);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return map.putIfAbsent(key, value);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    return map.remove(key, value);
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    return map.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    return map.replace(key, value);
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    return map.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    return map.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    return map.compute(key, remappingFunction);
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    return map.merge(key, value, remappingFunction);
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return new SerializationProxy<>(this);
+  }
+
+  @Serial
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("SerializationProxy required");
+  }
+
+  private static final class SerializationProxy<K, V> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final HashMap<K, V> entries;
+
+    SerializationProxy(ConcurrentHashtable<K, V> table) {
+      this.entries = new HashMap<>(table.map);
+    }
+
+    @Serial
+    private Object readResolve() {
+      return new ConcurrentHashtable<>(entries);
+    }
+  }
+}
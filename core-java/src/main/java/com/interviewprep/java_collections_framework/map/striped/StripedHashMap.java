@@ -0,0 +1,507 @@
+package com.interviewprep.java_collections_framework.map.striped;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A lock-striped concurrent hash map: the key space is split into independently locked segments,
+ * so writers to different segments never contend, and reads take no lock at all. Each segment
+ * grows its own table, which spreads resizing across the writers that fill each segment instead of
+ * stopping the whole map. Like {@link java.util.Hashtable}, null keys and values are rejected and
+ * {@link #keys()} / {@link #elements()} enumerations are available; iteration is weakly
+ * consistent and never throws {@link java.util.ConcurrentModificationException}.
+ */
+public class StripedHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+  private static final int MAX_SEGMENTS = 1 << 16;
+  private static final int PARALLEL_SCAN_THRESHOLD = 1 << 14;
+  @SuppressWarnings("rawtypes")
+  private static final VarHandle TABLE = MethodHandles.arrayElementVarHandle(Node[].class);
+
+  private final Segment<K, V>[] segments;
+  private final int segmentShift;
+
+  private Set<Entry<K, V>> entrySet;
+
+  public StripedHashMap() {
+    this(DEFAULT_CAPACITY, Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public StripedHashMap(int initialCapacity, int concurrencyLevel) {
+    if (initialCapacity < 0 || concurrencyLevel <= 0) {
+      throw new IllegalArgumentException("Invalid sizing: " + initialCapacity + ", " + concurrencyLevel);
+    }
+    int segmentCount = 1;
+    int bits = 0;
+    while (segmentCount < Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+      segmentCount <<= 1;
+      bits++;
+    }
+    this.segmentShift = 32 - bits;
+    int perSegment = Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity / segmentCount - 1)) << 1);
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment<>(perSegment);
+    }
+  }
+
+  public StripedHashMap(Map<? extends K, ? extends V> map) {
+    this(Math.max(DEFAULT_CAPACITY, (int) (map.size() / LOAD_FACTOR) + 1), Runtime.getRuntime().availableProcessors() * 4);
+    // Not putAll(): an overridable call from a constructor could see a half-built subclass
+    for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      V value = Objects.requireNonNull(entry.getValue());
+      int hash = spread(entry.getKey());
+      segmentFor(hash).put(entry.getKey(), hash, value, false);
+    }
+  }
+
+  // Spreads hashCode bits: the high bits pick the segment, the low bits the bucket
+  private static int spread(Object key) {
+    int h = key.hashCode();
+    return (h ^ (h >>> 16)) * 0x9E3779B9;
+  }
+
+  private Segment<K, V> segmentFor(int hash) {
+    return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+  }
+
+  @Override
+  public V get(Object key) {
+    int hash = spread(key);
+    return segmentFor(hash).get(key, hash);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Objects.requireNonNull(value);
+    int hash = spread(key);
+    return segmentFor(hash).put(key, hash, value, false);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Objects.requireNonNull(value);
+    int hash = spread(key);
+    return segmentFor(hash).put(key, hash, value, true);
+  }
+
+  @Override
+  public V remove(Object key) {
+    int hash = spread(key);
+    return segmentFor(hash).remove(key, hash, null);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    int hash = spread(key);
+    return value != null && segmentFor(hash).remove(key, hash, value) != null;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Objects.requireNonNull(oldValue);
+    Objects.requireNonNull(newValue);
+    int hash = spread(key);
+    return segmentFor(hash).replace(key, hash, oldValue, newValue) != null;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Objects.requireNonNull(value);
+    int hash = spread(key);
+    return segmentFor(hash).replace(key, hash, null, value);
+  }
+
+  // Runs the mapping function under the segment lock, so it is applied at most once per key
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    int hash = spread(key);
+    return segmentFor(hash).computeIfAbsent(key, hash, mappingFunction);
+  }
+
+  @Override
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  // Weakly consistent: concurrent updates in other segments may or may not be counted
+  @Override
+  public int size() {
+    long size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.count;
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Segment<K, V> segment : segments) {
+      if (segment.count != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Full scan; large maps scan their segments in parallel on the common ForkJoinPool
+  @Override
+  public boolean containsValue(Object value) {
+    Objects.requireNonNull(value);
+    if (size() < PARALLEL_SCAN_THRESHOLD) {
+      for (Segment<K, V> segment : segments) {
+        if (segment.containsValue(value)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return Arrays.stream(segments).parallel().anyMatch(segment -> segment.containsValue(value));
+  }
+
+  // Same as containsValue, kept for Hashtable compatibility
+  public boolean contains(Object value) {
+    return containsValue(value);
+  }
+
+  public Enumeration<K> keys() {
+    return new KeyIterator();
+  }
+
+  public Enumeration<V> elements() {
+    return new ValueIterator();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> result = entrySet;
+    if (result == null) {
+      entrySet = result = new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+          return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+          return StripedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          return o instanceof Entry<?, ?> entry && entry.getKey() != null
+              && Objects.equals(get(entry.getKey()), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+          return o instanceof Entry<?, ?> entry && entry.getKey() != null
+              && StripedHashMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+          StripedHashMap.this.clear();
+        }
+      };
+    }
+    return result;
+  }
+
+  static final class Node<K, V> {
+    final int hash;
+    final K key;
+    volatile V value;
+    volatile Node<K, V> next;
+
+    Node(int hash, K key, V value, Node<K, V> next) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+      this.next = next;
+    }
+  }
+
+  /**
+   * One stripe. Writers hold the segment lock; readers see a consistent table through acquire
+   * reads of bucket heads and volatile node links, so they never block.
+   */
+  static final class Segment<K, V> extends ReentrantLock {
+    private static final long serialVersionUID = 1L;
+
+    // Segments are never serialized on their own; ConcurrentHashtable writes a snapshot instead
+    transient volatile Node<K, V>[] table;
+    volatile int count;
+    private int threshold;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Segment(int capacity) {
+      table = new Node[capacity];
+      threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> Node<K, V> head(Node<K, V>[] table, int index) {
+      return (Node<K, V>) TABLE.getAcquire(table, index);
+    }
+
+    V get(Object key, int hash) {
+      Node<K, V>[] tab = table;
+      for (Node<K, V> e = head(tab, hash & (tab.length - 1)); e != null; e = e.next) {
+        if (e.hash == hash && key.equals(e.key)) {
+          return e.value;
+        }
+      }
+      return null;
+    }
+
+    V put(K key, int hash, V value, boolean onlyIfAbsent) {
+      lock();
+      try {
+        Node<K, V>[] tab = table;
+        int index = hash & (tab.length - 1);
+        for (Node<K, V> e = head(tab, index); e != null; e = e.next) {
+          if (e.hash == hash && key.equals(e.key)) {
+            V old = e.value;
+            if (!onlyIfAbsent) {
+              e.value = value;
+            }
+            return old;
+          }
+        }
+        TABLE.setRelease(tab, index, new Node<>(hash, key, value, head(tab, index)));
+        if (++count > threshold) {
+          rehash();
+        }
+        return null;
+      } finally {
+        unlock();
+      }
+    }
+
+    V computeIfAbsent(K key, int hash, Function<? super K, ? extends V> mappingFunction) {
+      lock();
+      try {
+        V existing = get(key, hash);
+        if (existing != null) {
+          return existing;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+          put(key, hash, value, true); // reentrant
+        }
+        return value;
+      } finally {
+        unlock();
+      }
+    }
+
+    // Removes the mapping, only if it currently maps to expected when that is non-null
+    V remove(Object key, int hash, Object expected) {
+      lock();
+      try {
+        Node<K, V>[] tab = table;
+        int index = hash & (tab.length - 1);
+        Node<K, V> previous = null;
+        for (Node<K, V> e = head(tab, index); e != null; previous = e, e = e.next) {
+          if (e.hash == hash && key.equals(e.key)) {
+            V old = e.value;
+            if (expected != null && !expected.equals(old)) {
+              return null;
+            }
+            // Readers already on e still reach e.next, so unlinking in place is safe
+            if (previous == null) {
+              TABLE.setRelease(tab, index, e.next);
+            } else {
+              previous.next = e.next;
+            }
+            count--;
+            return old;
+          }
+        }
+        return null;
+      } finally {
+        unlock();
+      }
+    }
+
+    V replace(K key, int hash, V expected, V value) {
+      lock();
+      try {
+        Node<K, V>[] tab = table;
+        for (Node<K, V> e = head(tab, hash & (tab.length - 1)); e != null; e = e.next) {
+          if (e.hash == hash && key.equals(e.key)) {
+            V old = e.value;
+            if (expected != null && !expected.equals(old)) {
+              return null;
+            }
+            e.value = value;
+            return old;
+          }
+        }
+        return null;
+      } finally {
+        unlock();
+      }
+    }
+
+    boolean containsValue(Object value) {
+      Node<K, V>[] tab = table;
+      for (int i = 0; i < tab.length; i++) {
+        for (Node<K, V> e = head(tab, i); e != null; e = e.next) {
+          if (value.equals(e.value)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void clear() {
+      lock();
+      try {
+        table = new Node[table.length];
+        count = 0;
+      } finally {
+        unlock();
+      }
+    }
+
+    // Copies nodes into a table twice the size; readers keep using the old table until it is published
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void rehash() {
+      Node<K, V>[] old = table;
+      Node<K, V>[] grown = new Node[old.length * 2];
+      int mask = grown.length - 1;
+      for (int i = 0; i < old.length; i++) {
+        for (Node<K, V> e = head(old, i); e != null; e = e.next) {
+          int index = e.hash & mask;
+          grown[index] = new Node<>(e.hash, e.key, e.value, grown[index]);
+        }
+      }
+      table = grown;
+      threshold = (int) (grown.length * LOAD_FACTOR);
+    }
+  }
+
+  // Walks segments and buckets; sees each live entry at most once, possibly with a newer value
+  private abstract class BaseIterator {
+    private int segmentIndex = -1;
+    private Node<K, V>[] currentTable;
+    private int bucket;
+    private Node<K, V> nextNode;
+    private Node<K, V> lastReturned;
+
+    BaseIterator() {
+      advance();
+    }
+
+    private void advance() {
+      if (nextNode != null && (nextNode = nextNode.next) != null) {
+        return;
+      }
+      while (true) {
+        if (currentTable != null && bucket < currentTable.length) {
+          if ((nextNode = Segment.head(currentTable, bucket++)) != null) {
+            return;
+          }
+        } else if (segmentIndex + 1 < segments.length) {
+          currentTable = segments[++segmentIndex].table;
+          bucket = 0;
+        } else {
+          return;
+        }
+      }
+    }
+
+    public boolean hasNext() {
+      return nextNode != null;
+    }
+
+    public boolean hasMoreElements() {
+      return hasNext();
+    }
+
+    Node<K, V> nextNode() {
+      if (nextNode == null) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = nextNode;
+      advance();
+      return lastReturned;
+    }
+
+    public void remove() {
+      if (lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      StripedHashMap.this.remove(lastReturned.key);
+      lastReturned = null;
+    }
+  }
+
+  private final class KeyIterator extends BaseIterator implements Iterator<K>, Enumeration<K> {
+    @Override
+    public K next() {
+      return nextNode().key;
+    }
+
+    @Override
+    public K nextElement() {
+      return next();
+    }
+  }
+
+  private final class ValueIterator extends BaseIterator implements Iterator<V>, Enumeration<V> {
+    @Override
+    public V next() {
+      return nextNode().value;
+    }
+
+    @Override
+    public V nextElement() {
+      return next();
+    }
+  }
+
+  private final class EntryIterator extends BaseIterator implements Iterator<Entry<K, V>> {
+    @Override
+    public Entry<K, V> next() {
+      Node<K, V> node = nextNode();
+      return new SimpleEntry<>(node.key, node.value) {
+        @Override
+        public V setValue(V value) {
+          V old = super.setValue(value);
+          replace(node.key, value); // write through, but never resurrect a removed key
+          return old;
+        }
+      };
+    }
+  }
+}
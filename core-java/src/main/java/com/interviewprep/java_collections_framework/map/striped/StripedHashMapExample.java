@@ -0,0 +1,70 @@
+package com.interviewprep.java_collections_framework.map.striped;
+
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public class StripedHashMapExample {
+  public static void main(String[] args) throws InterruptedException {
+    // Same calls as HashtableExample; only the constructor changed
+    Hashtable<Integer, String> hashtable = new ConcurrentHashtable<>();
+    hashtable.put(1, "Alice");
+    hashtable.put(2, "Bob");
+    hashtable.put(3, "Charlie");
+    hashtable.put(4, "David");
+    System.out.println("Value for key 2: " + hashtable.get(2));
+    System.out.println("Does value 'Eve' exist? " + hashtable.containsValue("Eve"));
+    hashtable.remove(4);
+
+    System.out.println("Iterating through ConcurrentHashtable using Enumeration:");
+    Enumeration<Integer> keys = hashtable.keys();
+    while (keys.hasMoreElements()) {
+      Integer key = keys.nextElement();
+      System.out.println("Key: " + key + ", Value: " + hashtable.get(key));
+    }
+
+    try {
+      hashtable.put(5, null); // still rejected, as in Hashtable
+    } catch (NullPointerException e) {
+      System.out.println("Cannot add null value");
+    }
+
+    // Mixed read-heavy workload from several threads
+    int threads = Runtime.getRuntime().availableProcessors();
+    System.out.println("Hashtable:          " + throughput(Hashtable::new, threads) + " ops/ms");
+    System.out.println("ConcurrentHashtable: " + throughput(ConcurrentHashtable::new, threads) + " ops/ms");
+    System.out.println("StripedHashMap:      " + throughput(StripedHashMap::new, threads) + " ops/ms");
+  }
+
+  private static long throughput(Supplier<Map<Integer, Integer>> factory, int threads) throws InterruptedException {
+    Map<Integer, Integer> map = factory.get();
+    int keys = 100_000;
+    int operations = 1_000_000;
+    for (int i = 0; i < keys; i++) {
+      map.put(i, i);
+    }
+    Thread[] workers = new Thread[threads];
+    long start = System.nanoTime();
+    for (int t = 0; t < threads; t++) {
+      workers[t] = new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < operations; i++) {
+          int key = random.nextInt(keys);
+          if (i % 10 == 0) {
+            map.put(key, i);
+          } else {
+            map.get(key);
+          }
+        }
+      });
+      workers[t].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+    return (long) threads * operations / millis;
+  }
+}
@@ -0,0 +1,225 @@
+package com.interviewprep.java_collections_framework.set.compact;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An open-addressed hash set. Unlike {@link java.util.HashSet}, which wraps a {@link
+ * java.util.HashMap} and allocates a node (plus a dummy value reference) per element, this set
+ * keeps the elements in one flat array probed linearly, with their hash codes cached in a
+ * parallel {@code int[]} so that most mismatches are rejected without calling {@code equals}.
+ * Removed slots are marked with a tombstone and reclaimed on the next rehash. Allows {@code
+ * null}; not thread-safe.
+ */
+public class CompactHashSet<E> extends AbstractSet<E> {
+  static final Object NULL_ELEMENT = new Object();
+  static final Object TOMBSTONE = new Object();
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private Object[] elements;
+  private int[] hashes;
+  private int size;
+  private int tombstones;
+  private int modCount;
+
+  public CompactHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public CompactHashSet(int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  public CompactHashSet(Collection<? extends E> collection) {
+    this(collection.size());
+    for (E e : collection) {
+      insert(maskNull(e));
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public boolean add(E e) {
+    return insert(maskNull(e));
+  }
+
+  // Private so the copy constructor does not call an overridable add()
+  private boolean insert(Object key) {
+    int hash = hash(key);
+    int mask = elements.length - 1;
+    int firstTombstone = -1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      Object current = elements[i];
+      if (current == null) {
+        int slot = firstTombstone >= 0 ? firstTombstone : i;
+        if (firstTombstone >= 0) {
+          tombstones--;
+        }
+        elements[slot] = key;
+        hashes[slot] = hash;
+        size++;
+        modCount++;
+        if (size + tombstones > elements.length * LOAD_FACTOR) {
+          rehash();
+        }
+        return true;
+      }
+      if (current == TOMBSTONE) {
+        if (firstTombstone < 0) {
+          firstTombstone = i;
+        }
+      } else if (hashes[i] == hash && Objects.equals(current, key)) {
+        return false;
+      }
+    }
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = indexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    allocate(DEFAULT_CAPACITY);
+    modCount++;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<>() {
+      private int next = advance(0);
+      private int last = -1;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next < elements.length;
+      }
+
+      @Override
+      public E next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        next = advance(next + 1);
+        return unmaskNull(elements[last]);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        // Tombstones never move other elements, so the scan position stays valid
+        removeAt(last);
+        last = -1;
+        expectedModCount = modCount;
+      }
+
+      private int advance(int from) {
+        while (from < elements.length && (elements[from] == null || elements[from] == TOMBSTONE)) {
+          from++;
+        }
+        return from;
+      }
+    };
+  }
+
+  private int indexOf(Object o) {
+    Object key = maskNull(o);
+    int hash = hash(key);
+    int mask = elements.length - 1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      Object current = elements[i];
+      if (current == null) {
+        return -1;
+      }
+      if (current != TOMBSTONE && hashes[i] == hash && Objects.equals(current, key)) {
+        return i;
+      }
+    }
+  }
+
+  private void removeAt(int index) {
+    elements[index] = TOMBSTONE;
+    size--;
+    tombstones++;
+    modCount++;
+  }
+
+  // Doubles the table when live elements dominate, otherwise just purges tombstones
+  private void rehash() {
+    Object[] oldElements = elements;
+    int[] oldHashes = hashes;
+    int newCapacity = size >= oldElements.length * LOAD_FACTOR / 2 ? oldElements.length * 2 : oldElements.length;
+    allocate(newCapacity);
+    int mask = newCapacity - 1;
+    for (int i = 0; i < oldElements.length; i++) {
+      Object key = oldElements[i];
+      if (key != null && key != TOMBSTONE) {
+        int slot = oldHashes[i] & mask;
+        while (elements[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        elements[slot] = key;
+        hashes[slot] = oldHashes[i];
+        size++;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    elements = new Object[capacity];
+    hashes = new int[capacity];
+    size = 0;
+    tombstones = 0;
+  }
+
+  static int hash(Object key) {
+    // Fibonacci hashing spreads poor hashCode()s (e.g. sequential Integers) across the table
+    int h = key.hashCode() * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  static int tableSizeFor(int expectedSize) {
+    int needed = (int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR) + 1;
+    return Integer.highestOneBit(needed - 1) << 1;
+  }
+
+  static Object maskNull(Object o) {
+    return o == null ? NULL_ELEMENT : o;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E> E unmaskNull(Object o) {
+    return o == NULL_ELEMENT ? null : (E) o;
+  }
+}
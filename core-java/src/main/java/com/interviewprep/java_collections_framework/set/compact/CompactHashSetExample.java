@@ -0,0 +1,76 @@
+package com.interviewprep.java_collections_framework.set.compact;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public class CompactHashSetExample {
+  public static void main(String[] args) {
+    // Same operations as HashSetExample
+    Set<String> set = new CompactHashSet<>();
+    set.add("Apple");
+    set.add("Banana");
+    set.add("Cherry");
+    set.add(null); // null is allowed, as in HashSet
+    set.add("Apple"); // Duplicate, will not be added
+    System.out.println("CompactHashSet: " + set);
+    set.remove("Banana");
+    System.out.println("After removing 'Banana': " + set + ", contains 'Cherry': " + set.contains("Cherry"));
+
+    // Insertion order is kept, as in LinkedHashSetExample
+    Set<String> linked = new CompactLinkedHashSet<>();
+    linked.add("Cherry");
+    linked.add("Apple");
+    linked.add("Banana");
+    linked.remove("Apple");
+    linked.add("Apple");
+    System.out.println("CompactLinkedHashSet: " + linked);
+
+    IntHashSet ids = new IntHashSet();
+    for (int id : new int[] {42, 7, 0, 42, 19}) {
+      ids.add(id);
+    }
+    System.out.println("IntHashSet: " + ids + ", size " + ids.size());
+
+    // Rough retained heap per element for a dedup stage over one million keys
+    int count = 1_000_000;
+    long before = usedMemory();
+    IntHashSet primitive = new IntHashSet();
+    for (int i = 0; i < count; i++) {
+      primitive.add(i * 31);
+    }
+    System.out.println("IntHashSet:           " + (usedMemory() - before) / primitive.size() + " bytes/element (no Integer objects)");
+
+    Integer[] keys = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = i * 31;
+    }
+    System.out.println("HashSet:              " + bytesPerElement(HashSet::new, keys) + " bytes/element");
+    System.out.println("CompactHashSet:       " + bytesPerElement(CompactHashSet::new, keys) + " bytes/element");
+    System.out.println("LinkedHashSet:        " + bytesPerElement(LinkedHashSet::new, keys) + " bytes/element");
+    System.out.println("CompactLinkedHashSet: " + bytesPerElement(CompactLinkedHashSet::new, keys) + " bytes/element");
+  }
+
+  // Excludes the keys themselves, which all variants share
+  private static long bytesPerElement(Supplier<Set<Integer>> factory, Integer[] keys) {
+    long before = usedMemory();
+    Set<Integer> set = factory.get();
+    for (Integer key : keys) {
+      set.add(key);
+    }
+    long after = usedMemory();
+    if (set.size() != keys.length) {
+      throw new IllegalStateException("Lost elements");
+    }
+    return (after - before) / keys.length;
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
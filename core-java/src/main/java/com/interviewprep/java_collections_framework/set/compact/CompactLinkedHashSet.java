@@ -0,0 +1,207 @@
+package com.interviewprep.java_collections_framework.set.compact;
+
+import static com.interviewprep.java_collections_framework.set.compact.CompactHashSet.hash;
+import static com.interviewprep.java_collections_framework.set.compact.CompactHashSet.maskNull;
+import static com.interviewprep.java_collections_framework.set.compact.CompactHashSet.tableSizeFor;
+import static com.interviewprep.java_collections_framework.set.compact.CompactHashSet.unmaskNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An insertion-ordered hash set in the style of CPython's compact dict. Elements and their hashes
+ * live in dense arrays in insertion order, and a separate open-addressed {@code int[]} index maps
+ * hash slots to positions in those arrays. This replaces the per-element doubly linked node of
+ * {@link java.util.LinkedHashSet} with roughly three array slots. Removal leaves a hole in the
+ * dense arrays that is squeezed out on the next rebuild. Allows {@code null}; not thread-safe.
+ */
+public class CompactLinkedHashSet<E> extends AbstractSet<E> {
+  private static final Object REMOVED = new Object();
+
+  private static final int EMPTY = -1;
+  private static final int DELETED = -2;
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private int[] index; // slot -> position in entries, EMPTY or DELETED
+  private Object[] entries; // insertion order, REMOVED for holes
+  private int[] hashes;
+  private int used; // positions taken in entries, including holes
+  private int size;
+  private int modCount;
+
+  public CompactLinkedHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public CompactLinkedHashSet(int expectedSize) {
+    allocate(tableSizeFor(expectedSize), Math.max(expectedSize, 2));
+  }
+
+  public CompactLinkedHashSet(Collection<? extends E> collection) {
+    this(collection.size());
+    for (E e : collection) {
+      insert(maskNull(e));
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return findSlot(maskNull(o)) >= 0;
+  }
+
+  @Override
+  public boolean add(E e) {
+    return insert(maskNull(e));
+  }
+
+  // Shared by add() and the copy constructor, which must not call the overridable add()
+  private boolean insert(Object key) {
+    if (findSlot(key) >= 0) {
+      return false;
+    }
+    if (used == entries.length || used + 1 > index.length * LOAD_FACTOR) {
+      rebuild();
+    }
+    int hash = hash(key);
+    int position = used++;
+    entries[position] = key;
+    hashes[position] = hash;
+    int mask = index.length - 1;
+    int slot = hash & mask;
+    while (index[slot] >= 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = position;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int slot = findSlot(maskNull(o));
+    if (slot < 0) {
+      return false;
+    }
+    removeSlot(slot);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    allocate(tableSizeFor(DEFAULT_CAPACITY), DEFAULT_CAPACITY);
+    modCount++;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<>() {
+      private int next = advance(0);
+      private int last = -1;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next < used;
+      }
+
+      @Override
+      public E next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        next = advance(next + 1);
+        return unmaskNull(entries[last]);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        // Holes are only squeezed out on insert, so positions stay stable while iterating
+        removeSlot(findSlot(entries[last]));
+        last = -1;
+        expectedModCount = modCount;
+      }
+
+      private int advance(int from) {
+        while (from < used && entries[from] == REMOVED) {
+          from++;
+        }
+        return from;
+      }
+    };
+  }
+
+  private int findSlot(Object key) {
+    int hash = hash(key);
+    int mask = index.length - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+      int position = index[slot];
+      if (position == EMPTY) {
+        return -1;
+      }
+      if (position >= 0 && hashes[position] == hash && Objects.equals(entries[position], key)) {
+        return slot;
+      }
+    }
+  }
+
+  private void removeSlot(int slot) {
+    entries[index[slot]] = REMOVED;
+    index[slot] = DELETED;
+    size--;
+    modCount++;
+  }
+
+  // Squeezes out holes and grows the arrays when they are mostly live
+  private void rebuild() {
+    Object[] oldEntries = entries;
+    int[] oldHashes = hashes;
+    int oldUsed = used;
+    int capacity = size + 1 > oldEntries.length / 2 ? oldEntries.length + (oldEntries.length >> 1) + 1 : oldEntries.length;
+    allocate(tableSizeFor(capacity), capacity);
+    int mask = index.length - 1;
+    for (int i = 0; i < oldUsed; i++) {
+      if (oldEntries[i] != REMOVED) {
+        int position = used++;
+        entries[position] = oldEntries[i];
+        hashes[position] = oldHashes[i];
+        int slot = oldHashes[i] & mask;
+        while (index[slot] >= 0) {
+          slot = (slot + 1) & mask;
+        }
+        index[slot] = position;
+        size++;
+      }
+    }
+  }
+
+  private void allocate(int tableSize, int capacity) {
+    index = new int[tableSize];
+    Arrays.fill(index, EMPTY);
+    entries = new Object[capacity];
+    hashes = new int[capacity];
+    used = 0;
+    size = 0;
+  }
+}
@@ -0,0 +1,172 @@
+package com.interviewprep.java_collections_framework.set.compact;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of primitive {@code int}s stored in one open-addressed {@code int[]}. There is no boxing
+ * and no per-element object, so an element costs about 5-8 bytes instead of the ~50 bytes an
+ * {@code Integer} in a {@link java.util.HashSet} costs. Slot value {@code 0} marks an empty slot,
+ * so the element {@code 0} itself is tracked by a flag. Deletion shifts the following cluster back
+ * instead of leaving tombstones. Not thread-safe.
+ */
+public class IntHashSet {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private int[] table;
+  private int size; // excluding zero
+  private boolean containsZero;
+
+  public IntHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public IntHashSet(int expectedSize) {
+    table = new int[CompactHashSet.tableSizeFor(expectedSize)];
+  }
+
+  public int size() {
+    return containsZero ? size + 1 : size;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public boolean contains(int value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    int mask = table.length - 1;
+    for (int i = mix(value) & mask; table[i] != 0; i = (i + 1) & mask) {
+      if (table[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean add(int value) {
+    if (value == 0) {
+      boolean added = !containsZero;
+      containsZero = true;
+      return added;
+    }
+    int mask = table.length - 1;
+    int i = mix(value) & mask;
+    while (table[i] != 0) {
+      if (table[i] == value) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    table[i] = value;
+    if (++size > table.length * LOAD_FACTOR) {
+      resize(table.length * 2);
+    }
+    return true;
+  }
+
+  public boolean remove(int value) {
+    if (value == 0) {
+      boolean removed = containsZero;
+      containsZero = false;
+      return removed;
+    }
+    int mask = table.length - 1;
+    int i = mix(value) & mask;
+    while (table[i] != value) {
+      if (table[i] == 0) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    // Backward-shift deletion: pull later members of the probe cluster into the hole
+    int hole = i;
+    for (int j = (hole + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+      int home = mix(table[j]) & mask;
+      if (((j - home) & mask) >= ((j - hole) & mask)) {
+        table[hole] = table[j];
+        hole = j;
+      }
+    }
+    table[hole] = 0;
+    size--;
+    return true;
+  }
+
+  public void clear() {
+    Arrays.fill(table, 0);
+    size = 0;
+    containsZero = false;
+  }
+
+  public void forEach(IntConsumer action) {
+    if (containsZero) {
+      action.accept(0);
+    }
+    for (int value : table) {
+      if (value != 0) {
+        action.accept(value);
+      }
+    }
+  }
+
+  public int[] toArray() {
+    int[] result = new int[size()];
+    int[] position = {0};
+    forEach(value -> result[position[0]++] = value);
+    return result;
+  }
+
+  // Iterates a snapshot of the current contents; removal is not supported
+  public PrimitiveIterator.OfInt iterator() {
+    int[] snapshot = toArray();
+    return new PrimitiveIterator.OfInt() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < snapshot.length;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return snapshot[next++];
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    forEach(value -> builder.append(builder.length() > 1 ? ", " : "").append(value));
+    return builder.append(']').toString();
+  }
+
+  private void resize(int newCapacity) {
+    int[] old = table;
+    table = new int[newCapacity];
+    int mask = newCapacity - 1;
+    for (int value : old) {
+      if (value != 0) {
+        int i = mix(value) & mask;
+        while (table[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        table[i] = value;
+      }
+    }
+  }
+
+  private static int mix(int value) {
+    int h = value * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,272 @@
+package com.interviewprep.java_collections_framework.set.probabilistic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cuckoo filter: an approximate set that, unlike a Bloom filter, supports {@link #delete}. Each
+ * key is reduced to a 16-bit fingerprint stored in one of two candidate buckets; a bucket holds
+ * four fingerprints packed into one {@code long}, so every bucket update is a single CAS.
+ *
+ * <p>Lookups, deletes and inserts that find a free slot are lock-free. Inserts that must relocate
+ * ("kick") existing fingerprints are serialized by a lock; they first search for a relocation path
+ * and then execute it from the end, copying each fingerprint before clearing its old slot, so a
+ * concurrent lookup never misses a fingerprint that is being moved. Only {@code delete} keys that
+ * were actually inserted, as with any cuckoo filter.
+ */
+public class CuckooFilter {
+  private static final int MAGIC = 0x43554B4F; // "CUKO"
+  private static final int SLOTS = 4;
+  private static final int MAX_PATH = 256;
+  private static final int MAX_ATTEMPTS = 16;
+  private static final double MAX_LOAD = 0.95;
+  private static final int MAX_BUCKETS = 1 << 30; // 8 GiB of buckets; one more doubling overflows int
+  private static final VarHandle BUCKETS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] buckets;
+  private final int mask;
+  private final AtomicLong count;
+  private final ReentrantLock kickLock = new ReentrantLock();
+
+  public CuckooFilter(long expectedInsertions) {
+    long needed = (long) Math.ceil(expectedInsertions / (SLOTS * MAX_LOAD));
+    if (expectedInsertions < 0 || needed > MAX_BUCKETS) {
+      throw new IllegalArgumentException("Invalid sizing: " + expectedInsertions + " (at most "
+          + (long) ((long) MAX_BUCKETS * SLOTS * MAX_LOAD) + " insertions)");
+    }
+    // needed <= MAX_BUCKETS, so the next power of two is at most MAX_BUCKETS as well
+    int bucketCount = Integer.highestOneBit((int) Math.max(2, needed - 1)) << 1;
+    this.buckets = new long[bucketCount];
+    this.mask = bucketCount - 1;
+    this.count = new AtomicLong();
+  }
+
+  private CuckooFilter(long[] buckets, long count) {
+    this.buckets = buckets;
+    this.mask = buckets.length - 1;
+    this.count = new AtomicLong(count);
+  }
+
+  public boolean put(Object key) {
+    return putHash(Hashing.hash64(key));
+  }
+
+  public boolean mightContain(Object key) {
+    return mightContainHash(Hashing.hash64(key));
+  }
+
+  public boolean delete(Object key) {
+    return deleteHash(Hashing.hash64(key));
+  }
+
+  // Returns false if the filter is too full to place the fingerprint
+  public boolean putHash(long hash) {
+    return insert(bucketOf(hash), fingerprintOf(hash));
+  }
+
+  public boolean mightContainHash(long hash) {
+    int fingerprint = fingerprintOf(hash);
+    int bucket = bucketOf(hash);
+    return slotOf(load(bucket), fingerprint) >= 0 || slotOf(load(alternate(bucket, fingerprint)), fingerprint) >= 0;
+  }
+
+  public boolean deleteHash(long hash) {
+    int fingerprint = fingerprintOf(hash);
+    int bucket = bucketOf(hash);
+    if (removeFrom(bucket, fingerprint) || removeFrom(alternate(bucket, fingerprint), fingerprint)) {
+      count.decrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  public long size() {
+    return count.get();
+  }
+
+  public double loadFactor() {
+    return (double) count.get() / ((long) buckets.length * SLOTS);
+  }
+
+  /**
+   * Adds every fingerprint of a filter with the same geometry. Counts add up, so a key inserted in
+   * both filters must be deleted twice.
+   *
+   * @throws IllegalStateException if this filter runs out of room
+   */
+  public void merge(CuckooFilter other) {
+    if (other.buckets.length != buckets.length) {
+      throw new IllegalArgumentException("Filters have different geometry");
+    }
+    for (int bucket = 0; bucket < other.buckets.length; bucket++) {
+      long word = other.load(bucket);
+      for (int slot = 0; slot < SLOTS; slot++) {
+        int fingerprint = fingerprintAt(word, slot);
+        if (fingerprint != 0 && !insert(bucket, fingerprint)) {
+          throw new IllegalStateException("Cuckoo filter is full");
+        }
+      }
+    }
+  }
+
+  public int serializedSizeInBytes() {
+    return 16 + buckets.length * Long.BYTES;
+  }
+
+  public void writeTo(ByteBuffer buffer) {
+    buffer.putInt(MAGIC).putInt(buckets.length).putLong(count.get());
+    for (int i = 0; i < buckets.length; i++) {
+      buffer.putLong(load(i));
+    }
+  }
+
+  public static CuckooFilter readFrom(ByteBuffer buffer) {
+    if (buffer.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Not a serialized CuckooFilter");
+    }
+    long[] buckets = new long[buffer.getInt()];
+    long count = buffer.getLong();
+    buffer.asLongBuffer().get(buckets);
+    buffer.position(buffer.position() + buckets.length * Long.BYTES);
+    return new CuckooFilter(buckets, count);
+  }
+
+  private boolean insert(int bucket, int fingerprint) {
+    if (insertInto(bucket, fingerprint) || insertInto(alternate(bucket, fingerprint), fingerprint)) {
+      count.incrementAndGet();
+      return true;
+    }
+    kickLock.lock();
+    try {
+      for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+        int start = ThreadLocalRandom.current().nextBoolean() ? bucket : alternate(bucket, fingerprint);
+        if (relocateAndInsert(start, fingerprint)) {
+          count.incrementAndGet();
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      kickLock.unlock();
+    }
+  }
+
+  // Finds a chain of moves ending in a free slot, then applies it back to front
+  private boolean relocateAndInsert(int start, int fingerprint) {
+    int[] pathBuckets = new int[MAX_PATH];
+    int[] pathSlots = new int[MAX_PATH];
+    int[] pathFingerprints = new int[MAX_PATH];
+    int length = 0;
+    int bucket = start;
+    while (true) {
+      if (length == MAX_PATH) {
+        return false;
+      }
+      int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+      int victim = fingerprintAt(load(bucket), slot);
+      if (victim == 0) {
+        // A slot freed up concurrently; stop the path here
+        break;
+      }
+      for (int i = 0; i < length; i++) {
+        if (pathBuckets[i] == bucket && pathSlots[i] == slot) {
+          return false; // cycle: moves would overwrite each other
+        }
+      }
+      pathBuckets[length] = bucket;
+      pathSlots[length] = slot;
+      pathFingerprints[length] = victim;
+      length++;
+      bucket = alternate(bucket, victim);
+      if (slotOf(load(bucket), 0) >= 0) {
+        break;
+      }
+    }
+    for (int i = length - 1; i >= 0; i--) {
+      int destination = alternate(pathBuckets[i], pathFingerprints[i]);
+      if (!insertInto(destination, pathFingerprints[i])) {
+        return false;
+      }
+      if (!clearSlot(pathBuckets[i], pathSlots[i], pathFingerprints[i])) {
+        // Deleted concurrently while we moved it: drop the copy we just made
+        removeFrom(destination, pathFingerprints[i]);
+        return false;
+      }
+    }
+    return insertInto(start, fingerprint);
+  }
+
+  private boolean insertInto(int bucket, int fingerprint) {
+    while (true) {
+      long word = load(bucket);
+      int slot = slotOf(word, 0);
+      if (slot < 0) {
+        return false;
+      }
+      if (BUCKETS.compareAndSet(buckets, bucket, word, word | (long) fingerprint << (slot * 16))) {
+        return true;
+      }
+    }
+  }
+
+  private boolean removeFrom(int bucket, int fingerprint) {
+    while (true) {
+      long word = load(bucket);
+      int slot = slotOf(word, fingerprint);
+      if (slot < 0) {
+        return false;
+      }
+      if (BUCKETS.compareAndSet(buckets, bucket, word, word & ~(0xFFFFL << (slot * 16)))) {
+        return true;
+      }
+    }
+  }
+
+  private boolean clearSlot(int bucket, int slot, int fingerprint) {
+    while (true) {
+      long word = load(bucket);
+      if (fingerprintAt(word, slot) != fingerprint) {
+        return false;
+      }
+      if (BUCKETS.compareAndSet(buckets, bucket, word, word & ~(0xFFFFL << (slot * 16)))) {
+        return true;
+      }
+    }
+  }
+
+  private long load(int bucket) {
+    return (long) BUCKETS.getVolatile(buckets, bucket);
+  }
+
+  private static int fingerprintAt(long word, int slot) {
+    return (int) (word >>> (slot * 16)) & 0xFFFF;
+  }
+
+  private static int slotOf(long word, int fingerprint) {
+    for (int slot = 0; slot < SLOTS; slot++) {
+      if (fingerprintAt(word, slot) == fingerprint) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  private int bucketOf(long hash) {
+    return (int) (hash >>> 32) & mask;
+  }
+
+  // 0 marks an empty slot, so fingerprints are never 0
+  private static int fingerprintOf(long hash) {
+    int fingerprint = (int) hash & 0xFFFF;
+    return fingerprint == 0 ? 1 : fingerprint;
+  }
+
+  // XOR with a hash of the fingerprint is its own inverse, so either bucket finds the other
+  private int alternate(int bucket, int fingerprint) {
+    return (bucket ^ (int) Hashing.hash64((long) fingerprint)) & mask;
+  }
+}
@@ -0,0 +1,68 @@
+package com.interviewprep.java_collections_framework.set.probabilistic;
+
+/**
+ * 64-bit hashes for the probabilistic structures. {@link Object#hashCode()} only has 32 bits,
+ * which is not enough to count billions of distinct keys, so common key types are hashed from
+ * their contents instead.
+ */
+public final class Hashing {
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+
+  private Hashing() {
+  }
+
+  public static long hash64(Object key) {
+    return switch (key) {
+      case Long value -> hash64(value.longValue());
+      case Integer value -> hash64(value.longValue());
+      case CharSequence value -> hash64(value);
+      case byte[] value -> hash64(value);
+      default -> hash64((long) key.hashCode());
+    };
+  }
+
+  // SplitMix64 finalizer: every input bit affects every output bit
+  public static long hash64(long value) {
+    long z = value + SEED;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  public static long hash64(CharSequence value) {
+    long h = SEED ^ value.length();
+    int i = 0;
+    for (; i + 4 <= value.length(); i += 4) {
+      long chunk = value.charAt(i) | (long) value.charAt(i + 1) << 16
+          | (long) value.charAt(i + 2) << 32 | (long) value.charAt(i + 3) << 48;
+      h = mix(h, chunk);
+    }
+    long tail = 0;
+    for (int shift = 0; i < value.length(); i++, shift += 16) {
+      tail |= (long) value.charAt(i) << shift;
+    }
+    return hash64(mix(h, tail));
+  }
+
+  public static long hash64(byte[] value) {
+    long h = SEED ^ value.length;
+    int i = 0;
+    for (; i + 8 <= value.length; i += 8) {
+      long chunk = 0;
+      for (int b = 7; b >= 0; b--) {
+        chunk = chunk << 8 | (value[i + b] & 0xFF);
+      }
+      h = mix(h, chunk);
+    }
+    long tail = 0;
+    for (int shift = 0; i < value.length; i++, shift += 8) {
+      tail |= (long) (value[i] & 0xFF) << shift;
+    }
+    return hash64(mix(h, tail));
+  }
+
+  private static long mix(long h, long chunk) {
+    h ^= chunk * 0x87C37B91114253D5L;
+    return Long.rotateLeft(h, 31) * 0x4CF5AD432745937FL;
+  }
+}
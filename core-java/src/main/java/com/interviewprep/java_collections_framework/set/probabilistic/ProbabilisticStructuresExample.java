@@ -0,0 +1,57 @@
+package com.interviewprep.java_collections_framework.set.probabilistic;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public class ProbabilisticStructuresExample {
+  public static void main(String[] args) throws InterruptedException {
+    // Exact set behind a cheap negative filter, as in HashSetExample.contains
+    Set<String> fruits = new HashSet<>(Set.of("Apple", "Banana", "Cherry"));
+    BlockedBloomFilter bloom = new BlockedBloomFilter(1_000, 0.01);
+    fruits.forEach(bloom::put);
+    for (String fruit : new String[] {"Cherry", "Durian"}) {
+      boolean present = bloom.mightContain(fruit) && fruits.contains(fruit);
+      System.out.println(fruit + " -> bloom: " + bloom.mightContain(fruit) + ", present: " + present);
+    }
+
+    // False positive rate at the design load
+    int n = 1_000_000;
+    BlockedBloomFilter large = new BlockedBloomFilter(n, 0.01);
+    IntStream.range(0, n).parallel().forEach(i -> large.putHash(Hashing.hash64(i)));
+    long falsePositives = IntStream.range(n, 2 * n).filter(i -> large.mightContainHash(Hashing.hash64(i))).count();
+    System.out.printf("Blocked Bloom filter FPP: %.4f (target 0.01), %d KB%n",
+        (double) falsePositives / n, large.serializedSizeInBytes() / 1024);
+
+    // Cuckoo filter supports deletes
+    CuckooFilter cuckoo = new CuckooFilter(n);
+    IntStream.range(0, n).parallel().forEach(i -> cuckoo.put((long) i));
+    for (int i = 0; i < n; i += 2) {
+      cuckoo.delete((long) i);
+    }
+    long stillPresent = IntStream.range(0, n).filter(i -> i % 2 == 1 && cuckoo.mightContain((long) i)).count();
+    long falseHits = IntStream.range(n, 2 * n).filter(i -> cuckoo.mightContain((long) i)).count();
+    System.out.printf("Cuckoo filter: %d/%d odd keys present after deleting evens, FPP %.5f, load %.2f%n",
+        stillPresent, n / 2, (double) falseHits / n, cuckoo.loadFactor());
+
+    // Distinct counts, filled from several threads and merged
+    HyperLogLog left = new HyperLogLog(14);
+    HyperLogLog right = new HyperLogLog(14);
+    Thread t1 = new Thread(() -> IntStream.range(0, 3_000_000).forEach(i -> left.add((long) i)));
+    Thread t2 = new Thread(() -> IntStream.range(2_000_000, 5_000_000).forEach(i -> right.add((long) i)));
+    t1.start();
+    t2.start();
+    t1.join();
+    t2.join();
+    left.merge(right);
+    System.out.println("HyperLogLog distinct estimate: " + left.cardinality() + " (exact 5000000)");
+
+    // Round-trip through a byte buffer
+    ByteBuffer buffer = ByteBuffer.allocate(left.serializedSizeInBytes());
+    left.writeTo(buffer);
+    buffer.flip();
+    System.out.println("Deserialized estimate: " + HyperLogLog.readFrom(buffer).cardinality()
+        + ", sketch size " + left.serializedSizeInBytes() + " bytes");
+  }
+}
@@ -0,0 +1,278 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// Sorted char[] of values, used while the container holds at most MAX_SIZE values
+final class ArrayContainer extends Container {
+  static final int MAX_SIZE = 4096; // above this a bitmap (8 KB) is smaller
+
+  char[] content;
+  int cardinality;
+
+  ArrayContainer() {
+    this(new char[4], 0);
+  }
+
+  ArrayContainer(char[] content, int cardinality) {
+    this.content = content;
+    this.cardinality = cardinality;
+  }
+
+  @Override
+  Container add(char value) {
+    int index = Arrays.binarySearch(content, 0, cardinality, value);
+    if (index >= 0) {
+      return this;
+    }
+    if (cardinality == MAX_SIZE) {
+      return toBitmap().add(value);
+    }
+    int insertion = -index - 1;
+    if (cardinality == content.length) {
+      content = Arrays.copyOf(content, Math.min(MAX_SIZE, content.length * 2));
+    }
+    System.arraycopy(content, insertion, content, insertion + 1, cardinality - insertion);
+    content[insertion] = value;
+    cardinality++;
+    return this;
+  }
+
+  @Override
+  Container remove(char value) {
+    int index = Arrays.binarySearch(content, 0, cardinality, value);
+    if (index >= 0) {
+      System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+      cardinality--;
+    }
+    return this;
+  }
+
+  @Override
+  boolean contains(char value) {
+    return Arrays.binarySearch(content, 0, cardinality, value) >= 0;
+  }
+
+  @Override
+  int cardinality() {
+    return cardinality;
+  }
+
+  @Override
+  int first() {
+    return content[0];
+  }
+
+  @Override
+  int last() {
+    return content[cardinality - 1];
+  }
+
+  @Override
+  int ceiling(char value) {
+    int index = Arrays.binarySearch(content, 0, cardinality, value);
+    if (index >= 0) {
+      return value;
+    }
+    int insertion = -index - 1;
+    return insertion < cardinality ? content[insertion] : -1;
+  }
+
+  @Override
+  int floor(char value) {
+    int index = Arrays.binarySearch(content, 0, cardinality, value);
+    if (index >= 0) {
+      return value;
+    }
+    int insertion = -index - 1;
+    return insertion > 0 ? content[insertion - 1] : -1;
+  }
+
+  @Override
+  PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < cardinality;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return content[next++];
+      }
+    };
+  }
+
+  @Override
+  ArrayContainer copy() {
+    return new ArrayContainer(Arrays.copyOf(content, Math.max(cardinality, 1)), cardinality);
+  }
+
+  @Override
+  Container runOptimize() {
+    int runs = cardinality == 0 ? 0 : 1;
+    for (int i = 1; i < cardinality; i++) {
+      if (content[i] != content[i - 1] + 1) {
+        runs++;
+      }
+    }
+    if (RunContainer.sizeInBytes(runs) >= serializedSizeInBytes()) {
+      return this;
+    }
+    RunContainer run = new RunContainer(new char[2 * runs], 0);
+    for (int i = 0; i < cardinality; i++) {
+      run.append(content[i]);
+    }
+    return run;
+  }
+
+  BitmapContainer toBitmap() {
+    BitmapContainer bitmap = new BitmapContainer();
+    bitmap.setAll(this);
+    return bitmap;
+  }
+
+  // Keeps the values that are (keep = true) or are not (keep = false) in the bitmap
+  ArrayContainer filter(BitmapContainer bitmap, boolean keep) {
+    char[] result = new char[Math.max(cardinality, 1)];
+    int size = 0;
+    for (int i = 0; i < cardinality; i++) {
+      if (bitmap.contains(content[i]) == keep) {
+        result[size++] = content[i];
+      }
+    }
+    return new ArrayContainer(result, size);
+  }
+
+  static ArrayContainer and(ArrayContainer a, ArrayContainer b) {
+    char[] result = new char[Math.max(Math.min(a.cardinality, b.cardinality), 1)];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < a.cardinality && j < b.cardinality) {
+      char x = a.content[i];
+      char y = b.content[j];
+      if (x < y) {
+        i++;
+      } else if (x > y) {
+        j++;
+      } else {
+        result[size++] = x;
+        i++;
+        j++;
+      }
+    }
+    return new ArrayContainer(result, size);
+  }
+
+  static Container or(ArrayContainer a, ArrayContainer b) {
+    if (a.cardinality + b.cardinality > MAX_SIZE) {
+      return a.toBitmap().setAll(b);
+    }
+    char[] result = new char[Math.max(a.cardinality + b.cardinality, 1)];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < a.cardinality && j < b.cardinality) {
+      char x = a.content[i];
+      char y = b.content[j];
+      if (x <= y) {
+        result[size++] = x;
+        i++;
+        if (x == y) {
+          j++;
+        }
+      } else {
+        result[size++] = y;
+        j++;
+      }
+    }
+    while (i < a.cardinality) {
+      result[size++] = a.content[i++];
+    }
+    while (j < b.cardinality) {
+      result[size++] = b.content[j++];
+    }
+    return new ArrayContainer(result, size);
+  }
+
+  static ArrayContainer andNot(ArrayContainer a, ArrayContainer b) {
+    char[] result = new char[Math.max(a.cardinality, 1)];
+    int j = 0;
+    int size = 0;
+    for (int i = 0; i < a.cardinality; i++) {
+      char x = a.content[i];
+      while (j < b.cardinality && b.content[j] < x) {
+        j++;
+      }
+      if (j == b.cardinality || b.content[j] != x) {
+        result[size++] = x;
+      }
+    }
+    return new ArrayContainer(result, size);
+  }
+
+  // Caller guarantees the result fits in MAX_SIZE
+  static ArrayContainer xor(ArrayContainer a, ArrayContainer b) {
+    char[] result = new char[Math.max(a.cardinality + b.cardinality, 1)];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < a.cardinality && j < b.cardinality) {
+      char x = a.content[i];
+      char y = b.content[j];
+      if (x < y) {
+        result[size++] = x;
+        i++;
+      } else if (x > y) {
+        result[size++] = y;
+        j++;
+      } else {
+        i++;
+        j++;
+      }
+    }
+    while (i < a.cardinality) {
+      result[size++] = a.content[i++];
+    }
+    while (j < b.cardinality) {
+      result[size++] = b.content[j++];
+    }
+    return new ArrayContainer(result, size);
+  }
+
+  @Override
+  byte type() {
+    return ARRAY;
+  }
+
+  @Override
+  int header() {
+    return cardinality;
+  }
+
+  @Override
+  int serializedSizeInBytes() {
+    return 2 * cardinality;
+  }
+
+  @Override
+  void writePayload(ByteBuffer buffer) {
+    buffer.asCharBuffer().put(content, 0, cardinality);
+    buffer.position(buffer.position() + 2 * cardinality);
+  }
+
+  static ArrayContainer read(int cardinality, ByteBuffer buffer) {
+    char[] content = new char[Math.max(cardinality, 1)];
+    buffer.asCharBuffer().get(content, 0, cardinality);
+    buffer.position(buffer.position() + 2 * cardinality);
+    return new ArrayContainer(content, cardinality);
+  }
+}
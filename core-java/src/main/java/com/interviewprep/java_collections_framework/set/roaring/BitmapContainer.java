@@ -0,0 +1,258 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// Fixed 65536-bit bitmap, used once a container holds more than ArrayContainer.MAX_SIZE values
+final class BitmapContainer extends Container {
+  private static final int WORDS = 1024;
+  // Removals convert back only well below MAX_SIZE, so add/remove around the boundary does not
+  // rebuild the container on every call
+  private static final int SHRINK_BELOW = ArrayContainer.MAX_SIZE / 2;
+
+  final long[] words;
+  int cardinality;
+
+  BitmapContainer() {
+    this(new long[WORDS], 0);
+  }
+
+  private BitmapContainer(long[] words, int cardinality) {
+    this.words = words;
+    this.cardinality = cardinality;
+  }
+
+  @Override
+  Container add(char value) {
+    long before = words[value >>> 6];
+    long after = before | (1L << value);
+    words[value >>> 6] = after;
+    if (before != after) {
+      cardinality++;
+    }
+    return this;
+  }
+
+  @Override
+  Container remove(char value) {
+    long before = words[value >>> 6];
+    long after = before & ~(1L << value);
+    words[value >>> 6] = after;
+    if (before != after) {
+      cardinality--;
+    }
+    return cardinality < SHRINK_BELOW ? toArray() : this;
+  }
+
+  @Override
+  boolean contains(char value) {
+    return (words[value >>> 6] & (1L << value)) != 0;
+  }
+
+  @Override
+  int cardinality() {
+    return cardinality;
+  }
+
+  @Override
+  int first() {
+    return ceiling((char) 0);
+  }
+
+  @Override
+  int last() {
+    return floor((char) 0xFFFF);
+  }
+
+  @Override
+  int ceiling(char value) {
+    int index = value >>> 6;
+    long word = words[index] & (-1L << value);
+    while (word == 0) {
+      if (++index == WORDS) {
+        return -1;
+      }
+      word = words[index];
+    }
+    return index * 64 + Long.numberOfTrailingZeros(word);
+  }
+
+  @Override
+  int floor(char value) {
+    int index = value >>> 6;
+    long word = words[index] & (-1L >>> (63 - (value & 63)));
+    while (word == 0) {
+      if (--index < 0) {
+        return -1;
+      }
+      word = words[index];
+    }
+    return index * 64 + 63 - Long.numberOfLeadingZeros(word);
+  }
+
+  @Override
+  PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int index = -1;
+      private long word = 0;
+
+      @Override
+      public boolean hasNext() {
+        while (word == 0 && index + 1 < WORDS) {
+          word = words[++index];
+        }
+        return word != 0;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int value = index * 64 + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+        return value;
+      }
+    };
+  }
+
+  @Override
+  BitmapContainer copy() {
+    return new BitmapContainer(words.clone(), cardinality);
+  }
+
+  @Override
+  Container runOptimize() {
+    int runs = 0;
+    long previous = 0;
+    for (long word : words) {
+      // A run starts at every set bit whose lower neighbour is clear
+      runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+      previous = word;
+    }
+    if (RunContainer.sizeInBytes(runs) >= serializedSizeInBytes()) {
+      return this;
+    }
+    RunContainer run = new RunContainer(new char[2 * runs], 0);
+    for (PrimitiveIterator.OfInt it = iterator(); it.hasNext(); ) {
+      run.append((char) it.nextInt());
+    }
+    return run;
+  }
+
+  BitmapContainer setAll(ArrayContainer array) {
+    for (int i = 0; i < array.cardinality; i++) {
+      add(array.content[i]);
+    }
+    return this;
+  }
+
+  BitmapContainer clearAll(ArrayContainer array) {
+    for (int i = 0; i < array.cardinality; i++) {
+      char value = array.content[i];
+      long before = words[value >>> 6];
+      long after = before & ~(1L << value);
+      words[value >>> 6] = after;
+      if (before != after) {
+        cardinality--;
+      }
+    }
+    return this;
+  }
+
+  BitmapContainer flipAll(ArrayContainer array) {
+    for (int i = 0; i < array.cardinality; i++) {
+      char value = array.content[i];
+      words[value >>> 6] ^= 1L << value;
+      cardinality += contains(value) ? 1 : -1;
+    }
+    return this;
+  }
+
+  // Falls back to an array container when the bitmap is sparse
+  Container normalize() {
+    return cardinality <= ArrayContainer.MAX_SIZE ? toArray() : this;
+  }
+
+  ArrayContainer toArray() {
+    char[] content = new char[Math.max(cardinality, 1)];
+    int size = 0;
+    for (int i = 0; i < WORDS; i++) {
+      long word = words[i];
+      while (word != 0) {
+        content[size++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+    return new ArrayContainer(content, size);
+  }
+
+  static Container and(BitmapContainer a, BitmapContainer b) {
+    long[] result = new long[WORDS];
+    int cardinality = 0;
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = a.words[i] & b.words[i];
+      cardinality += Long.bitCount(result[i]);
+    }
+    return new BitmapContainer(result, cardinality).normalize();
+  }
+
+  static Container or(BitmapContainer a, BitmapContainer b) {
+    long[] result = new long[WORDS];
+    int cardinality = 0;
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = a.words[i] | b.words[i];
+      cardinality += Long.bitCount(result[i]);
+    }
+    return new BitmapContainer(result, cardinality).normalize();
+  }
+
+  static Container andNot(BitmapContainer a, BitmapContainer b) {
+    long[] result = new long[WORDS];
+    int cardinality = 0;
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = a.words[i] & ~b.words[i];
+      cardinality += Long.bitCount(result[i]);
+    }
+    return new BitmapContainer(result, cardinality).normalize();
+  }
+
+  static Container xor(BitmapContainer a, BitmapContainer b) {
+    long[] result = new long[WORDS];
+    int cardinality = 0;
+    for (int i = 0; i < WORDS; i++) {
+      result[i] = a.words[i] ^ b.words[i];
+      cardinality += Long.bitCount(result[i]);
+    }
+    return new BitmapContainer(result, cardinality).normalize();
+  }
+
+  @Override
+  byte type() {
+    return BITMAP;
+  }
+
+  @Override
+  int header() {
+    return cardinality;
+  }
+
+  @Override
+  int serializedSizeInBytes() {
+    return WORDS * 8;
+  }
+
+  @Override
+  void writePayload(ByteBuffer buffer) {
+    buffer.asLongBuffer().put(words);
+    buffer.position(buffer.position() + WORDS * 8);
+  }
+
+  static BitmapContainer read(int cardinality, ByteBuffer buffer) {
+    long[] words = new long[WORDS];
+    buffer.asLongBuffer().get(words);
+    buffer.position(buffer.position() + WORDS * 8);
+    return new BitmapContainer(words, cardinality);
+  }
+}
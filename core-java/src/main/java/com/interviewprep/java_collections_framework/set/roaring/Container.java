@@ -0,0 +1,138 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.nio.ByteBuffer;
+import java.util.PrimitiveIterator;
+
+/**
+ * Holds the low 16 bits of the values that share one high 16-bit key in a {@link RoaringBitmap}.
+ * Mutators may return a different container when a representation stops being the cheapest one
+ * (e.g. an array container that outgrows {@link ArrayContainer#MAX_SIZE} becomes a bitmap), so
+ * callers must always store the returned container.
+ */
+abstract sealed class Container permits ArrayContainer, BitmapContainer, RunContainer {
+  static final byte ARRAY = 0;
+  static final byte BITMAP = 1;
+  static final byte RUN = 2;
+
+  abstract Container add(char value);
+
+  abstract Container remove(char value);
+
+  abstract boolean contains(char value);
+
+  abstract int cardinality();
+
+  abstract int first();
+
+  abstract int last();
+
+  // Smallest value >= the argument, or -1
+  abstract int ceiling(char value);
+
+  // Largest value <= the argument, or -1
+  abstract int floor(char value);
+
+  abstract PrimitiveIterator.OfInt iterator();
+
+  abstract Container copy();
+
+  // Returns a run container when that is smaller than the current representation
+  abstract Container runOptimize();
+
+  abstract byte type();
+
+  // Cardinality for array/bitmap containers, number of runs for run containers
+  abstract int header();
+
+  abstract int serializedSizeInBytes();
+
+  abstract void writePayload(ByteBuffer buffer);
+
+  static Container read(byte type, int header, ByteBuffer buffer) {
+    return switch (type) {
+      case ARRAY -> ArrayContainer.read(header, buffer);
+      case BITMAP -> BitmapContainer.read(header, buffer);
+      case RUN -> RunContainer.read(header, buffer);
+      default -> throw new IllegalArgumentException("Unknown container type: " + type);
+    };
+  }
+
+  // Values strictly below the bound
+  Container head(char toExclusive) {
+    return toExclusive == 0 ? new ArrayContainer() : and(this, RunContainer.range(0, toExclusive - 1));
+  }
+
+  // Values at or above the bound
+  Container tail(char fromInclusive) {
+    return and(this, RunContainer.range(fromInclusive, 0xFFFF));
+  }
+
+  // Binary operations. Run containers are expanded first; the result is never one of the inputs.
+
+  static Container and(Container a, Container b) {
+    a = expand(a);
+    b = expand(b);
+    if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) {
+      return ArrayContainer.and(x, y);
+    }
+    if (a instanceof ArrayContainer x && b instanceof BitmapContainer y) {
+      return x.filter(y, true);
+    }
+    if (a instanceof BitmapContainer x && b instanceof ArrayContainer y) {
+      return y.filter(x, true);
+    }
+    return BitmapContainer.and((BitmapContainer) a, (BitmapContainer) b);
+  }
+
+  static Container or(Container a, Container b) {
+    a = expand(a);
+    b = expand(b);
+    if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) {
+      return ArrayContainer.or(x, y);
+    }
+    if (a instanceof ArrayContainer x && b instanceof BitmapContainer y) {
+      return y.copy().setAll(x);
+    }
+    if (a instanceof BitmapContainer x && b instanceof ArrayContainer y) {
+      return x.copy().setAll(y);
+    }
+    return BitmapContainer.or((BitmapContainer) a, (BitmapContainer) b);
+  }
+
+  static Container andNot(Container a, Container b) {
+    a = expand(a);
+    b = expand(b);
+    if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) {
+      return ArrayContainer.andNot(x, y);
+    }
+    if (a instanceof ArrayContainer x && b instanceof BitmapContainer y) {
+      return x.filter(y, false);
+    }
+    if (a instanceof BitmapContainer x && b instanceof ArrayContainer y) {
+      return x.copy().clearAll(y).normalize();
+    }
+    return BitmapContainer.andNot((BitmapContainer) a, (BitmapContainer) b);
+  }
+
+  static Container xor(Container a, Container b) {
+    a = expand(a);
+    b = expand(b);
+    if (a instanceof ArrayContainer x && b instanceof ArrayContainer y) {
+      if (x.cardinality() + y.cardinality() <= ArrayContainer.MAX_SIZE) {
+        return ArrayContainer.xor(x, y);
+      }
+      return x.toBitmap().flipAll(y).normalize();
+    }
+    if (a instanceof ArrayContainer x && b instanceof BitmapContainer y) {
+      return y.copy().flipAll(x).normalize();
+    }
+    if (a instanceof BitmapContainer x && b instanceof ArrayContainer y) {
+      return x.copy().flipAll(y).normalize();
+    }
+    return BitmapContainer.xor((BitmapContainer) a, (BitmapContainer) b);
+  }
+
+  private static Container expand(Container container) {
+    return container instanceof RunContainer run ? run.toArrayOrBitmap() : container;
+  }
+}
@@ -0,0 +1,473 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of {@code int}s in the style of Roaring bitmaps. Values are split into a high
+ * 16-bit key and a low 16-bit part; each key owns one container that stores its low parts as a
+ * sorted array (sparse), a 65536-bit bitmap (dense) or a list of runs (consecutive ranges).
+ *
+ * <p>Ordering is signed, so iteration, {@link #first()}, {@link #ceiling(int)}, {@link
+ * #headSet(int)} and friends agree with a {@code TreeSet<Integer>} / {@link
+ * java.util.NavigableSet}. Set algebra works container by container and skips keys that cannot
+ * contribute. Not thread-safe.
+ */
+public class RoaringBitmap implements Iterable<Integer> {
+  private static final int COOKIE = 0x524F4152; // "ROAR"
+
+  private char[] keys;
+  private Container[] containers;
+  private int size; // number of containers
+
+  public RoaringBitmap() {
+    this(new char[4], new Container[4], 0);
+  }
+
+  private RoaringBitmap(char[] keys, Container[] containers, int size) {
+    this.keys = keys;
+    this.containers = containers;
+    this.size = size;
+  }
+
+  public static RoaringBitmap of(int... values) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int value : values) {
+      bitmap.add(value);
+    }
+    return bitmap;
+  }
+
+  // Flipping the sign bit of the high half makes unsigned key order match signed int order
+  private static char highBits(int value) {
+    return (char) ((value >>> 16) ^ 0x8000);
+  }
+
+  private static char lowBits(int value) {
+    return (char) value;
+  }
+
+  private static int combine(char high, int low) {
+    return ((high ^ 0x8000) << 16) | low;
+  }
+
+  private int indexOf(char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  public boolean add(int value) {
+    char key = highBits(value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      int before = containers[index].cardinality();
+      containers[index] = containers[index].add(lowBits(value));
+      return containers[index].cardinality() > before;
+    }
+    insertAt(-index - 1, key, new ArrayContainer().add(lowBits(value)));
+    return true;
+  }
+
+  // Adds every value in [fromInclusive, toExclusive), storing full spans as single runs
+  public void addRange(int fromInclusive, int toExclusive) {
+    if (fromInclusive >= toExclusive) {
+      return;
+    }
+    int last = toExclusive - 1;
+    for (int key = highBits(fromInclusive); key <= highBits(last); key++) {
+      int low = key == highBits(fromInclusive) ? lowBits(fromInclusive) : 0;
+      int high = key == highBits(last) ? lowBits(last) : 0xFFFF;
+      RunContainer range = RunContainer.range(low, high);
+      int index = indexOf((char) key);
+      if (index >= 0) {
+        containers[index] = Container.or(containers[index], range).runOptimize();
+      } else {
+        insertAt(-index - 1, (char) key, range);
+      }
+    }
+  }
+
+  public boolean remove(int value) {
+    int index = indexOf(highBits(value));
+    if (index < 0) {
+      return false;
+    }
+    int before = containers[index].cardinality();
+    containers[index] = containers[index].remove(lowBits(value));
+    int after = containers[index].cardinality();
+    if (after == 0) {
+      removeAt(index);
+    }
+    return after < before;
+  }
+
+  public boolean contains(int value) {
+    int index = indexOf(highBits(value));
+    return index >= 0 && containers[index].contains(lowBits(value));
+  }
+
+  public long cardinality() {
+    long cardinality = 0;
+    for (int i = 0; i < size; i++) {
+      cardinality += containers[i].cardinality();
+    }
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int first() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return combine(keys[0], containers[0].first());
+  }
+
+  public int last() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return combine(keys[size - 1], containers[size - 1].last());
+  }
+
+  // Least value >= the argument, or null, as in NavigableSet.ceiling
+  public Integer ceiling(int value) {
+    char key = highBits(value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      int low = containers[index].ceiling(lowBits(value));
+      if (low >= 0) {
+        return combine(key, low);
+      }
+      index++;
+    } else {
+      index = -index - 1;
+    }
+    return index < size ? combine(keys[index], containers[index].first()) : null;
+  }
+
+  // Greatest value <= the argument, or null, as in NavigableSet.floor
+  public Integer floor(int value) {
+    char key = highBits(value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      int low = containers[index].floor(lowBits(value));
+      if (low >= 0) {
+        return combine(key, low);
+      }
+      index--;
+    } else {
+      index = -index - 2;
+    }
+    return index >= 0 ? combine(keys[index], containers[index].last()) : null;
+  }
+
+  public Integer higher(int value) {
+    return value == Integer.MAX_VALUE ? null : ceiling(value + 1);
+  }
+
+  public Integer lower(int value) {
+    return value == Integer.MIN_VALUE ? null : floor(value - 1);
+  }
+
+  // Values strictly less than toExclusive, as a new bitmap
+  public RoaringBitmap headSet(int toExclusive) {
+    char key = highBits(toExclusive);
+    int index = indexOf(key);
+    int whole = index >= 0 ? index : -index - 1;
+    RoaringBitmap result = copyOfRange(0, whole);
+    if (index >= 0) {
+      result.appendIfNotEmpty(key, containers[index].head(lowBits(toExclusive)));
+    }
+    return result;
+  }
+
+  // Values greater than or equal to fromInclusive, as a new bitmap
+  public RoaringBitmap tailSet(int fromInclusive) {
+    char key = highBits(fromInclusive);
+    int index = indexOf(key);
+    RoaringBitmap result = new RoaringBitmap();
+    int firstWhole = index >= 0 ? index + 1 : -index - 1;
+    if (index >= 0) {
+      result.appendIfNotEmpty(key, containers[index].tail(lowBits(fromInclusive)));
+    }
+    for (int i = firstWhole; i < size; i++) {
+      result.append(keys[i], containers[i].copy());
+    }
+    return result;
+  }
+
+  public RoaringBitmap subSet(int fromInclusive, int toExclusive) {
+    return tailSet(fromInclusive).headSet(toExclusive);
+  }
+
+  // Converts containers to runs wherever that is smaller; call after bulk loading
+  public void runOptimize() {
+    for (int i = 0; i < size; i++) {
+      containers[i] = containers[i].runOptimize();
+    }
+  }
+
+  public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+    RoaringBitmap result = new RoaringBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      if (a.keys[i] < b.keys[j]) {
+        i++;
+      } else if (a.keys[i] > b.keys[j]) {
+        j++;
+      } else {
+        result.appendIfNotEmpty(a.keys[i], Container.and(a.containers[i++], b.containers[j++]));
+      }
+    }
+    return result;
+  }
+
+  public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+    RoaringBitmap result = new RoaringBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      if (a.keys[i] < b.keys[j]) {
+        result.append(a.keys[i], a.containers[i++].copy());
+      } else if (a.keys[i] > b.keys[j]) {
+        result.append(b.keys[j], b.containers[j++].copy());
+      } else {
+        result.append(a.keys[i], Container.or(a.containers[i++], b.containers[j++]));
+      }
+    }
+    result.appendRemaining(a, i);
+    result.appendRemaining(b, j);
+    return result;
+  }
+
+  public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+    RoaringBitmap result = new RoaringBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      if (a.keys[i] < b.keys[j]) {
+        result.append(a.keys[i], a.containers[i++].copy());
+      } else if (a.keys[i] > b.keys[j]) {
+        j++;
+      } else {
+        result.appendIfNotEmpty(a.keys[i], Container.andNot(a.containers[i++], b.containers[j++]));
+      }
+    }
+    result.appendRemaining(a, i);
+    return result;
+  }
+
+  public static RoaringBitmap xor(RoaringBitmap a, RoaringBitmap b) {
+    RoaringBitmap result = new RoaringBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      if (a.keys[i] < b.keys[j]) {
+        result.append(a.keys[i], a.containers[i++].copy());
+      } else if (a.keys[i] > b.keys[j]) {
+        result.append(b.keys[j], b.containers[j++].copy());
+      } else {
+        result.appendIfNotEmpty(a.keys[i], Container.xor(a.containers[i++], b.containers[j++]));
+      }
+    }
+    result.appendRemaining(a, i);
+    result.appendRemaining(b, j);
+    return result;
+  }
+
+  public void forEachInt(IntConsumer action) {
+    for (int i = 0; i < size; i++) {
+      for (PrimitiveIterator.OfInt it = containers[i].iterator(); it.hasNext(); ) {
+        action.accept(combine(keys[i], it.nextInt()));
+      }
+    }
+  }
+
+  // Ascending iteration without boxing
+  public PrimitiveIterator.OfInt intIterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int index = -1;
+      private PrimitiveIterator.OfInt current;
+
+      @Override
+      public boolean hasNext() {
+        while ((current == null || !current.hasNext()) && index + 1 < size) {
+          current = containers[++index].iterator();
+        }
+        return current != null && current.hasNext();
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return combine(keys[index], current.nextInt());
+      }
+    };
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return intIterator();
+  }
+
+  public int[] toArray() {
+    int[] result = new int[Math.toIntExact(cardinality())];
+    int[] position = {0};
+    forEachInt(value -> result[position[0]++] = value);
+    return result;
+  }
+
+  // Serialization: cookie, container count, per-container headers, then the payloads
+
+  public int serializedSizeInBytes() {
+    int bytes = 8 + size * 7;
+    for (int i = 0; i < size; i++) {
+      bytes += containers[i].serializedSizeInBytes();
+    }
+    return bytes;
+  }
+
+  // Writes at the buffer's position and advances it
+  public void serialize(ByteBuffer buffer) {
+    ByteBuffer out = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    out.putInt(COOKIE);
+    out.putInt(size);
+    for (int i = 0; i < size; i++) {
+      out.putChar(keys[i]);
+      out.put(containers[i].type());
+      out.putInt(containers[i].header());
+    }
+    for (int i = 0; i < size; i++) {
+      containers[i].writePayload(out);
+    }
+    buffer.position(buffer.position() + out.position());
+  }
+
+  // Reads from the buffer's position and advances it
+  public static RoaringBitmap deserialize(ByteBuffer buffer) {
+    ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    if (in.getInt() != COOKIE) {
+      throw new IllegalArgumentException("Not a serialized RoaringBitmap");
+    }
+    int count = in.getInt();
+    char[] keys = new char[Math.max(count, 1)];
+    byte[] types = new byte[count];
+    int[] headers = new int[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = in.getChar();
+      types[i] = in.get();
+      headers[i] = in.getInt();
+    }
+    Container[] containers = new Container[Math.max(count, 1)];
+    for (int i = 0; i < count; i++) {
+      containers[i] = Container.read(types[i], headers[i], in);
+    }
+    buffer.position(buffer.position() + in.position());
+    return new RoaringBitmap(keys, containers, count);
+  }
+
+  public void save(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, serializedSizeInBytes());
+      serialize(mapped);
+      mapped.force();
+    }
+  }
+
+  // Maps the file read-only and bulk-copies each container payload out of the mapping
+  public static RoaringBitmap load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return deserialize(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RoaringBitmap other) || other.cardinality() != cardinality()) {
+      return false;
+    }
+    PrimitiveIterator.OfInt mine = intIterator();
+    PrimitiveIterator.OfInt theirs = other.intIterator();
+    while (mine.hasNext()) {
+      if (mine.nextInt() != theirs.nextInt()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int[] hash = {0};
+    forEachInt(value -> hash[0] += value); // same as Set<Integer>.hashCode()
+    return hash[0];
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    forEachInt(value -> builder.append(builder.length() > 1 ? ", " : "").append(value));
+    return builder.append(']').toString();
+  }
+
+  private RoaringBitmap copyOfRange(int from, int to) {
+    RoaringBitmap result = new RoaringBitmap();
+    for (int i = from; i < to; i++) {
+      result.append(keys[i], containers[i].copy());
+    }
+    return result;
+  }
+
+  private void appendRemaining(RoaringBitmap source, int from) {
+    for (int i = from; i < source.size; i++) {
+      append(source.keys[i], source.containers[i].copy());
+    }
+  }
+
+  private void appendIfNotEmpty(char key, Container container) {
+    if (container.cardinality() > 0) {
+      append(key, container);
+    }
+  }
+
+  private void append(char key, Container container) {
+    insertAt(size, key, container);
+  }
+
+  private void insertAt(int index, char key, Container container) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, keys.length * 2);
+      containers = Arrays.copyOf(containers, containers.length * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  private void removeAt(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    containers[--size] = null;
+  }
+}
@@ -0,0 +1,54 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+public class RoaringBitmapExample {
+  public static void main(String[] args) throws IOException {
+    RoaringBitmap shards = RoaringBitmap.of(3, 1, 4, 1, 5, 9, 2, 6, -7);
+    System.out.println("Bitmap (sorted, signed order like TreeSet): " + shards);
+    System.out.println("First: " + shards.first() + ", Last: " + shards.last());
+    System.out.println("Ceiling(7): " + shards.ceiling(7) + ", Floor(7): " + shards.floor(7));
+    System.out.println("HeadSet(4): " + shards.headSet(4) + ", TailSet(4): " + shards.tailSet(4));
+
+    // Dense ID ranges compress to a handful of runs
+    RoaringBitmap active = new RoaringBitmap();
+    active.addRange(0, 1_000_000);
+    RoaringBitmap banned = new RoaringBitmap();
+    for (int id = 0; id < 1_000_000; id += 7) {
+      banned.add(id);
+    }
+    RoaringBitmap allowed = RoaringBitmap.andNot(active, banned);
+    System.out.println("Active: " + active.cardinality() + ", banned: " + banned.cardinality()
+        + ", allowed: " + allowed.cardinality());
+    System.out.println("and: " + RoaringBitmap.and(active, banned).cardinality()
+        + ", or: " + RoaringBitmap.or(allowed, banned).cardinality()
+        + ", xor: " + RoaringBitmap.xor(active, banned).cardinality());
+
+    // Serialized size vs a HashSet<Integer> holding the same IDs
+    allowed.runOptimize();
+    System.out.println("Allowed IDs serialized: " + allowed.serializedSizeInBytes() + " bytes");
+    System.out.println("Active IDs serialized:  " + active.serializedSizeInBytes() + " bytes");
+
+    Path file = Files.createTempFile("allowed", ".roaring");
+    allowed.save(file);
+    RoaringBitmap loaded = RoaringBitmap.load(file);
+    System.out.println("Loaded from memory-mapped file equals original: " + loaded.equals(allowed));
+    Files.delete(file);
+
+    // Set algebra speed vs HashSet.retainAll
+    Set<Integer> activeSet = new HashSet<>();
+    Set<Integer> bannedSet = new HashSet<>();
+    active.forEachInt(activeSet::add);
+    banned.forEachInt(bannedSet::add);
+    long start = System.nanoTime();
+    activeSet.retainAll(bannedSet);
+    System.out.println("HashSet intersection:       " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    start = System.nanoTime();
+    RoaringBitmap.and(active, banned);
+    System.out.println("RoaringBitmap intersection: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+  }
+}
@@ -0,0 +1,217 @@
+package com.interviewprep.java_collections_framework.set.roaring;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Run-length encoded values: {@code runs} holds (start, length - 1) pairs in ascending order.
+ * Produced by {@link RoaringBitmap#runOptimize()} and {@link RoaringBitmap#addRange(int, int)}.
+ * Point mutations convert the container back to an array or bitmap; call {@code runOptimize()}
+ * again after bulk changes.
+ */
+final class RunContainer extends Container {
+  char[] runs;
+  int runCount;
+
+  RunContainer(char[] runs, int runCount) {
+    this.runs = runs;
+    this.runCount = runCount;
+  }
+
+  static RunContainer range(int firstInclusive, int lastInclusive) {
+    return new RunContainer(new char[] {(char) firstInclusive, (char) (lastInclusive - firstInclusive)}, 1);
+  }
+
+  static int sizeInBytes(int runCount) {
+    return 4 * runCount;
+  }
+
+  // Appends a value greater than every value already present
+  void append(char value) {
+    if (runCount > 0 && start(runCount - 1) + length(runCount - 1) + 1 == value) {
+      runs[2 * runCount - 1]++;
+      return;
+    }
+    if (2 * runCount == runs.length) {
+      runs = Arrays.copyOf(runs, Math.max(4, runs.length * 2));
+    }
+    runs[2 * runCount] = value;
+    runs[2 * runCount + 1] = 0;
+    runCount++;
+  }
+
+  private int start(int run) {
+    return runs[2 * run];
+  }
+
+  private int length(int run) {
+    return runs[2 * run + 1];
+  }
+
+  // Index of the last run starting at or before value, or -1
+  private int runAtOrBefore(int value) {
+    int low = 0;
+    int high = runCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (start(mid) <= value) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high;
+  }
+
+  @Override
+  Container add(char value) {
+    return contains(value) ? this : toArrayOrBitmap().add(value);
+  }
+
+  @Override
+  Container remove(char value) {
+    return contains(value) ? toArrayOrBitmap().remove(value) : this;
+  }
+
+  @Override
+  boolean contains(char value) {
+    int run = runAtOrBefore(value);
+    return run >= 0 && value <= start(run) + length(run);
+  }
+
+  @Override
+  int cardinality() {
+    int cardinality = 0;
+    for (int i = 0; i < runCount; i++) {
+      cardinality += length(i) + 1;
+    }
+    return cardinality;
+  }
+
+  @Override
+  int first() {
+    return start(0);
+  }
+
+  @Override
+  int last() {
+    return start(runCount - 1) + length(runCount - 1);
+  }
+
+  @Override
+  int ceiling(char value) {
+    int run = runAtOrBefore(value);
+    if (run >= 0 && value <= start(run) + length(run)) {
+      return value;
+    }
+    return run + 1 < runCount ? start(run + 1) : -1;
+  }
+
+  @Override
+  int floor(char value) {
+    int run = runAtOrBefore(value);
+    if (run < 0) {
+      return -1;
+    }
+    return Math.min(value, start(run) + length(run));
+  }
+
+  @Override
+  PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int run;
+      private int offset;
+
+      @Override
+      public boolean hasNext() {
+        return run < runCount;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int value = start(run) + offset;
+        if (offset++ == length(run)) {
+          run++;
+          offset = 0;
+        }
+        return value;
+      }
+    };
+  }
+
+  @Override
+  RunContainer copy() {
+    return new RunContainer(Arrays.copyOf(runs, Math.max(2 * runCount, 2)), runCount);
+  }
+
+  @Override
+  Container runOptimize() {
+    return this;
+  }
+
+  Container toArrayOrBitmap() {
+    int cardinality = cardinality();
+    if (cardinality <= ArrayContainer.MAX_SIZE) {
+      char[] content = new char[Math.max(cardinality, 1)];
+      int size = 0;
+      for (int i = 0; i < runCount; i++) {
+        for (int value = start(i), end = start(i) + length(i); value <= end; value++) {
+          content[size++] = (char) value;
+        }
+      }
+      return new ArrayContainer(content, size);
+    }
+    BitmapContainer bitmap = new BitmapContainer();
+    for (int i = 0; i < runCount; i++) {
+      int from = start(i);
+      int to = from + length(i) + 1; // exclusive
+      int firstWord = from >>> 6;
+      int lastWord = (to - 1) >>> 6;
+      for (int w = firstWord; w <= lastWord; w++) {
+        long mask = -1L;
+        if (w == firstWord) {
+          mask &= -1L << from;
+        }
+        if (w == lastWord && (to & 63) != 0) {
+          mask &= -1L >>> (64 - (to & 63));
+        }
+        bitmap.words[w] |= mask;
+      }
+    }
+    bitmap.cardinality = cardinality;
+    return bitmap;
+  }
+
+  @Override
+  byte type() {
+    return RUN;
+  }
+
+  @Override
+  int header() {
+    return runCount;
+  }
+
+  @Override
+  int serializedSizeInBytes() {
+    return sizeInBytes(runCount);
+  }
+
+  @Override
+  void writePayload(ByteBuffer buffer) {
+    buffer.asCharBuffer().put(runs, 0, 2 * runCount);
+    buffer.position(buffer.position() + 4 * runCount);
+  }
+
+  static RunContainer read(int runCount, ByteBuffer buffer) {
+    char[] runs = new char[Math.max(2 * runCount, 2)];
+    buffer.asCharBuffer().get(runs, 0, 2 * runCount);
+    buffer.position(buffer.position() + 4 * runCount);
+    return new RunContainer(runs, runCount);
+  }
+}
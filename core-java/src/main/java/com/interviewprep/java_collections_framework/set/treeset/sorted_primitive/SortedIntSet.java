@@ -0,0 +1,209 @@
+package com.interviewprep.java_collections_framework.set.treeset.sorted_primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable sorted set of {@code int}s for build-once, query-often lookup tables. Instead of one
+ * red-black node per element as in {@link java.util.TreeSet}, the values are stored twice in flat
+ * arrays: once in sorted order (for iteration and merges) and once in Eytzinger (BFS) order, where
+ * the children of slot {@code k} are {@code 2k} and {@code 2k + 1}. Searching the Eytzinger array
+ * touches memory in a predictable top-down pattern, the first levels stay hot in cache, and each
+ * step is a compare-and-shift with no unpredictable branch.
+ */
+public final class SortedIntSet {
+  private static final SortedIntSet EMPTY = new SortedIntSet(new int[0]);
+
+  private final int[] sorted;
+  private final int[] eytzinger; // 1-based, slot 0 unused
+
+  private SortedIntSet(int[] sorted) {
+    this.sorted = sorted;
+    this.eytzinger = new int[sorted.length + 1];
+    fill(1, 0);
+  }
+
+  // Builds the set in bulk; duplicates are dropped
+  public static SortedIntSet of(IntStream values) {
+    return ofUnsorted(values.toArray());
+  }
+
+  public static SortedIntSet of(int... values) {
+    return ofUnsorted(values.clone());
+  }
+
+  private static SortedIntSet ofUnsorted(int[] values) {
+    Arrays.sort(values);
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (size == 0 || values[size - 1] != values[i]) {
+        values[size++] = values[i];
+      }
+    }
+    return size == 0 ? EMPTY : new SortedIntSet(Arrays.copyOf(values, size));
+  }
+
+  // In-order walk of the implicit tree assigns sorted values to BFS slots
+  private int fill(int slot, int next) {
+    if (slot < eytzinger.length) {
+      next = fill(2 * slot, next);
+      eytzinger[slot] = sorted[next++];
+      next = fill(2 * slot + 1, next);
+    }
+    return next;
+  }
+
+  public int size() {
+    return sorted.length;
+  }
+
+  public boolean isEmpty() {
+    return sorted.length == 0;
+  }
+
+  public boolean contains(int value) {
+    int slot = ceilingSlot(value);
+    return slot != 0 && eytzinger[slot] == value;
+  }
+
+  public OptionalInt ceiling(int value) {
+    int slot = ceilingSlot(value);
+    return slot == 0 ? OptionalInt.empty() : OptionalInt.of(eytzinger[slot]);
+  }
+
+  public OptionalInt floor(int value) {
+    int slot = floorSlot(value);
+    return slot == 0 ? OptionalInt.empty() : OptionalInt.of(eytzinger[slot]);
+  }
+
+  // Allocation-free variants for hot loops
+  public int ceilingOrElse(int value, int absent) {
+    int slot = ceilingSlot(value);
+    return slot == 0 ? absent : eytzinger[slot];
+  }
+
+  public int floorOrElse(int value, int absent) {
+    int slot = floorSlot(value);
+    return slot == 0 ? absent : eytzinger[slot];
+  }
+
+  public int first() {
+    if (sorted.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return sorted[0];
+  }
+
+  public int last() {
+    if (sorted.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return sorted[sorted.length - 1];
+  }
+
+  // Slot of the smallest value >= the argument, or 0
+  private int ceilingSlot(int value) {
+    int slot = 1;
+    int n = sorted.length;
+    while (slot <= n) {
+      slot = 2 * slot + (eytzinger[slot] < value ? 1 : 0);
+    }
+    // Undo the trailing right turns plus the last left turn: that node is the answer
+    return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+  }
+
+  // Slot of the largest value <= the argument, or 0
+  private int floorSlot(int value) {
+    int slot = 1;
+    int n = sorted.length;
+    while (slot <= n) {
+      slot = 2 * slot + (eytzinger[slot] <= value ? 1 : 0);
+    }
+    // Undo the trailing left turns plus the last right turn: that node is the answer
+    return slot >>> (Integer.numberOfTrailingZeros(slot) + 1);
+  }
+
+  public SortedIntSet intersect(SortedIntSet other) {
+    SortedIntSet small = size() <= other.size() ? this : other;
+    SortedIntSet large = small == this ? other : this;
+    int[] result = new int[small.size()];
+    int count = 0;
+    if ((long) small.size() * 32 < large.size()) {
+      // Very different sizes: probe the large set instead of walking it
+      for (int value : small.sorted) {
+        if (large.contains(value)) {
+          result[count++] = value;
+        }
+      }
+    } else {
+      int[] a = small.sorted;
+      int[] b = large.sorted;
+      int i = 0;
+      int j = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+          i++;
+        } else if (a[i] > b[j]) {
+          j++;
+        } else {
+          result[count++] = a[i];
+          i++;
+          j++;
+        }
+      }
+    }
+    return count == 0 ? EMPTY : new SortedIntSet(Arrays.copyOf(result, count));
+  }
+
+  public SortedIntSet union(SortedIntSet other) {
+    int[] a = sorted;
+    int[] b = other.sorted;
+    int[] result = new int[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] < b[j]) {
+        result[count++] = a[i++];
+      } else if (a[i] > b[j]) {
+        result[count++] = b[j++];
+      } else {
+        result[count++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    while (i < a.length) {
+      result[count++] = a[i++];
+    }
+    while (j < b.length) {
+      result[count++] = b[j++];
+    }
+    return count == 0 ? EMPTY : new SortedIntSet(Arrays.copyOf(result, count));
+  }
+
+  public IntStream stream() {
+    return Arrays.stream(sorted);
+  }
+
+  public int[] toArray() {
+    return sorted.clone();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || o instanceof SortedIntSet other && Arrays.equals(sorted, other.sorted);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(sorted);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(sorted);
+  }
+}
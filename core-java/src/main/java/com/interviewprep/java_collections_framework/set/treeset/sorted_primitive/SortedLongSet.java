@@ -0,0 +1,209 @@
+package com.interviewprep.java_collections_framework.set.treeset.sorted_primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable sorted set of {@code long}s for build-once, query-often lookup tables. Instead of one
+ * red-black node per element as in {@link java.util.TreeSet}, the values are stored twice in flat
+ * arrays: once in sorted order (for iteration and merges) and once in Eytzinger (BFS) order, where
+ * the children of slot {@code k} are {@code 2k} and {@code 2k + 1}. Searching the Eytzinger array
+ * touches memory in a predictable top-down pattern, the first levels stay hot in cache, and each
+ * step is a compare-and-shift with no unpredictable branch.
+ */
+public final class SortedLongSet {
+  private static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+  private final long[] sorted;
+  private final long[] eytzinger; // 1-based, slot 0 unused
+
+  private SortedLongSet(long[] sorted) {
+    this.sorted = sorted;
+    this.eytzinger = new long[sorted.length + 1];
+    fill(1, 0);
+  }
+
+  // Builds the set in bulk; duplicates are dropped
+  public static SortedLongSet of(LongStream values) {
+    return ofUnsorted(values.toArray());
+  }
+
+  public static SortedLongSet of(long... values) {
+    return ofUnsorted(values.clone());
+  }
+
+  private static SortedLongSet ofUnsorted(long[] values) {
+    Arrays.sort(values);
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (size == 0 || values[size - 1] != values[i]) {
+        values[size++] = values[i];
+      }
+    }
+    return size == 0 ? EMPTY : new SortedLongSet(Arrays.copyOf(values, size));
+  }
+
+  // In-order walk of the implicit tree assigns sorted values to BFS slots
+  private int fill(int slot, int next) {
+    if (slot < eytzinger.length) {
+      next = fill(2 * slot, next);
+      eytzinger[slot] = sorted[next++];
+      next = fill(2 * slot + 1, next);
+    }
+    return next;
+  }
+
+  public int size() {
+    return sorted.length;
+  }
+
+  public boolean isEmpty() {
+    return sorted.length == 0;
+  }
+
+  public boolean contains(long value) {
+    int slot = ceilingSlot(value);
+    return slot != 0 && eytzinger[slot] == value;
+  }
+
+  public OptionalLong ceiling(long value) {
+    int slot = ceilingSlot(value);
+    return slot == 0 ? OptionalLong.empty() : OptionalLong.of(eytzinger[slot]);
+  }
+
+  public OptionalLong floor(long value) {
+    int slot = floorSlot(value);
+    return slot == 0 ? OptionalLong.empty() : OptionalLong.of(eytzinger[slot]);
+  }
+
+  // Allocation-free variants for hot loops
+  public long ceilingOrElse(long value, long absent) {
+    int slot = ceilingSlot(value);
+    return slot == 0 ? absent : eytzinger[slot];
+  }
+
+  public long floorOrElse(long value, long absent) {
+    int slot = floorSlot(value);
+    return slot == 0 ? absent : eytzinger[slot];
+  }
+
+  public long first() {
+    if (sorted.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return sorted[0];
+  }
+
+  public long last() {
+    if (sorted.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return sorted[sorted.length - 1];
+  }
+
+  // Slot of the smallest value >= the argument, or 0
+  private int ceilingSlot(long value) {
+    int slot = 1;
+    int n = sorted.length;
+    while (slot <= n) {
+      slot = 2 * slot + (eytzinger[slot] < value ? 1 : 0);
+    }
+    // Undo the trailing right turns plus the last left turn: that node is the answer
+    return slot >>> (Integer.numberOfTrailingZeros(~slot) + 1);
+  }
+
+  // Slot of the largest value <= the argument, or 0
+  private int floorSlot(long value) {
+    int slot = 1;
+    int n = sorted.length;
+    while (slot <= n) {
+      slot = 2 * slot + (eytzinger[slot] <= value ? 1 : 0);
+    }
+    // Undo the trailing left turns plus the last right turn: that node is the answer
+    return slot >>> (Integer.numberOfTrailingZeros(slot) + 1);
+  }
+
+  public SortedLongSet intersect(SortedLongSet other) {
+    SortedLongSet small = size() <= other.size() ? this : other;
+    SortedLongSet large = small == this ? other : this;
+    long[] result = new long[small.size()];
+    int count = 0;
+    if ((long) small.size() * 32 < large.size()) {
+      // Very different sizes: probe the large set instead of walking it
+      for (long value : small.sorted) {
+        if (large.contains(value)) {
+          result[count++] = value;
+        }
+      }
+    } else {
+      long[] a = small.sorted;
+      long[] b = large.sorted;
+      int i = 0;
+      int j = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+          i++;
+        } else if (a[i] > b[j]) {
+          j++;
+        } else {
+          result[count++] = a[i];
+          i++;
+          j++;
+        }
+      }
+    }
+    return count == 0 ? EMPTY : new SortedLongSet(Arrays.copyOf(result, count));
+  }
+
+  public SortedLongSet union(SortedLongSet other) {
+    long[] a = sorted;
+    long[] b = other.sorted;
+    long[] result = new long[a.length + b.length];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] < b[j]) {
+        result[count++] = a[i++];
+      } else if (a[i] > b[j]) {
+        result[count++] = b[j++];
+      } else {
+        result[count++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    while (i < a.length) {
+      result[count++] = a[i++];
+    }
+    while (j < b.length) {
+      result[count++] = b[j++];
+    }
+    return count == 0 ? EMPTY : new SortedLongSet(Arrays.copyOf(result, count));
+  }
+
+  public LongStream stream() {
+    return Arrays.stream(sorted);
+  }
+
+  public long[] toArray() {
+    return sorted.clone();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || o instanceof SortedLongSet other && Arrays.equals(sorted, other.sorted);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(sorted);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(sorted);
+  }
+}
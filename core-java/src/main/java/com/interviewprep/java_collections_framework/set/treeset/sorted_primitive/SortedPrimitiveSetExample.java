@@ -0,0 +1,51 @@
+package com.interviewprep.java_collections_framework.set.treeset.sorted_primitive;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+public class SortedPrimitiveSetExample {
+  public static void main(String[] args) {
+    SortedIntSet set = SortedIntSet.of(30, 10, 20, 10, 50);
+    System.out.println("SortedIntSet (sorted, no duplicates): " + set);
+    System.out.println("Contains 20: " + set.contains(20) + ", contains 25: " + set.contains(25));
+    System.out.println("Ceiling(25): " + set.ceiling(25) + ", Floor(25): " + set.floor(25));
+    System.out.println("First: " + set.first() + ", Last: " + set.last());
+
+    SortedIntSet evens = SortedIntSet.of(IntStream.range(0, 20).filter(i -> i % 2 == 0));
+    SortedIntSet threes = SortedIntSet.of(IntStream.range(0, 20).filter(i -> i % 3 == 0));
+    System.out.println("Intersection: " + evens.intersect(threes) + ", Union: " + evens.union(threes));
+
+    // Lookup table built once, queried many times
+    int size = 1_000_000;
+    int queries = 2_000_000;
+    Random random = new Random(42);
+    int[] values = random.ints(size, 0, Integer.MAX_VALUE).toArray();
+    int[] probes = random.ints(queries, 0, Integer.MAX_VALUE).toArray();
+
+    TreeSet<Integer> tree = new TreeSet<>();
+    for (int value : values) {
+      tree.add(value);
+    }
+    SortedIntSet table = SortedIntSet.of(values);
+
+    for (int round = 0; round < 3; round++) {
+      long start = System.nanoTime();
+      long checksum = 0;
+      for (int probe : probes) {
+        Integer ceiling = tree.ceiling(probe);
+        checksum += ceiling == null ? 0 : ceiling;
+      }
+      long treeNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      long checksum2 = 0;
+      for (int probe : probes) {
+        checksum2 += table.ceilingOrElse(probe, 0);
+      }
+      long tableNanos = System.nanoTime() - start;
+      System.out.printf("Round %d: TreeSet.ceiling %d ms, SortedIntSet.ceiling %d ms (%.1fx), same results: %b%n",
+          round, treeNanos / 1_000_000, tableNanos / 1_000_000, (double) treeNanos / tableNanos, checksum == checksum2);
+    }
+  }
+}